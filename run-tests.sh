@@ -1,6 +1,13 @@
 #!/bin/bash
 
 # Script para ejecutar las pruebas de Serenity BDD con Saucedemo
+# Uso: ./run-tests.sh [--incremental]
+#   --incremental  conserva target/ y actualiza el reporte incremental en lugar de reconstruir el de Serenity
+
+INCREMENTAL=false
+if [ "$1" = "--incremental" ]; then
+    INCREMENTAL=true
+fi
 
 echo "========================================"
 echo "Ejecutando pruebas de Serenity BDD"
@@ -8,8 +15,13 @@ echo "========================================"
 echo ""
 
 # Limpiar y compilar
-echo "1. Limpiando y compilando el proyecto..."
-mvn clean compile -DskipTests
+if [ "$INCREMENTAL" = true ]; then
+    echo "1. Compilando el proyecto..."
+    mvn compile -DskipTests
+else
+    echo "1. Limpiando y compilando el proyecto..."
+    mvn clean compile -DskipTests
+fi
 
 # Ejecutar las pruebas
 echo ""
@@ -18,8 +30,13 @@ mvn test
 
 # Generar reportes de Serenity
 echo ""
-echo "3. Generando reportes de Serenity BDD..."
-mvn serenity:aggregate
+if [ "$INCREMENTAL" = true ]; then
+    echo "3. Actualizando el reporte incremental..."
+    mvn -Pincremental-report exec:java@incremental-report
+else
+    echo "3. Generando reportes de Serenity BDD..."
+    mvn serenity:aggregate
+fi
 
 # Mostrar resultado
 echo ""
@@ -29,5 +46,8 @@ echo "========================================"
 echo ""
 echo "Reportes disponibles en:"
 echo "- target/site/serenity/index.html (Serenity Report)"
-echo "- target/cucumber-reports/index.html (Cucumber Report)"
+echo "- target/cucumber-reports/cucumber.json, cucumber.xml, timings.ndjson (Cucumber)"
+if [ "$INCREMENTAL" = true ]; then
+    echo "- target/site/serenity/incremental/index.html (Reporte incremental)"
+fi
 echo ""
@@ -0,0 +1,95 @@
+package automationtest.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.automationtest.standin.SaucedemoStandIn;
+import com.automationtest.ui.CheckoutPage;
+
+/**
+ * Navegador sobre el que corren los benchmarks, posicionado en el formulario de checkout
+ *   fake    FakeBrowser en memoria (por defecto): mide solo el costo del framework
+ *   chrome  Chrome headless contra el stand-in local: mide el costo con round trips reales
+ */
+class BrowserFixture {
+
+    static final By CLICK_TARGET = CheckoutPage.LAST_NAME_INPUT;
+    static final By INPUT_TARGET = CheckoutPage.FIRST_NAME_INPUT;
+
+    private final WebDriver driver;
+    private final FakeBrowser fakeBrowser;
+    private final SaucedemoStandIn standIn;
+    private final WebDriver realDriver;
+    private final AtomicLong realCommands = new AtomicLong();
+
+    private BrowserFixture(FakeBrowser fakeBrowser) {
+        this.fakeBrowser = fakeBrowser;
+        this.driver = fakeBrowser.driver();
+        this.standIn = null;
+        this.realDriver = null;
+    }
+
+    private BrowserFixture(SaucedemoStandIn standIn, WebDriver realDriver) {
+        this.fakeBrowser = null;
+        this.standIn = standIn;
+        this.realDriver = realDriver;
+        this.driver = new EventFiringDecorator<>(new WebDriverListener() {
+            @Override
+            public void beforeAnyCall(Object target, Method method, Object[] args) {
+                realCommands.incrementAndGet();
+            }
+        }).decorate(realDriver);
+    }
+
+    /**
+     * @param browser "fake" o "chrome"
+     * @param commandLatencyMicros Latencia simulada por comando (solo para "fake")
+     */
+    static BrowserFixture open(String browser, long commandLatencyMicros) {
+        if ("chrome".equals(browser)) {
+            return openChrome();
+        }
+        return new BrowserFixture(new FakeBrowser(commandLatencyMicros, 1366, 768)
+            .withElement(CLICK_TARGET, "input")
+            .withElement(INPUT_TARGET, "input"));
+    }
+
+    private static BrowserFixture openChrome() {
+        SaucedemoStandIn standIn = new SaucedemoStandIn(0, 0);
+        standIn.start();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1366,768", "--disable-gpu");
+        WebDriver chrome = new ChromeDriver(options);
+        chrome.navigate().to(standIn.getBaseUrl() + "/favicon.ico");
+        chrome.manage().addCookie(new Cookie(SaucedemoStandIn.SESSION_COOKIE, "standard_user", "/"));
+        chrome.navigate().to(standIn.getBaseUrl() + "/checkout-step-one.html");
+        return new BrowserFixture(standIn, chrome);
+    }
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    /**
+     * Comandos WebDriver enviados desde la última llamada
+     */
+    long takeCommandCount() {
+        return fakeBrowser != null ? fakeBrowser.takeCommandCount() : realCommands.getAndSet(0);
+    }
+
+    void close() {
+        if (realDriver != null) {
+            realDriver.quit();
+        }
+        if (standIn != null) {
+            standIn.stop();
+        }
+    }
+}
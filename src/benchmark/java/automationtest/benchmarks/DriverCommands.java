@@ -0,0 +1,23 @@
+package automationtest.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Contador auxiliar de JMH: comandos WebDriver enviados por operación
+ * Aparece en los resultados junto al tiempo de cada benchmark (columna "commands")
+ */
+@AuxCounters(AuxCounters.Type.EVENTS)
+@State(Scope.Thread)
+public class DriverCommands {
+
+    public long commands;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        commands = 0;
+    }
+}
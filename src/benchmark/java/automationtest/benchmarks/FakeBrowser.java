@@ -0,0 +1,272 @@
+package automationtest.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.imageio.ImageIO;
+
+/**
+ * Navegador falso en memoria para los benchmarks
+ * WebDriver, las interfaces anidadas (manage(), navigate(), ...) y los elementos son proxies dinámicos:
+ * cada comando cuenta como un round trip y puede simular una latencia fija, sin abrir un navegador real.
+ * Así el benchmark mide solo el costo propio de Serenity / Screenplay frente a las llamadas directas.
+ */
+class FakeBrowser {
+
+    private final Map<String, FakeElement> elements = new HashMap<>();
+    private final AtomicLong commands = new AtomicLong();
+    private final long commandLatencyNanos;
+    private final byte[] screenshotPng;
+    private final WebDriver driver;
+
+    /**
+     * @param commandLatencyMicros Latencia simulada de cada comando WebDriver (0 = sin latencia)
+     * @param screenshotWidth Ancho de la captura simulada
+     * @param screenshotHeight Alto de la captura simulada
+     */
+    FakeBrowser(long commandLatencyMicros, int screenshotWidth, int screenshotHeight) {
+        this.commandLatencyNanos = commandLatencyMicros * 1000;
+        this.screenshotPng = renderScreenshot(screenshotWidth, screenshotHeight);
+        this.driver = (WebDriver) Proxy.newProxyInstance(FakeBrowser.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class}, new DriverHandler());
+    }
+
+    /**
+     * Agrega un elemento a la página falsa
+     * @param locator El selector con el que se encuentra
+     * @param tagName El tag HTML (button, input, ...)
+     */
+    FakeBrowser withElement(By locator, String tagName) {
+        elements.put(locator.toString(), new FakeElement(tagName));
+        return this;
+    }
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    /**
+     * Comandos WebDriver recibidos desde la última llamada
+     */
+    long takeCommandCount() {
+        return commands.getAndSet(0);
+    }
+
+    byte[] screenshotPng() {
+        return screenshotPng;
+    }
+
+    private void roundTrip() {
+        commands.incrementAndGet();
+        if (commandLatencyNanos > 0) {
+            LockSupport.parkNanos(commandLatencyNanos);
+        }
+    }
+
+    private FakeElement lookup(Object locator) {
+        FakeElement element = elements.get(String.valueOf(locator));
+        if (element == null) {
+            throw new NoSuchElementException("No fake element for " + locator);
+        }
+        return element;
+    }
+
+    /**
+     * Respuesta por defecto: las interfaces devuelven otro proxy "no-op", los primitivos su valor neutro
+     */
+    private Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == int.class || type == long.class || type == short.class || type == byte.class) {
+            return type == long.class ? (Object) 0L : (Object) 0;
+        }
+        if (type == double.class || type == float.class) {
+            return type == double.class ? (Object) 0.0 : (Object) 0.0f;
+        }
+        if (type == String.class) {
+            return "";
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return Collections.emptyList();
+        }
+        if (type.isInterface()) {
+            return Proxy.newProxyInstance(FakeBrowser.class.getClassLoader(), new Class<?>[] {type}, new NoOpHandler());
+        }
+        return null;
+    }
+
+    private class DriverHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, method, args);
+            }
+            roundTrip();
+            switch (method.getName()) {
+                case "findElement":
+                    return lookup(args[0]).proxy;
+                case "findElements":
+                    FakeElement element = elements.get(String.valueOf(args[0]));
+                    return element == null ? Collections.emptyList() : Collections.singletonList(element.proxy);
+                case "getCurrentUrl":
+                    return "http://fake.local/checkout-step-one.html";
+                case "getTitle":
+                    return "Swag Labs";
+                case "getWindowHandle":
+                    return "fake-window";
+                case "getWindowHandles":
+                    return Collections.singleton("fake-window");
+                case "getScreenshotAs":
+                    return screenshotAs((OutputType<?>) args[0]);
+                case "executeScript":
+                case "executeAsyncScript":
+                    return null;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+
+        private <X> X screenshotAs(OutputType<X> outputType) {
+            if (outputType == OutputType.BYTES) {
+                return outputType.convertFromPngBytes(screenshotPng);
+            }
+            return outputType.convertFromBase64Png(Base64.getEncoder().encodeToString(screenshotPng));
+        }
+    }
+
+    private class NoOpHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, method, args);
+            }
+            roundTrip();
+            return method.getReturnType().isInstance(proxy) ? proxy : defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Elemento falso: registra clics y texto ingresado; siempre visible y habilitado
+     */
+    private class FakeElement implements InvocationHandler {
+
+        private final String tagName;
+        private final WebElement proxy;
+        private final StringBuilder value = new StringBuilder();
+        private long clicks;
+
+        FakeElement(String tagName) {
+            this.tagName = tagName;
+            this.proxy = (WebElement) Proxy.newProxyInstance(FakeBrowser.class.getClassLoader(),
+                new Class<?>[] {WebElement.class, TakesScreenshot.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxyInstance, method, args);
+            }
+            roundTrip();
+            switch (method.getName()) {
+                case "click":
+                    clicks++;
+                    return null;
+                case "sendKeys":
+                    for (CharSequence keys : (CharSequence[]) args[0]) {
+                        value.append(keys);
+                    }
+                    return null;
+                case "clear":
+                    value.setLength(0);
+                    return null;
+                case "getTagName":
+                    return tagName;
+                case "getText":
+                    return "button".equals(tagName) ? "Click " + clicks : "";
+                case "getAttribute":
+                case "getDomAttribute":
+                case "getDomProperty":
+                    return "value".equals(args[0]) ? value.toString() : null;
+                case "isDisplayed":
+                case "isEnabled":
+                    return Boolean.TRUE;
+                case "getLocation":
+                    return new Point(10, 10);
+                case "getSize":
+                    return new Dimension(120, 32);
+                case "getRect":
+                    return new Rectangle(10, 10, 32, 120);
+                case "findElement":
+                    return lookup(args[0]).proxy;
+                case "getScreenshotAs":
+                    return ((OutputType<?>) args[0]).convertFromPngBytes(screenshotPng);
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+    }
+
+    private static Object objectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "FakeBrowser@" + Integer.toHexString(System.identityHashCode(proxy));
+        }
+    }
+
+    /**
+     * PNG con contenido variado (no una imagen plana) para que compresión y escritura tengan un costo realista
+     */
+    private static byte[] renderScreenshot(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            for (int y = 0; y < height; y += 24) {
+                for (int x = 0; x < width; x += 120) {
+                    graphics.setColor(new Color((x * 7 + y * 3) & 0xffffff));
+                    graphics.fillRect(x, y, 118, 22);
+                    graphics.setColor(Color.WHITE);
+                    graphics.drawString("Sauce Labs " + x + "," + y, x + 4, y + 16);
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
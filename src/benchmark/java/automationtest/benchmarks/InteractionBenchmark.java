@@ -0,0 +1,83 @@
+package automationtest.benchmarks;
+
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
+import net.serenitybdd.screenplay.actions.Click;
+import net.serenitybdd.screenplay.actions.Enter;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de las acciones de Screenplay frente a las llamadas directas de Selenium
+ *   screenplayClick  actor.attemptsTo(Click.on(By))      vs  rawClick     WebElement.click()
+ *   screenplayEnter  actor.attemptsTo(Enter.theValue())  vs  rawSendKeys  clear() + sendKeys()
+ * La diferencia de tiempo y de comandos por operación indica qué caminos de las Tasks conviene
+ * resolver con llamadas directas al driver.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InteractionBenchmark {
+
+    private static final String VALUE = "John";
+
+    @Param({"fake"})
+    public String browser;
+
+    @Param({"0"})
+    public long commandLatencyMicros;
+
+    private BrowserFixture fixture;
+    private Actor actor;
+    private WebElement clickTarget;
+    private WebElement inputTarget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BrowserFixture.open(browser, commandLatencyMicros);
+        actor = Actor.named("benchmark").whoCan(BrowseTheWeb.with(fixture.driver()));
+        clickTarget = fixture.driver().findElement(BrowserFixture.CLICK_TARGET);
+        inputTarget = fixture.driver().findElement(BrowserFixture.INPUT_TARGET);
+        fixture.takeCommandCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void rawClick(DriverCommands counters) {
+        clickTarget.click();
+        counters.commands += fixture.takeCommandCount();
+    }
+
+    @Benchmark
+    public void screenplayClick(DriverCommands counters) {
+        actor.attemptsTo(Click.on(BrowserFixture.CLICK_TARGET));
+        counters.commands += fixture.takeCommandCount();
+    }
+
+    @Benchmark
+    public void rawSendKeys(DriverCommands counters) {
+        inputTarget.clear();
+        inputTarget.sendKeys(VALUE);
+        counters.commands += fixture.takeCommandCount();
+    }
+
+    @Benchmark
+    public void screenplayEnter(DriverCommands counters) {
+        actor.attemptsTo(Enter.theValue(VALUE).into(BrowserFixture.INPUT_TARGET));
+        counters.commands += fixture.takeCommandCount();
+    }
+}
@@ -0,0 +1,102 @@
+package automationtest.benchmarks;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+/**
+ * Costo por acción de las capturas con serenity.take.screenshots = FOR_EACH_ACTION
+ *   clickOnly             la acción sin captura
+ *   clickWithScreenshot   la acción más lo que Serenity hace por cada acción: captura PNG,
+ *                         conversión a JPEG (serenity.compress.filetype = jpg) y escritura en disco
+ *   captureOnly           solo el comando de captura del driver
+ *   storeOnly             solo la conversión y escritura de una captura ya tomada
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScreenshotBenchmark {
+
+    private static final int ROTATING_FILES = 16;
+
+    @Param({"fake"})
+    public String browser;
+
+    private BrowserFixture fixture;
+    private WebElement clickTarget;
+    private Path outputDir;
+    private byte[] sample;
+    private int fileIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fixture = BrowserFixture.open(browser, 0);
+        clickTarget = fixture.driver().findElement(BrowserFixture.CLICK_TARGET);
+        outputDir = Files.createTempDirectory("screenshot-benchmark");
+        sample = capture();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fixture.close();
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void clickOnly() {
+        clickTarget.click();
+    }
+
+    @Benchmark
+    public void clickWithScreenshot() throws IOException {
+        clickTarget.click();
+        store(capture());
+    }
+
+    @Benchmark
+    public byte[] captureOnly() {
+        return capture();
+    }
+
+    @Benchmark
+    public void storeOnly() throws IOException {
+        store(sample);
+    }
+
+    private byte[] capture() {
+        return ((TakesScreenshot) fixture.driver()).getScreenshotAs(OutputType.BYTES);
+    }
+
+    /**
+     * Convierte la captura a JPEG y la escribe en disco, rotando entre unos pocos archivos
+     */
+    private void store(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        Path file = outputDir.resolve("screenshot-" + (fileIndex++ % ROTATING_FILES) + ".jpg");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            ImageIO.write(image, "jpg", output);
+        }
+    }
+}
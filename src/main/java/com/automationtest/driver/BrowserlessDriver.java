@@ -0,0 +1,113 @@
+package com.automationtest.driver;
+
+import net.serenitybdd.core.Serenity;
+import net.serenitybdd.screenplay.Cast;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
+import org.htmlunit.BrowserVersion;
+import org.htmlunit.WebClient;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import java.util.Collection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.util.FrameworkProperties;
+import com.automationtest.util.WebDrivers;
+
+/**
+ * Backend sin navegador para las mismas Tasks: un DOM HTML dentro de la JVM (HtmlUnit) que implementa WebDriver
+ * Se elige por escenario con el tag @browserless, para los escenarios que solo validan estado renderizado
+ * en el servidor (login rechazado, errores de formularios). No abre Chrome: cada escenario tarda milisegundos
+ * y usa una fracción de la memoria. HtmlUnit no calcula layout ni pinta la página, pero ejecuta los scripts
+ * propios del framework (document.readyState, lecturas agrupadas del DOM).
+ *
+ * Solo se usa contra sitios que renderizan en el servidor, es decir con el stand-in local
+ * (standin.enabled = true); contra saucedemo.com (una SPA) el escenario sigue con Chrome, salvo que se
+ * fuerce con browserless.force = true.
+ */
+public class BrowserlessDriver extends HtmlUnitDriver {
+
+    public static final String TAG = "@browserless";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserlessDriver.class);
+    private static final ThreadLocal<BrowserlessDriver> SCENARIO_DRIVER = new ThreadLocal<>();
+
+    private BrowserlessDriver() {
+        super(BrowserVersion.BEST_SUPPORTED, true);
+    }
+
+    /**
+     * Indica si el escenario pide el backend sin navegador y el sitio bajo prueba lo admite
+     * @param scenarioTags Los tags del escenario
+     */
+    public static boolean requestedBy(Collection<String> scenarioTags) {
+        if (!scenarioTags.contains(TAG)) {
+            return false;
+        }
+        if (FrameworkProperties.getBoolean("standin.enabled", false)
+            || FrameworkProperties.getBoolean("browserless.force", false)) {
+            return true;
+        }
+        LOGGER.info("{} ignored: {} is rendered in the browser, the scenario runs with the configured driver",
+            TAG, FrameworkProperties.baseUrl());
+        return false;
+    }
+
+    /**
+     * Abre el driver sin navegador del escenario del hilo actual y devuelve un Cast cuyos actores navegan con él
+     * Todos los actores del escenario comparten la misma sesión, instrumentada como la de Chrome
+     */
+    public static Cast startScenario() {
+        stopScenario();
+        BrowserlessDriver driver = new BrowserlessDriver();
+        SCENARIO_DRIVER.set(driver);
+        LOGGER.debug("Scenario runs browserless");
+        return Cast.whereEveryoneCan(actor -> actor.can(BrowseTheWeb.with(StepMetrics.instrument(driver))));
+    }
+
+    /**
+     * Cierra el driver sin navegador del hilo actual, si hay uno
+     */
+    public static void stopScenario() {
+        BrowserlessDriver driver = SCENARIO_DRIVER.get();
+        SCENARIO_DRIVER.remove();
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    /**
+     * Driver del escenario en curso: el sin navegador si el escenario lo usa, si no el de Serenity
+     * Para los hooks que preparan la sesión antes de que el actor entre en escena
+     */
+    public static WebDriver scenarioDriver() {
+        BrowserlessDriver driver = SCENARIO_DRIVER.get();
+        return driver != null ? driver : Serenity.getDriver();
+    }
+
+    /**
+     * Indica si el driver (o el driver real detrás de sus decoradores) es el backend sin navegador
+     */
+    public static boolean isBrowserless(WebDriver driver) {
+        return WebDrivers.unwrap(driver) instanceof BrowserlessDriver;
+    }
+
+    /**
+     * Espera a que terminen los scripts en segundo plano de la página (fetch, timers)
+     * HtmlUnit descarga la página y sus recursos de forma síncrona, así que es lo único que puede quedar pendiente
+     * @return true si no quedó ningún script pendiente dentro del tiempo indicado
+     */
+    public boolean awaitBackgroundJavaScript(long timeoutMillis) {
+        return getWebClient().waitForBackgroundJavaScript(timeoutMillis) == 0;
+    }
+
+    @Override
+    protected WebClient modifyWebClient(WebClient client) {
+        client.getOptions().setThrowExceptionOnScriptError(false);
+        client.getOptions().setPrintContentOnFailingStatusCode(false);
+        client.getOptions().setDownloadImages(false);
+        client.getOptions().setTimeout((int) FrameworkProperties.getLong("browserless.timeout", 30000));
+        return client;
+    }
+}
@@ -0,0 +1,135 @@
+package com.automationtest.driver;
+
+import net.serenitybdd.model.environment.EnvironmentSpecificConfiguration;
+import net.thucydides.core.webdriver.capabilities.W3CCapabilities;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Opciones de Chrome construidas desde la configuración del entorno activo de serenity.conf, igual que las
+ * arma Serenity para sus propios drivers: webdriver.capabilities (incluido chromeOptions / goog:chromeOptions),
+ * chrome_preferences, headless.mode y el tamaño de ventana serenity.browser.width / height.
+ * Lo usan las sesiones que se crean fuera de Serenity (WarmDriverPool) para no divergir de los demás perfiles.
+ */
+final class ConfiguredChromeOptions {
+
+    private static final String CAPABILITIES_PREFIX = "webdriver.capabilities";
+    private static final String PREFERENCES_PREFIX = "chrome_preferences.";
+    private static final List<String> CHROME_OPTIONS_KEYS = Arrays.asList("goog:chromeOptions", "chromeOptions");
+
+    private ConfiguredChromeOptions() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Opciones de Chrome del entorno activo
+     */
+    static ChromeOptions fromEnvironment() {
+        EnvironmentVariables environment = SystemEnvironmentVariables.currentEnvironmentVariables();
+        DesiredCapabilities capabilities = W3CCapabilities.definedIn(environment).withPrefix(CAPABILITIES_PREFIX);
+
+        ChromeOptions options = new ChromeOptions();
+        List<String> arguments = new ArrayList<>();
+        for (Map.Entry<String, Object> capability : capabilities.asMap().entrySet()) {
+            if (CHROME_OPTIONS_KEYS.contains(capability.getKey()) && capability.getValue() instanceof Map) {
+                applyChromeOptions(options, arguments, (Map<?, ?>) capability.getValue());
+            } else {
+                options.setCapability(capability.getKey(), capability.getValue());
+            }
+        }
+
+        Map<String, Object> preferences = chromePreferences(environment);
+        if (!preferences.isEmpty()) {
+            options.setExperimentalOption("prefs", preferences);
+        }
+        if (FrameworkProperties.getBoolean("headless.mode", false)
+            && arguments.stream().noneMatch(argument -> argument.startsWith("--headless"))) {
+            options.addArguments("--headless=new");
+        }
+        return options;
+    }
+
+    /**
+     * Aplica el tamaño de ventana configurado (serenity.browser.width / height) a una sesión recién creada
+     */
+    static void applyWindowSize(WebDriver driver) {
+        int width = FrameworkProperties.getInt("serenity.browser.width", 0);
+        int height = FrameworkProperties.getInt("serenity.browser.height", 0);
+        if (width > 0 && height > 0) {
+            driver.manage().window().setSize(new Dimension(width, height));
+        }
+    }
+
+    private static void applyChromeOptions(ChromeOptions options, List<String> arguments, Map<?, ?> chromeOptions) {
+        for (Map.Entry<?, ?> option : chromeOptions.entrySet()) {
+            String name = String.valueOf(option.getKey());
+            if ("args".equals(name)) {
+                List<String> values = asList(option.getValue());
+                arguments.addAll(values);
+                options.addArguments(values);
+            } else if ("excludeSwitches".equals(name)) {
+                options.setExperimentalOption(name, asList(option.getValue()));
+            } else {
+                options.setExperimentalOption(name, option.getValue());
+            }
+        }
+    }
+
+    /**
+     * Las listas de serenity.conf llegan como colección o como texto "[a, b]" según cómo se definieron
+     */
+    private static List<String> asList(Object value) {
+        List<String> values = new ArrayList<>();
+        if (value instanceof Collection) {
+            for (Object item : (Collection<?>) value) {
+                values.add(String.valueOf(item).trim());
+            }
+            return values;
+        }
+        String text = String.valueOf(value).trim();
+        if (text.startsWith("[") && text.endsWith("]")) {
+            text = text.substring(1, text.length() - 1);
+        }
+        for (String item : text.split(",")) {
+            String trimmed = item.trim().replaceAll("^\"|\"$", "");
+            if (!trimmed.isEmpty()) {
+                values.add(trimmed);
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, Object> chromePreferences(EnvironmentVariables environment) {
+        Properties properties = EnvironmentSpecificConfiguration.from(environment)
+            .getPropertiesWithPrefix(PREFERENCES_PREFIX);
+        Map<String, Object> preferences = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            preferences.put(key.substring(PREFERENCES_PREFIX.length()), typed(properties.getProperty(key)));
+        }
+        return preferences;
+    }
+
+    private static Object typed(String value) {
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.valueOf(value);
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.automationtest.driver;
+
+import net.thucydides.core.webdriver.DriverSource;
+import org.openqa.selenium.WebDriver;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DriverSource de Serenity que entrega sesiones del WarmDriverPool
+ * Se activa con el entorno "warm_pool" de serenity.conf (-Denvironment=warm_pool).
+ * Serenity sigue llamando a quit() al final de cada escenario; el proxy intercepta esa llamada
+ * y devuelve la sesión al pool en lugar de cerrar Chrome.
+ */
+public class PooledDriverSource implements DriverSource {
+
+    @Override
+    public WebDriver newDriver() {
+        WarmDriverPool pool = WarmDriverPool.getInstance();
+        PooledSession session = pool.acquire();
+        return releasingProxy(pool, session);
+    }
+
+    @Override
+    public boolean takesScreenshots() {
+        return true;
+    }
+
+    /**
+     * Crea un proxy que implementa las mismas interfaces que el driver real
+     * (JavascriptExecutor, TakesScreenshot, HasDevTools, ...) y redirige quit() al pool
+     */
+    private static WebDriver releasingProxy(WarmDriverPool pool, PooledSession session) {
+        WebDriver realDriver = session.getDriver();
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (isReleaseCall(method)) {
+                if (released.compareAndSet(false, true)) {
+                    pool.release(session);
+                }
+                return null;
+            }
+            if (released.get()) {
+                throw new IllegalStateException("Browser session was already returned to the pool");
+            }
+            try {
+                return method.invoke(realDriver, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+
+        return (WebDriver) Proxy.newProxyInstance(
+            realDriver.getClass().getClassLoader(),
+            interfacesOf(realDriver.getClass()),
+            handler
+        );
+    }
+
+    private static boolean isReleaseCall(Method method) {
+        return method.getParameterCount() == 0 && "quit".equals(method.getName());
+    }
+
+    private static Class<?>[] interfacesOf(Class<?> type) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> candidate : current.getInterfaces()) {
+                interfaces.add(candidate);
+            }
+        }
+        interfaces.add(WebDriver.class);
+        return interfaces.toArray(new Class<?>[0]);
+    }
+}
@@ -0,0 +1,38 @@
+package com.automationtest.driver;
+
+import org.openqa.selenium.WebDriver;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sesión de navegador administrada por el WarmDriverPool
+ * Lleva la cuenta de cuántos escenarios la han utilizado
+ */
+public class PooledSession {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final int id;
+    private final WebDriver driver;
+    private int uses;
+
+    PooledSession(WebDriver driver) {
+        this.id = SEQUENCE.incrementAndGet();
+        this.driver = driver;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public int getUses() {
+        return uses;
+    }
+
+    void incrementUses() {
+        uses++;
+    }
+}
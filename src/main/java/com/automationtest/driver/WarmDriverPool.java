@@ -0,0 +1,218 @@
+package com.automationtest.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.ui.ElementCache;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Pool de sesiones de Chrome "calientes" reutilizadas entre escenarios
+ * En lugar de arrancar y cerrar Chrome en cada escenario, las sesiones se devuelven al pool,
+ * se limpia su estado (cookies, localStorage, sessionStorage) y se reutilizan.
+ * Una sesión se recicla solo si falla el health check o si alcanza el máximo de reutilizaciones.
+ *
+ * Configuración (serenity.conf o -D):
+ *   driver.pool.size        cantidad máxima de sesiones vivas (por defecto 2)
+ *   driver.pool.max.reuse   escenarios por sesión antes de reciclarla (por defecto 25)
+ *   driver.pool.acquire.timeout  segundos de espera por una sesión libre (por defecto 120)
+ * Las opciones de Chrome y el tamaño de ventana salen del entorno activo (ver ConfiguredChromeOptions).
+ */
+public class WarmDriverPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmDriverPool.class);
+    private static final String CLEAR_STORAGE_SCRIPT =
+        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private static volatile WarmDriverPool instance;
+
+    private final int maxSize;
+    private final int maxReuse;
+    private final long acquireTimeoutSeconds;
+    private final BlockingQueue<PooledSession> idleSessions = new LinkedBlockingQueue<>();
+    private final List<PooledSession> allSessions = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger liveSessions = new AtomicInteger();
+
+    private WarmDriverPool(int maxSize, int maxReuse, long acquireTimeoutSeconds) {
+        this.maxSize = maxSize;
+        this.maxReuse = maxReuse;
+        this.acquireTimeoutSeconds = acquireTimeoutSeconds;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "warm-driver-pool-shutdown"));
+    }
+
+    /**
+     * Obtiene la instancia única del pool, creándola con la configuración actual
+     */
+    public static WarmDriverPool getInstance() {
+        if (instance == null) {
+            synchronized (WarmDriverPool.class) {
+                if (instance == null) {
+                    instance = new WarmDriverPool(
+                        FrameworkProperties.getInt("driver.pool.size", 2),
+                        FrameworkProperties.getInt("driver.pool.max.reuse", 25),
+                        FrameworkProperties.getLong("driver.pool.acquire.timeout", 120)
+                    );
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Entrega una sesión sana del pool, creando una nueva si hay capacidad
+     * Bloquea hasta que otra sesión sea liberada si el pool está lleno
+     */
+    public PooledSession acquire() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(acquireTimeoutSeconds);
+
+        while (true) {
+            PooledSession session = idleSessions.poll();
+            if (session != null) {
+                if (isHealthy(session)) {
+                    LOGGER.debug("Reusing warm browser session #{} (use {})", session.getId(), session.getUses() + 1);
+                    return session;
+                }
+                LOGGER.info("Browser session #{} failed health check, recycling it", session.getId());
+                discard(session);
+                continue;
+            }
+
+            if (reserveSlot()) {
+                return createSession();
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException(
+                    String.format("No browser session became available within %d seconds (pool size %d)",
+                        acquireTimeoutSeconds, maxSize)
+                );
+            }
+            try {
+                session = idleSessions.poll(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+            }
+            if (session != null) {
+                idleSessions.offer(session);
+            }
+        }
+    }
+
+    /**
+     * Devuelve una sesión al pool
+     * Limpia el estado del navegador; si la limpieza falla o se alcanzó el máximo de usos, la sesión se recicla
+     */
+    public void release(PooledSession session) {
+        session.incrementUses();
+
+        if (session.getUses() >= maxReuse) {
+            LOGGER.info("Browser session #{} reached {} uses, recycling it", session.getId(), maxReuse);
+            discard(session);
+            return;
+        }
+
+        if (resetState(session.getDriver())) {
+            idleSessions.offer(session);
+        } else {
+            LOGGER.info("Browser session #{} could not be reset, recycling it", session.getId());
+            discard(session);
+        }
+    }
+
+    /**
+     * Limpia cookies y almacenamiento local y vuelve a la página de login
+     */
+    private boolean resetState(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.navigate().to(FrameworkProperties.baseUrl());
+            ElementCache.invalidate(driver);
+            return true;
+        } catch (Exception e) {
+            LOGGER.warn("Browser state reset failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Health check: la sesión responde y conserva al menos una ventana abierta
+     */
+    private boolean isHealthy(PooledSession session) {
+        try {
+            return !session.getDriver().getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = liveSessions.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (liveSessions.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PooledSession createSession() {
+        try {
+            ChromeDriver driver = new ChromeDriver(ConfiguredChromeOptions.fromEnvironment());
+            try {
+                ConfiguredChromeOptions.applyWindowSize(driver);
+            } catch (RuntimeException e) {
+                driver.quit();
+                throw e;
+            }
+            PooledSession session = new PooledSession(driver);
+            allSessions.add(session);
+            LOGGER.info("Started warm browser session #{} ({} of {})", session.getId(), liveSessions.get(), maxSize);
+            return session;
+        } catch (RuntimeException e) {
+            liveSessions.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void discard(PooledSession session) {
+        allSessions.remove(session);
+        liveSessions.decrementAndGet();
+        try {
+            session.getDriver().quit();
+        } catch (Exception e) {
+            LOGGER.debug("Ignoring error while quitting browser session #{}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Cierra todas las sesiones al terminar la JVM
+     */
+    private void shutdown() {
+        synchronized (allSessions) {
+            for (PooledSession session : allSessions) {
+                try {
+                    session.getDriver().quit();
+                } catch (Exception e) {
+                    // La JVM está terminando, no hay nada más que hacer
+                }
+            }
+            allSessions.clear();
+        }
+        idleSessions.clear();
+    }
+}
@@ -0,0 +1,69 @@
+package com.automationtest.faults;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribución de retrasos en milisegundos declarada en un tag
+ *   "300"       retraso fijo
+ *   "200..800"  uniforme entre los dos valores (incluidos)
+ *   "~300"      exponencial con media 300
+ */
+class DelayDistribution {
+
+    private static final String RANGE_SEPARATOR = "..";
+    private static final String EXPONENTIAL_PREFIX = "~";
+
+    private final long min;
+    private final long max;
+    private final boolean exponential;
+
+    private DelayDistribution(long min, long max, boolean exponential) {
+        this.min = min;
+        this.max = max;
+        this.exponential = exponential;
+    }
+
+    /**
+     * @throws IllegalArgumentException Si el formato no es válido o algún valor es negativo
+     */
+    static DelayDistribution parse(String spec) {
+        String value = spec.trim();
+        DelayDistribution distribution;
+        try {
+            if (value.startsWith(EXPONENTIAL_PREFIX)) {
+                long mean = Long.parseLong(value.substring(EXPONENTIAL_PREFIX.length()));
+                distribution = new DelayDistribution(mean, mean, true);
+            } else if (value.indexOf(RANGE_SEPARATOR) > 0) {
+                int separator = value.indexOf(RANGE_SEPARATOR);
+                long from = Long.parseLong(value.substring(0, separator));
+                long to = Long.parseLong(value.substring(separator + RANGE_SEPARATOR.length()));
+                distribution = new DelayDistribution(Math.min(from, to), Math.max(from, to), false);
+            } else {
+                long fixed = Long.parseLong(value);
+                distribution = new DelayDistribution(fixed, fixed, false);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                "Invalid delay '" + spec + "', expected <ms>, <min>..<max> or ~<mean>", e);
+        }
+        if (distribution.min < 0) {
+            throw new IllegalArgumentException("Invalid delay '" + spec + "', delays cannot be negative");
+        }
+        return distribution;
+    }
+
+    long sampleMillis(SplittableRandom random) {
+        if (exponential) {
+            return Math.round(-min * Math.log(1.0 - random.nextDouble()));
+        }
+        return min == max ? min : min + random.nextLong(max - min + 1);
+    }
+
+    @Override
+    public String toString() {
+        if (exponential) {
+            return EXPONENTIAL_PREFIX + min + "ms";
+        }
+        return min == max ? min + "ms" : min + RANGE_SEPARATOR + max + "ms";
+    }
+}
@@ -0,0 +1,192 @@
+package com.automationtest.faults;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.Constants;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Proxy inverso local con inyección de fallas delante de un sitio real (por defecto saucedemo.com)
+ * El navegador navega a http://127.0.0.1:<puerto> y cada petición se reenvía al sitio original
+ * después de pasar por FaultInjectionFilter.
+ *
+ * Configuración (serenity.conf o -D):
+ *   fault.proxy.enabled   arranca el proxy antes de los escenarios (por defecto false)
+ *   fault.proxy.port      puerto local; 0 elige uno libre (por defecto 0)
+ *   fault.proxy.upstream  sitio al que se reenvían las peticiones (por defecto Constants.BASE_URL)
+ */
+public class FaultInjectingProxy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FaultInjectingProxy.class);
+    private static final Duration UPSTREAM_TIMEOUT = Duration.ofSeconds(30);
+    private static final Set<String> HOP_BY_HOP_HEADERS = new HashSet<>(Arrays.asList(
+        "connection", "content-length", "expect", "host", "upgrade", "keep-alive",
+        "proxy-connection", "te", "trailer", "transfer-encoding"
+    ));
+
+    private static FaultInjectingProxy shared;
+
+    private final URI upstream;
+    private final int requestedPort;
+    private final HttpClient client;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FaultInjectingProxy(String upstream, int port) {
+        this.upstream = URI.create(upstream.endsWith("/") ? upstream.substring(0, upstream.length() - 1) : upstream);
+        this.requestedPort = port;
+        this.client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(UPSTREAM_TIMEOUT)
+            .build();
+    }
+
+    /**
+     * Arranca (una sola vez por JVM) el proxy compartido con la configuración actual
+     */
+    public static synchronized FaultInjectingProxy startShared() {
+        if (shared == null) {
+            FaultInjectingProxy proxy = new FaultInjectingProxy(
+                FrameworkProperties.get("fault.proxy.upstream", Constants.BASE_URL),
+                FrameworkProperties.getInt("fault.proxy.port", 0)
+            );
+            proxy.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(proxy::stop, "fault-proxy-shutdown"));
+            shared = proxy;
+        }
+        return shared;
+    }
+
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the fault injection proxy on port " + requestedPort, e);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fault-proxy-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::forward).getFilters().add(new FaultInjectionFilter());
+        server.start();
+        LOGGER.info("Fault injection proxy listening on {} -> {}", getBaseUrl(), upstream);
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+    }
+
+    /**
+     * URL base del proxy, sin barra final
+     */
+    public String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("The fault injection proxy is not running");
+        }
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Reenvía la petición al sitio original y copia la respuesta
+     * Las redirecciones al sitio original se reescriben al proxy y las cookies pierden el atributo Domain
+     */
+    private void forward(HttpExchange exchange) throws IOException {
+        try {
+            HttpResponse<byte[]> response = client.send(upstreamRequest(exchange), HttpResponse.BodyHandlers.ofByteArray());
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                String name = header.getKey();
+                if (name.startsWith(":") || HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    exchange.getResponseHeaders().add(name, rewriteHeader(name, value));
+                }
+            }
+            byte[] body = response.body();
+            boolean noBody = body.length == 0 || "HEAD".equals(exchange.getRequestMethod());
+            exchange.sendResponseHeaders(response.statusCode(), noBody ? -1 : body.length);
+            if (!noBody) {
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Proxying {} failed: {}", exchange.getRequestURI(), e.getMessage());
+            exchange.sendResponseHeaders(502, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private HttpRequest upstreamRequest(HttpExchange exchange) throws IOException {
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        URI target = URI.create(upstream + exchange.getRequestURI().getRawPath() + (rawQuery == null ? "" : "?" + rawQuery));
+
+        byte[] body;
+        try (InputStream input = exchange.getRequestBody()) {
+            body = input.readAllBytes();
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(target)
+            .timeout(UPSTREAM_TIMEOUT)
+            .method(exchange.getRequestMethod(), body.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body));
+
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (HOP_BY_HOP_HEADERS.contains(name) || "origin".equals(name) || "referer".equals(name)) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                request.header(header.getKey(), value);
+            }
+        }
+        return request.build();
+    }
+
+    private String rewriteHeader(String name, String value) {
+        if ("location".equalsIgnoreCase(name) && value.startsWith(upstream.toString())) {
+            return getBaseUrl() + value.substring(upstream.toString().length());
+        }
+        if ("set-cookie".equalsIgnoreCase(name)) {
+            return value.replaceAll("(?i);\\s*domain=[^;]*", "").replaceAll("(?i);\\s*secure", "");
+        }
+        return value;
+    }
+}
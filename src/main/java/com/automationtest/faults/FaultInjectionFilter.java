@@ -0,0 +1,82 @@
+package com.automationtest.faults;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Filtro de HttpServer que inyecta latencia y fallas antes de atender cada petición
+ * Se instala delante del stand-in local y del proxy (FaultInjectingProxy); el perfil de cada petición
+ * se obtiene de la cookie fault-profile (ver FaultProfiles)
+ */
+public class FaultInjectionFilter extends Filter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FaultInjectionFilter.class);
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        FaultProfile profile = FaultProfiles.resolve(cookie(exchange, FaultProfiles.COOKIE_NAME));
+        if (profile == null) {
+            chain.doFilter(exchange);
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (profile.dropsRequest(path)) {
+            LOGGER.debug("Dropping image request {}", path);
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        long delay = profile.nextDelayMillis(path, isXhr(exchange));
+        if (delay > 0) {
+            LOGGER.debug("Delaying {} by {} ms", path, delay);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+                return;
+            }
+        }
+
+        if (profile.getBandwidthBytesPerSecond() > 0) {
+            chain.doFilter(new ThrottledExchange(exchange, profile.getBandwidthBytesPerSecond()));
+        } else {
+            chain.doFilter(exchange);
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Injects latency, bandwidth caps and dropped requests declared by scenario tags";
+    }
+
+    /**
+     * Las peticiones fetch / XHR llegan con Sec-Fetch-Dest: empty o con X-Requested-With
+     */
+    private static boolean isXhr(HttpExchange exchange) {
+        return "empty".equals(exchange.getRequestHeaders().getFirst("Sec-Fetch-Dest"))
+            || exchange.getRequestHeaders().containsKey("X-Requested-With");
+    }
+
+    private static String cookie(HttpExchange exchange, String name) {
+        List<String> headers = exchange.getRequestHeaders().get("Cookie");
+        if (headers == null) {
+            return null;
+        }
+        for (String header : headers) {
+            for (String pair : header.split(";")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0 && pair.substring(0, separator).trim().equals(name)) {
+                    return pair.substring(separator + 1).trim();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,194 @@
+package com.automationtest.faults;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fallas y latencias a inyectar, declaradas con tags de escenario
+ *   @latency:<ruta>=<retraso>  retraso por ruta; la ruta puede ser exacta (/inventory.html),
+ *                              un prefijo (/static/*) o * para todas; retraso según DelayDistribution
+ *   @bandwidth:<KB/s>          límite de ancho de banda de las respuestas
+ *   @drop-images               las imágenes responden 404
+ *   @slow-xhr:<retraso>        retraso adicional para peticiones XHR / fetch
+ *   @fault-seed:<n>            semilla de las distribuciones (por defecto fault.seed)
+ *
+ * Los retrasos son deterministas: la muestra n de cada ruta depende solo de la semilla, la ruta y n
+ */
+public class FaultProfile {
+
+    public static final String LATENCY_TAG = "@latency:";
+    public static final String BANDWIDTH_TAG = "@bandwidth:";
+    public static final String DROP_IMAGES_TAG = "@drop-images";
+    public static final String SLOW_XHR_TAG = "@slow-xhr:";
+    public static final String SEED_TAG = "@fault-seed:";
+
+    private static final String ANY_ROUTE = "*";
+    private static final String[] IMAGE_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".svg", ".webp"};
+
+    private final Map<String, DelayDistribution> routeDelays;
+    private final DelayDistribution xhrDelay;
+    private final long bandwidthBytesPerSecond;
+    private final boolean dropImages;
+    private final long seed;
+    private final List<String> tags;
+    private final Map<String, AtomicLong> requestCounters = new ConcurrentHashMap<>();
+
+    private FaultProfile(Map<String, DelayDistribution> routeDelays, DelayDistribution xhrDelay,
+                         long bandwidthBytesPerSecond, boolean dropImages, long seed, List<String> tags) {
+        this.routeDelays = routeDelays;
+        this.xhrDelay = xhrDelay;
+        this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+        this.dropImages = dropImages;
+        this.seed = seed;
+        this.tags = tags;
+    }
+
+    /**
+     * Indica si alguno de los tags declara fallas o latencia
+     */
+    public static boolean hasFaultTags(Collection<String> tags) {
+        for (String tag : tags) {
+            if (isFaultTag(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Construye el perfil a partir de los tags de un escenario; los tags que no son de fallas se ignoran
+     * @param defaultSeed La semilla a usar si no hay tag @fault-seed
+     */
+    public static FaultProfile fromTags(Collection<String> scenarioTags, long defaultSeed) {
+        Map<String, DelayDistribution> routeDelays = new LinkedHashMap<>();
+        DelayDistribution xhrDelay = null;
+        long bandwidth = 0;
+        boolean dropImages = false;
+        long seed = defaultSeed;
+        List<String> faultTags = new ArrayList<>();
+
+        for (String tag : scenarioTags) {
+            if (!isFaultTag(tag)) {
+                continue;
+            }
+            faultTags.add(tag);
+            if (tag.startsWith(LATENCY_TAG)) {
+                String rule = tag.substring(LATENCY_TAG.length());
+                int separator = rule.lastIndexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid tag " + tag + ", expected " + LATENCY_TAG + "<route>=<delay>");
+                }
+                routeDelays.put(rule.substring(0, separator), DelayDistribution.parse(rule.substring(separator + 1)));
+            } else if (tag.startsWith(BANDWIDTH_TAG)) {
+                bandwidth = parseLong(tag, BANDWIDTH_TAG) * 1024;
+            } else if (tag.equals(DROP_IMAGES_TAG)) {
+                dropImages = true;
+            } else if (tag.startsWith(SLOW_XHR_TAG)) {
+                xhrDelay = DelayDistribution.parse(tag.substring(SLOW_XHR_TAG.length()));
+            } else if (tag.startsWith(SEED_TAG)) {
+                seed = parseLong(tag, SEED_TAG);
+            }
+        }
+        return new FaultProfile(routeDelays, xhrDelay, bandwidth, dropImages, seed, faultTags);
+    }
+
+    /**
+     * Retraso a aplicar a la siguiente petición a la ruta
+     * @param xhr Si la petición es XHR / fetch, se suma el retraso de @slow-xhr
+     */
+    public long nextDelayMillis(String path, boolean xhr) {
+        DelayDistribution routeDelay = delayFor(path);
+        long delay = 0;
+        if (routeDelay != null) {
+            delay += routeDelay.sampleMillis(randomFor("route:" + path));
+        }
+        if (xhr && xhrDelay != null) {
+            delay += xhrDelay.sampleMillis(randomFor("xhr:" + path));
+        }
+        return delay;
+    }
+
+    /**
+     * Indica si la petición es una imagen que se debe descartar
+     */
+    public boolean dropsRequest(String path) {
+        if (!dropImages) {
+            return false;
+        }
+        String lowerPath = path.toLowerCase(Locale.ROOT);
+        for (String extension : IMAGE_EXTENSIONS) {
+            if (lowerPath.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Límite de ancho de banda en bytes por segundo; 0 si no hay límite
+     */
+    public long getBandwidthBytesPerSecond() {
+        return bandwidthBytesPerSecond;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Busca la regla de la ruta: primero la ruta exacta, luego el prefijo más largo y por último *
+     */
+    private DelayDistribution delayFor(String path) {
+        DelayDistribution exact = routeDelays.get(path);
+        if (exact != null) {
+            return exact;
+        }
+        DelayDistribution best = null;
+        int bestLength = -1;
+        for (Map.Entry<String, DelayDistribution> rule : routeDelays.entrySet()) {
+            String route = rule.getKey();
+            if (route.endsWith(ANY_ROUTE) && route.length() > 1) {
+                String prefix = route.substring(0, route.length() - 1);
+                if (path.startsWith(prefix) && prefix.length() > bestLength) {
+                    best = rule.getValue();
+                    bestLength = prefix.length();
+                }
+            }
+        }
+        return best != null ? best : routeDelays.get(ANY_ROUTE);
+    }
+
+    /**
+     * Generador determinista para la n-ésima petición de la clave
+     */
+    private SplittableRandom randomFor(String key) {
+        long count = requestCounters.computeIfAbsent(key, k -> new AtomicLong()).getAndIncrement();
+        return new SplittableRandom(seed * 31 + key.hashCode() * 1_000_003L + count);
+    }
+
+    private static boolean isFaultTag(String tag) {
+        return tag.startsWith(LATENCY_TAG) || tag.startsWith(BANDWIDTH_TAG) || tag.equals(DROP_IMAGES_TAG)
+            || tag.startsWith(SLOW_XHR_TAG) || tag.startsWith(SEED_TAG);
+    }
+
+    private static long parseLong(String tag, String prefix) {
+        try {
+            return Long.parseLong(tag.substring(prefix.length()).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid tag " + tag + ", expected a number after " + prefix, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FaultProfile{routes=" + routeDelays + ", xhr=" + xhrDelay + ", bandwidth=" + bandwidthBytesPerSecond
+            + "B/s, dropImages=" + dropImages + ", seed=" + seed + "}";
+    }
+}
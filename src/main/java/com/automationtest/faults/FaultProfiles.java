@@ -0,0 +1,85 @@
+package com.automationtest.faults;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Registro de los perfiles de fallas activos
+ * Cada escenario registra su perfil y el navegador recibe la cookie fault-profile con el id;
+ * así el stand-in o el proxy aplican a cada petición el perfil de su escenario, también en paralelo.
+ * Las peticiones sin cookie usan el perfil por defecto de la ejecución (propiedad fault.tags).
+ */
+public class FaultProfiles {
+
+    public static final String COOKIE_NAME = "fault-profile";
+
+    private static final Map<String, FaultProfile> PROFILES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static volatile FaultProfile runDefault;
+
+    private FaultProfiles() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Semilla por defecto de las distribuciones de retraso (fault.seed)
+     */
+    public static long defaultSeed() {
+        return FrameworkProperties.getLong("fault.seed", 42);
+    }
+
+    /**
+     * Registra un perfil y devuelve el id que debe enviar el navegador en la cookie fault-profile
+     */
+    public static String register(FaultProfile profile) {
+        String id = "p" + NEXT_ID.incrementAndGet();
+        PROFILES.put(id, profile);
+        return id;
+    }
+
+    public static void unregister(String id) {
+        if (id != null) {
+            PROFILES.remove(id);
+        }
+    }
+
+    /**
+     * Perfil a aplicar a una petición
+     * @param cookieValue El valor de la cookie fault-profile, o null si la petición no la trae
+     * @return El perfil, o null si no hay que inyectar nada
+     */
+    static FaultProfile resolve(String cookieValue) {
+        if (cookieValue != null) {
+            FaultProfile profile = PROFILES.get(cookieValue);
+            if (profile != null) {
+                return profile;
+            }
+        }
+        return runDefault();
+    }
+
+    /**
+     * Perfil de toda la ejecución, declarado con -Dfault.tags="@latency:*=100..300 @bandwidth:256"
+     */
+    private static FaultProfile runDefault() {
+        FaultProfile profile = runDefault;
+        if (profile == null) {
+            synchronized (FaultProfiles.class) {
+                if (runDefault == null) {
+                    String tags = FrameworkProperties.get("fault.tags", "").trim();
+                    runDefault = FaultProfile.fromTags(
+                        tags.isEmpty() ? Collections.<String>emptyList() : Arrays.asList(tags.split("\\s+")),
+                        defaultSeed()
+                    );
+                }
+                profile = runDefault;
+            }
+        }
+        return profile.getTags().isEmpty() ? null : profile;
+    }
+}
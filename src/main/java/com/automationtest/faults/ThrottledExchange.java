@@ -0,0 +1,120 @@
+package com.automationtest.faults;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+
+/**
+ * HttpExchange que entrega al handler el cuerpo de la respuesta con el límite de ancho de banda
+ * Envuelve la petición original en lugar de reemplazar sus streams con setStreams: el handler recibe
+ * este objeto, así el límite no depende de cuándo ni en qué orden HttpServer crea el stream de respuesta.
+ * El stream limitado se crea la primera vez que el handler lo pide, y su reloj empieza en ese momento.
+ */
+class ThrottledExchange extends HttpExchange {
+
+    private final HttpExchange exchange;
+    private final long bytesPerSecond;
+    private OutputStream responseBody;
+
+    ThrottledExchange(HttpExchange exchange, long bytesPerSecond) {
+        this.exchange = exchange;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    @Override
+    public OutputStream getResponseBody() {
+        if (responseBody == null) {
+            responseBody = new ThrottledOutputStream(exchange.getResponseBody(), bytesPerSecond);
+        }
+        return responseBody;
+    }
+
+    @Override
+    public void setStreams(InputStream input, OutputStream output) {
+        if (output != null) {
+            responseBody = output;
+        }
+        exchange.setStreams(input, null);
+    }
+
+    @Override
+    public Headers getRequestHeaders() {
+        return exchange.getRequestHeaders();
+    }
+
+    @Override
+    public Headers getResponseHeaders() {
+        return exchange.getResponseHeaders();
+    }
+
+    @Override
+    public URI getRequestURI() {
+        return exchange.getRequestURI();
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    @Override
+    public HttpContext getHttpContext() {
+        return exchange.getHttpContext();
+    }
+
+    @Override
+    public void close() {
+        exchange.close();
+    }
+
+    @Override
+    public InputStream getRequestBody() {
+        return exchange.getRequestBody();
+    }
+
+    @Override
+    public void sendResponseHeaders(int responseCode, long responseLength) throws IOException {
+        exchange.sendResponseHeaders(responseCode, responseLength);
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return exchange.getRemoteAddress();
+    }
+
+    @Override
+    public int getResponseCode() {
+        return exchange.getResponseCode();
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return exchange.getLocalAddress();
+    }
+
+    @Override
+    public String getProtocol() {
+        return exchange.getProtocol();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return exchange.getAttribute(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        exchange.setAttribute(name, value);
+    }
+
+    @Override
+    public HttpPrincipal getPrincipal() {
+        return exchange.getPrincipal();
+    }
+}
@@ -0,0 +1,58 @@
+package com.automationtest.faults;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+/**
+ * OutputStream que limita la velocidad de escritura a una cantidad de bytes por segundo
+ * Escribe en bloques pequeños y espera lo necesario para no superar el límite
+ */
+class ThrottledOutputStream extends FilterOutputStream {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final long bytesPerSecond;
+    private final long startNanos = System.nanoTime();
+    private long written;
+
+    ThrottledOutputStream(OutputStream out, long bytesPerSecond) {
+        super(out);
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        out.write(value);
+        account(1);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        int position = offset;
+        int remaining = length;
+        while (remaining > 0) {
+            int chunk = Math.min(CHUNK_SIZE, remaining);
+            out.write(buffer, position, chunk);
+            account(chunk);
+            position += chunk;
+            remaining -= chunk;
+        }
+    }
+
+    private void account(int bytes) throws IOException {
+        written += bytes;
+        long expectedMillis = written * 1000 / bytesPerSecond;
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        if (expectedMillis > elapsedMillis) {
+            out.flush();
+            try {
+                Thread.sleep(expectedMillis - elapsedMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Throttled write interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.automationtest.load;
+
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.tasks.PurchaseFlow;
+import com.automationtest.ui.ElementCache;
+
+/**
+ * Usuario virtual con Chrome headless: ejecuta las mismas Tasks que el escenario funcional
+ * a través de un actor de Screenplay
+ */
+class BrowserBackend implements FlowBackend {
+
+    private final WebDriver driver;
+    private final Actor actor;
+    private final String username;
+    private final String password;
+
+    BrowserBackend(String actorName, String username, String password) {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1366,768", "--disable-gpu", "--disable-extensions");
+        this.driver = new ChromeDriver(options);
+        this.actor = Actor.named(actorName).whoCan(BrowseTheWeb.with(StepMetrics.instrument(driver)));
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void reset() {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException e) {
+            // Antes de la primera navegación no hay almacenamiento que limpiar
+        }
+        ElementCache.invalidate(driver);
+    }
+
+    @Override
+    public void run(PurchaseFlow.Stage stage) {
+        actor.attemptsTo(PurchaseFlow.stage(stage, username, password));
+    }
+
+    @Override
+    public void close() {
+        driver.quit();
+    }
+}
@@ -0,0 +1,23 @@
+package com.automationtest.load;
+
+import com.automationtest.tasks.PurchaseFlow;
+
+/**
+ * Forma de ejecutar las etapas del flujo de compra para un usuario virtual
+ * Cada usuario virtual tiene su propia instancia (navegador o cliente HTTP con sus cookies)
+ */
+interface FlowBackend extends AutoCloseable {
+
+    /**
+     * Deja la sesión limpia antes de cada iteración del flujo
+     */
+    void reset();
+
+    /**
+     * Ejecuta una etapa; una excepción marca la etapa (y la iteración) como fallida
+     */
+    void run(PurchaseFlow.Stage stage) throws Exception;
+
+    @Override
+    void close();
+}
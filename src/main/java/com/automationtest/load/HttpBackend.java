@@ -0,0 +1,238 @@
+package com.automationtest.load;
+
+import java.io.IOException;
+import java.net.CookieHandler;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.standin.SaucedemoStandIn;
+import com.automationtest.tasks.CompleteTask;
+import com.automationtest.tasks.InventoryTask;
+import com.automationtest.tasks.PurchaseFlow;
+import com.automationtest.util.ItemSelection;
+
+/**
+ * Usuario virtual sin navegador: repite a nivel HTTP las mismas etapas del flujo de compra
+ * Envía los formularios y las llamadas que haría el navegador (login, /api/cart, checkout) con las
+ * mismas reglas de las Tasks: cantidad de productos por usuario, selección con ItemSelection y datos
+ * de checkout de PurchaseFlow. Necesita páginas renderizadas en el servidor, por eso apunta al stand-in
+ * local (saucedemo.com arma las páginas en el navegador y no tiene estas rutas).
+ */
+class HttpBackend implements FlowBackend {
+
+    private static final Pattern ITEM_ID = Pattern.compile("data-item-id=\"(\\d+)\"");
+    private static final Pattern ITEM_NAME = Pattern.compile("data-test=\"inventory-item-name\">([^<]*)<");
+    private static final Pattern CART_ITEM = Pattern.compile("data-test=\"inventory-item\"");
+    private static final Pattern CART_COUNT = Pattern.compile("\"count\":(\\d+)");
+
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final SessionCookies cookies = new SessionCookies();
+    private final HttpClient client;
+    private int expectedCartItems;
+
+    HttpBackend(String baseUrl, String username, String password, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.password = password;
+        this.client = HttpClient.newBuilder()
+            .cookieHandler(cookies)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    @Override
+    public void reset() {
+        cookies.clear();
+        expectedCartItems = 0;
+    }
+
+    @Override
+    public void run(PurchaseFlow.Stage stage) throws IOException, InterruptedException {
+        switch (stage) {
+            case LOGIN:
+                get("/");
+                Map<String, String> credentials = new LinkedHashMap<>();
+                credentials.put("user-name", username);
+                credentials.put("password", password);
+                expectPage(post("/", credentials), "/inventory.html");
+                break;
+            case INVENTORY:
+                addItemsToCart(get("/inventory.html").body());
+                break;
+            case CART:
+                int cartItems = count(CART_ITEM, get("/cart.html").body());
+                if (cartItems != expectedCartItems) {
+                    throw new IllegalStateException(
+                        String.format("Expected %d items in the cart, found %d", expectedCartItems, cartItems));
+                }
+                get("/checkout-step-one.html");
+                break;
+            case CHECKOUT:
+                Map<String, String> form = new LinkedHashMap<>();
+                form.put("firstName", PurchaseFlow.FIRST_NAME);
+                form.put("lastName", PurchaseFlow.LAST_NAME);
+                form.put("postalCode", PurchaseFlow.POSTAL_CODE);
+                expectPage(post("/checkout-step-one.html", form), "/checkout-step-two.html");
+                expectPage(post("/checkout-complete.html", new LinkedHashMap<>()), "/checkout-complete.html");
+                break;
+            case COMPLETE:
+                if (!get("/checkout-complete.html").body().contains(CompleteTask.EXPECTED_THANKS_MESSAGE)) {
+                    throw new IllegalStateException("Confirmation message not found");
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown stage " + stage);
+        }
+    }
+
+    @Override
+    public void close() {
+        cookies.clear();
+    }
+
+    /**
+     * Elige los productos como InventoryTask y los agrega como lo hace app.js: cookie del carrito
+     * y confirmación del servidor por /api/cart
+     */
+    private void addItemsToCart(String inventoryHtml) throws IOException, InterruptedException {
+        List<String> ids = groups(ITEM_ID, inventoryHtml);
+        List<String> names = groups(ITEM_NAME, inventoryHtml);
+        if (ids.isEmpty() || ids.size() != names.size()) {
+            throw new IllegalStateException("Could not read the inventory items (" + ids.size() + " buttons, "
+                + names.size() + " names)");
+        }
+        int itemsToAdd = InventoryTask.itemsToAdd(username, ids.size());
+        String scenarioKey = StepMetrics.currentScenario() + "|" + username;
+        List<Integer> selected = ItemSelection.select(names, itemsToAdd, scenarioKey);
+
+        List<String> cart = new ArrayList<>();
+        for (Integer index : selected) {
+            cart.add(ids.get(index));
+            cookies.set(SaucedemoStandIn.CART_COOKIE, String.join("-", cart));
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/cart"))
+                .header("X-Requested-With", "XMLHttpRequest")
+                .POST(HttpRequest.BodyPublishers.noBody()));
+            Matcher count = CART_COUNT.matcher(response.body());
+            if (!count.find() || Integer.parseInt(count.group(1)) != cart.size()) {
+                throw new IllegalStateException("Cart count not updated after adding item " + ids.get(index));
+            }
+        }
+        expectedCartItems = cart.size();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private HttpResponse<String> post(String path, Map<String, String> form) throws IOException, InterruptedException {
+        String body = form.entrySet().stream()
+            .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+            .collect(Collectors.joining("&"));
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(response.request().method() + " " + response.uri() + " answered "
+                + response.statusCode());
+        }
+        return response;
+    }
+
+    /**
+     * Verifica que después de las redirecciones se haya llegado a la página esperada
+     */
+    private static void expectPage(HttpResponse<String> response, String path) {
+        if (!response.uri().getPath().equals(path)) {
+            throw new IllegalStateException("Expected " + path + " but landed on " + response.uri().getPath());
+        }
+    }
+
+    private static List<String> groups(Pattern pattern, String html) {
+        List<String> values = new ArrayList<>();
+        Matcher matcher = pattern.matcher(html);
+        while (matcher.find()) {
+            values.add(matcher.group(1));
+        }
+        return values;
+    }
+
+    private static int count(Pattern pattern, String html) {
+        int count = 0;
+        Matcher matcher = pattern.matcher(html);
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Cookies de la sesión del usuario virtual, enviadas tal cual las puso el servidor
+     * CookieManager reenvía las cookies con Max-Age en formato RFC 2965 (valor entre comillas), que el
+     * stand-in no reconoce; como todo el flujo es contra un solo host alcanza con nombre y valor.
+     */
+    private static final class SessionCookies extends CookieHandler {
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        void set(String name, String value) {
+            values.put(name, value);
+        }
+
+        void clear() {
+            values.clear();
+        }
+
+        @Override
+        public Map<String, List<String>> get(URI uri, Map<String, List<String>> requestHeaders) {
+            if (values.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            String header = values.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("; "));
+            return Collections.singletonMap("Cookie", Collections.singletonList(header));
+        }
+
+        @Override
+        public void put(URI uri, Map<String, List<String>> responseHeaders) {
+            for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+                if (header.getKey() == null || !"set-cookie".equalsIgnoreCase(header.getKey())) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    for (HttpCookie cookie : HttpCookie.parse(value)) {
+                        if (cookie.getMaxAge() == 0 || cookie.getValue().isEmpty()) {
+                            values.remove(cookie.getName());
+                        } else {
+                            values.put(cookie.getName(), cookie.getValue());
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.automationtest.load;
+
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.standin.SaucedemoStandIn;
+import com.automationtest.tasks.PurchaseFlow;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Modo de carga: ejecuta el flujo de compra (PurchaseFlow) como muchos usuarios virtuales concurrentes
+ * Cada usuario virtual repite Login, Inventory, Cart, Checkout y Complete hasta completar load.iterations
+ * o hasta que pasen load.duration segundos. Con load.mode = browser cada usuario maneja su propio Chrome
+ * headless y ejecuta las mismas Tasks que el escenario funcional; con load.mode = http se repite el flujo
+ * a nivel HTTP sin navegador (ver HttpBackend). Al final se escribe target/load-report/load-&lt;timestamp&gt;.json
+ * con throughput y p50/p95/p99 por etapa.
+ *
+ * Uso: mvn -Pload integration-test -Dload.users=50 -Dload.duration=60
+ */
+public class LoadRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadRunner.class);
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadRunner() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    public static void main(String[] args) {
+        String mode = FrameworkProperties.get("load.mode", "http");
+        int users = FrameworkProperties.getInt("load.users", 10);
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1, got " + users);
+        }
+        if (!"http".equals(mode) && !"browser".equals(mode)) {
+            throw new IllegalArgumentException("Unknown load.mode '" + mode + "', expected 'http' or 'browser'");
+        }
+        if (FrameworkProperties.getBoolean("load.standin", true)) {
+            String baseUrl = SaucedemoStandIn.startShared().getBaseUrl();
+            System.setProperty(FrameworkProperties.BASE_URL_PROPERTY, baseUrl);
+        }
+
+        Result result = run(mode, users);
+        Map<String, Map<String, Object>> summary = result.stats.summary(result.elapsedNanos);
+        log(mode, users, result.elapsedNanos, summary);
+        write(mode, users, result.elapsedNanos, summary);
+    }
+
+    private static Result run(String mode, int users) {
+        int iterations = FrameworkProperties.getInt("load.iterations", 0);
+        long durationNanos = TimeUnit.SECONDS.toNanos(FrameworkProperties.getLong("load.duration", 30));
+        long rampUpMillis = TimeUnit.SECONDS.toMillis(FrameworkProperties.getLong("load.rampup", 0));
+        LoadStats stats = new LoadStats();
+
+        LOGGER.info("Starting load run: {} users, mode {}, {} against {}", users, mode,
+            iterations > 0 ? iterations + " iterations per user" : durationNanos / 1_000_000_000L + " s",
+            FrameworkProperties.baseUrl());
+        ExecutorService executor = VirtualUsers.executor(users);
+        long start = System.nanoTime();
+        long deadline = start + rampUpMillis * 1_000_000L + durationNanos;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int user = 1; user <= users; user++) {
+            long delayMillis = users > 1 ? rampUpMillis * (user - 1) / (users - 1) : 0;
+            VirtualUser virtualUser = new VirtualUser(user, mode, stats, iterations, deadline, delayMillis);
+            futures.add(executor.submit(virtualUser));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                LOGGER.error("A virtual user stopped unexpectedly", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        executor.shutdownNow();
+        return new Result(stats, System.nanoTime() - start);
+    }
+
+    private static void log(String mode, int users, long elapsedNanos, Map<String, Map<String, Object>> summary) {
+        StringBuilder table = new StringBuilder(String.format("%n%-10s %8s %8s %10s %8s %8s %8s%n",
+            "step", "count", "failed", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        for (Map.Entry<String, Map<String, Object>> entry : summary.entrySet()) {
+            Map<String, Object> values = entry.getValue();
+            table.append(String.format("%-10s %8s %8s %10s %8s %8s %8s%n", entry.getKey(), values.get("count"),
+                values.get("failures"), values.get("throughput_per_s"), values.get("p50_ms"), values.get("p95_ms"),
+                values.get("p99_ms")));
+        }
+        LOGGER.info("Load run finished: {} users, mode {}, {} s{}", users, mode,
+            TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), table);
+    }
+
+    private static void write(String mode, int users, long elapsedNanos, Map<String, Map<String, Object>> summary) {
+        Path outputDir = Paths.get(FrameworkProperties.get("load.output.dir", "target/load-report"));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", mode);
+        report.put("users", users);
+        report.put("base_url", FrameworkProperties.baseUrl());
+        report.put("elapsed_ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.put("steps", summary);
+        Path file = outputDir.resolve("load-" + LocalDateTime.now().format(RUN_ID_FORMAT) + ".json");
+        try {
+            Files.createDirectories(outputDir);
+            Files.write(file, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+            LOGGER.info("Load report written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the load report", e);
+        }
+    }
+
+    private static FlowBackend backend(String mode, int user) {
+        String username = FrameworkProperties.get("load.username", "standard_user");
+        String password = FrameworkProperties.get("load.password", "secret_sauce");
+        if ("browser".equals(mode)) {
+            return new BrowserBackend("vu-" + user, username, password);
+        }
+        Duration timeout = Duration.ofSeconds(FrameworkProperties.getLong("load.http.timeout", 30));
+        return new HttpBackend(FrameworkProperties.baseUrl(), username, password, timeout);
+    }
+
+    private static final class Result {
+
+        private final LoadStats stats;
+        private final long elapsedNanos;
+
+        private Result(LoadStats stats, long elapsedNanos) {
+            this.stats = stats;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+
+    /**
+     * Un usuario virtual: repite el flujo completo con su propio backend hasta agotar iteraciones o tiempo
+     * Si una etapa falla, el resto del flujo de esa iteración se descarta y se empieza de nuevo
+     */
+    private static final class VirtualUser implements Runnable {
+
+        private final int user;
+        private final String mode;
+        private final LoadStats stats;
+        private final int iterations;
+        private final long deadline;
+        private final long delayMillis;
+
+        private VirtualUser(int user, String mode, LoadStats stats, int iterations, long deadline, long delayMillis) {
+            this.user = user;
+            this.mode = mode;
+            this.stats = stats;
+            this.iterations = iterations;
+            this.deadline = deadline;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try (FlowBackend backend = backend(mode, user)) {
+                for (int iteration = 1; !Thread.currentThread().isInterrupted(); iteration++) {
+                    if (iterations > 0 ? iteration > iterations : System.nanoTime() >= deadline) {
+                        break;
+                    }
+                    StepMetrics.startScenario("load vu-" + user + " #" + iteration);
+                    try {
+                        runFlow(backend);
+                    } finally {
+                        StepMetrics.endScenario();
+                    }
+                }
+            }
+        }
+
+        private void runFlow(FlowBackend backend) {
+            backend.reset();
+            long flowStart = System.nanoTime();
+            for (PurchaseFlow.Stage stage : PurchaseFlow.Stage.values()) {
+                long stageStart = System.nanoTime();
+                try {
+                    backend.run(stage);
+                    stats.recordStage(stage, System.nanoTime() - stageStart, true);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    stats.recordStage(stage, System.nanoTime() - stageStart, false);
+                    stats.recordFlow(System.nanoTime() - flowStart, false);
+                    LOGGER.debug("vu-{} failed at {}: {}", user, stage.label(), e.getMessage());
+                    return;
+                }
+            }
+            stats.recordFlow(System.nanoTime() - flowStart, true);
+        }
+    }
+}
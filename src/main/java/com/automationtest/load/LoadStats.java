@@ -0,0 +1,75 @@
+package com.automationtest.load;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.automationtest.metrics.Percentiles;
+import com.automationtest.tasks.PurchaseFlow;
+
+/**
+ * Latencias y fallas por etapa del flujo durante una ejecución de carga
+ * Los usuarios virtuales registran en paralelo; el resumen se calcula al final
+ */
+class LoadStats {
+
+    private final Map<PurchaseFlow.Stage, StageSamples> stages = new EnumMap<>(PurchaseFlow.Stage.class);
+    private final StageSamples flows = new StageSamples();
+
+    LoadStats() {
+        for (PurchaseFlow.Stage stage : PurchaseFlow.Stage.values()) {
+            stages.put(stage, new StageSamples());
+        }
+    }
+
+    void recordStage(PurchaseFlow.Stage stage, long nanos, boolean passed) {
+        stages.get(stage).add(nanos, passed);
+    }
+
+    void recordFlow(long nanos, boolean passed) {
+        flows.add(nanos, passed);
+    }
+
+    /**
+     * Resumen por etapa (y del flujo completo) con throughput en operaciones por segundo
+     * @param elapsedNanos Duración de la ventana de medición
+     */
+    Map<String, Map<String, Object>> summary(long elapsedNanos) {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        for (Map.Entry<PurchaseFlow.Stage, StageSamples> entry : stages.entrySet()) {
+            summary.put(entry.getKey().label(), entry.getValue().summary(elapsedNanos));
+        }
+        summary.put("flow", flows.summary(elapsedNanos));
+        return summary;
+    }
+
+    private static final class StageSamples {
+
+        private final List<Long> millis = new ArrayList<>();
+        private long failures;
+
+        synchronized void add(long nanos, boolean passed) {
+            if (passed) {
+                millis.add(nanos / 1_000_000);
+            } else {
+                failures++;
+            }
+        }
+
+        synchronized Map<String, Object> summary(long elapsedNanos) {
+            Percentiles percentiles = Percentiles.of(millis.stream().mapToLong(Long::longValue).toArray());
+            double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", millis.size());
+            values.put("failures", failures);
+            values.put("throughput_per_s", Math.round(millis.size() / seconds * 100) / 100.0);
+            values.put("p50_ms", percentiles.p50());
+            values.put("p95_ms", percentiles.p95());
+            values.put("p99_ms", percentiles.p99());
+            values.put("max_ms", percentiles.max());
+            return values;
+        }
+    }
+}
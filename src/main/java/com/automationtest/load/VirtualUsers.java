@@ -0,0 +1,63 @@
+package com.automationtest.load;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Crea el executor de los usuarios virtuales
+ * Con un runtime Java 21+ usa un hilo virtual por usuario (Executors.newVirtualThreadPerTaskExecutor,
+ * resuelto por reflexión porque el proyecto compila con Java 11); lo que cuenta es la JVM que ejecuta
+ * LoadRunner (la de Maven con exec:java), no el release de compilación.
+ * En versiones anteriores usa un pool de hilos de plataforma de hasta load.platform.threads.max hilos
+ * (por defecto 200): los usuarios que no entran esperan un hilo libre.
+ */
+final class VirtualUsers {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualUsers.class);
+    private static final int DEFAULT_PLATFORM_THREADS_MAX = 200;
+
+    private VirtualUsers() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    static ExecutorService executor(int users) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = (ExecutorService) factory.invoke(null);
+            LOGGER.info("Running {} virtual users on virtual threads", users);
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            LOGGER.info("Virtual threads not available on Java {}, running {} virtual users on platform threads",
+                System.getProperty("java.specification.version"), users);
+        }
+        int threads = platformThreads(users);
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "load-vu-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Hilos de plataforma para los usuarios, limitados por load.platform.threads.max
+     */
+    static int platformThreads(int users) {
+        int max = FrameworkProperties.getInt("load.platform.threads.max", DEFAULT_PLATFORM_THREADS_MAX);
+        if (max < 1) {
+            throw new IllegalArgumentException("load.platform.threads.max must be at least 1, got " + max);
+        }
+        if (users > max) {
+            LOGGER.warn("Only {} of {} virtual users run at the same time on platform threads "
+                + "(load.platform.threads.max); use a Java 21+ runtime for one virtual thread per user", max, users);
+            return max;
+        }
+        return users;
+    }
+}
@@ -0,0 +1,188 @@
+package com.automationtest.metrics;
+
+import org.openqa.selenium.json.Json;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Exporta las mediciones de StepMetrics como artefactos legibles por máquina
+ * Cada ejecución escribe run-&lt;timestamp&gt;.csv y .json en target/step-metrics; luego se recalcula
+ * summary.json con p50/p95/p99 por paso y usuario usando todas las ejecuciones guardadas en el directorio
+ */
+public class MetricsExporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsExporter.class);
+    private static final String CSV_HEADER = "run,scenario,user,step,depth,wall_ms,driver_calls,wait_ms,passed";
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private MetricsExporter() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Escribe los artefactos de la ejecución actual y el resumen de percentiles
+     */
+    public static void export() {
+        List<StepRecord> records = StepMetrics.records();
+        if (records.isEmpty()) {
+            LOGGER.info("No step metrics recorded, skipping export");
+            return;
+        }
+
+        Path outputDir = Paths.get(FrameworkProperties.get("metrics.output.dir", "target/step-metrics"));
+        String runId = LocalDateTime.now().format(RUN_ID_FORMAT);
+        try {
+            Files.createDirectories(outputDir);
+            writeCsv(outputDir.resolve("run-" + runId + ".csv"), runId, records);
+            writeJson(outputDir.resolve("run-" + runId + ".json"), runId, records);
+            writeSummary(outputDir);
+            LOGGER.info("Step metrics written to {}", outputDir.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not export step metrics", e);
+        }
+    }
+
+    private static void writeCsv(Path file, String runId, List<StepRecord> records) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (StepRecord record : records) {
+                writer.write(String.join(",",
+                    runId,
+                    csv(record.getScenario()),
+                    csv(record.getUser()),
+                    csv(record.getStep()),
+                    String.valueOf(record.getDepth()),
+                    String.valueOf(record.getWallMillis()),
+                    String.valueOf(record.getDriverCalls()),
+                    String.valueOf(record.getWaitMillis()),
+                    String.valueOf(record.isPassed())));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static void writeJson(Path file, String runId, List<StepRecord> records) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (StepRecord record : records) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scenario", record.getScenario());
+            row.put("user", record.getUser());
+            row.put("step", record.getStep());
+            row.put("depth", record.getDepth());
+            row.put("wallMillis", record.getWallMillis());
+            row.put("driverCalls", record.getDriverCalls());
+            row.put("waitMillis", record.getWaitMillis());
+            row.put("passed", record.isPassed());
+            rows.add(row);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("run", runId);
+        document.put("steps", rows);
+        Files.write(file, new Json().toJson(document).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Recalcula los percentiles por paso y usuario a partir de todos los CSV del directorio
+     */
+    private static void writeSummary(Path outputDir) throws IOException {
+        Map<String, List<long[]>> samples = new TreeMap<>();
+        int runs = 0;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(outputDir, "run-*.csv")) {
+            for (Path file : files) {
+                runs++;
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                for (String line : lines.subList(1, lines.size())) {
+                    String[] columns = splitCsv(line);
+                    String key = columns[3] + "|" + columns[2];
+                    samples.computeIfAbsent(key, k -> new ArrayList<>()).add(new long[] {
+                        Long.parseLong(columns[5]), Long.parseLong(columns[6]), Long.parseLong(columns[7])
+                    });
+                }
+            }
+        }
+
+        List<Map<String, Object>> summary = new ArrayList<>();
+        for (Map.Entry<String, List<long[]>> entry : samples.entrySet()) {
+            String[] key = entry.getKey().split("\\|", 2);
+            List<long[]> values = entry.getValue();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("step", key[0]);
+            row.put("user", key[1]);
+            row.put("samples", values.size());
+            row.put("wallMillis", percentilesOf(values, 0));
+            row.put("driverCalls", percentilesOf(values, 1));
+            row.put("waitMillis", percentilesOf(values, 2));
+            summary.add(row);
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("runs", runs);
+        document.put("steps", summary);
+        Files.write(outputDir.resolve("summary.json"), new Json().toJson(document).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Long> percentilesOf(List<long[]> values, int column) {
+        long[] sample = new long[values.size()];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = values.get(i)[column];
+        }
+        Percentiles percentiles = Percentiles.of(sample);
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("p50", percentiles.p50());
+        result.put("p95", percentiles.p95());
+        result.put("p99", percentiles.p99());
+        result.put("max", percentiles.max());
+        return result;
+    }
+
+    private static String csv(String value) {
+        String safe = value == null ? "" : value;
+        return "\"" + safe.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Separa una línea CSV respetando los valores entre comillas
+     */
+    private static String[] splitCsv(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,137 @@
+package com.automationtest.metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.driver.BrowserlessDriver;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Presupuestos de rendimiento por página
+ * Las Tasks marcan el inicio de cada transición (login → inventory → cart → checkout → complete)
+ * y capturan los tiempos cuando la página destino está lista. Los presupuestos se declaran en
+ * serenity.conf (performance.budget.&lt;página&gt; en milisegundos) y se validan desde los pasos Gherkin,
+ * o en cada captura si performance.budget.enforce = true.
+ * Con el backend sin navegador (@browserless) no hay tiempos de carga comparables y no se captura nada
+ */
+public class PagePerformance {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PagePerformance.class);
+    private static final ThreadLocal<Map<String, PageTiming>> TIMINGS = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private static final String MARK_SCRIPT = "window.__pageTransitionStart = performance.now();";
+
+    private static final String CAPTURE_SCRIPT =
+        "var nav = performance.getEntriesByType('navigation')[0];"
+        + "var hard = window.__pageTransitionStart === undefined;"
+        + "var start = hard ? 0 : window.__pageTransitionStart;"
+        + "var now = performance.now();"
+        + "var resources = performance.getEntriesByType('resource')"
+        + "  .filter(function (r) { return r.startTime >= start; });"
+        + "var resourceEnd = start, bytes = 0;"
+        + "resources.forEach(function (r) {"
+        + "  resourceEnd = Math.max(resourceEnd, r.responseEnd); bytes += r.transferSize || 0; });"
+        + "delete window.__pageTransitionStart;"
+        + "return {"
+        + "  hardNavigation: hard,"
+        + "  duration: hard && nav && nav.loadEventEnd > 0 ? nav.loadEventEnd : now - start,"
+        + "  ttfb: hard && nav ? nav.responseStart - nav.requestStart : 0,"
+        + "  domContentLoaded: hard && nav ? nav.domContentLoadedEventEnd : 0,"
+        + "  load: hard && nav ? nav.loadEventEnd : 0,"
+        + "  resourceCount: resources.length,"
+        + "  resourceMillis: resourceEnd - start,"
+        + "  transferBytes: bytes"
+        + "};";
+
+    private PagePerformance() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Marca el inicio de una transición de página dentro de la aplicación (antes del clic que navega)
+     */
+    public static void markTransitionStart(WebDriver driver) {
+        if (BrowserlessDriver.isBrowserless(driver)) {
+            return;
+        }
+        ((JavascriptExecutor) driver).executeScript(MARK_SCRIPT);
+    }
+
+    /**
+     * Captura los tiempos de la página actual una vez que está lista
+     * @param page El nombre lógico de la página (login, inventory, cart, checkout, complete)
+     * @return Los tiempos capturados; null con el backend sin navegador
+     */
+    public static PageTiming capture(WebDriver driver, String page) {
+        if (BrowserlessDriver.isBrowserless(driver)) {
+            LOGGER.debug("Page timing for '{}' skipped: the scenario runs browserless", page);
+            return null;
+        }
+        Object result = ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        PageTiming timing = PageTiming.fromScriptResult(page,
+            result instanceof Map ? (Map<?, ?>) result : Collections.emptyMap());
+        TIMINGS.get().put(page, timing);
+        LOGGER.info("Page timing - {}", timing.breakdown());
+
+        if (FrameworkProperties.getBoolean("performance.budget.enforce", false)) {
+            assertWithinBudget(page);
+        }
+        return timing;
+    }
+
+    /**
+     * Valida la página contra el presupuesto declarado en serenity.conf
+     */
+    public static void assertWithinBudget(String page) {
+        long budget = FrameworkProperties.getLong("performance.budget." + page, -1);
+        if (budget < 0) {
+            throw new IllegalStateException("No performance budget declared for page '" + page
+                + "' (performance.budget." + page + ")");
+        }
+        assertWithin(page, budget);
+    }
+
+    /**
+     * Valida que la última carga de la página no haya superado el tiempo indicado
+     * @param page El nombre lógico de la página
+     * @param budgetMillis El tiempo máximo permitido en milisegundos
+     */
+    public static void assertWithin(String page, long budgetMillis) {
+        PageTiming timing = TIMINGS.get().get(page);
+        if (timing == null) {
+            throw new IllegalStateException("No timing was captured for page '" + page + "' in this scenario");
+        }
+        if (timing.getDurationMillis() > budgetMillis) {
+            throw new AssertionError(String.format("Performance budget exceeded (%d ms allowed) - %s",
+                budgetMillis, timing.breakdown()));
+        }
+    }
+
+    /**
+     * Valida todas las páginas capturadas en el escenario contra sus presupuestos
+     */
+    public static void assertAllWithinBudget() {
+        StringBuilder violations = new StringBuilder();
+        for (PageTiming timing : TIMINGS.get().values()) {
+            long budget = FrameworkProperties.getLong("performance.budget." + timing.getPage(), -1);
+            if (budget >= 0 && timing.getDurationMillis() > budget) {
+                violations.append(String.format("%n  (%d ms allowed) %s", budget, timing.breakdown()));
+            }
+        }
+        if (violations.length() > 0) {
+            throw new AssertionError("Performance budget exceeded:" + violations);
+        }
+    }
+
+    /**
+     * Limpia las capturas del escenario del hilo actual
+     */
+    public static void reset() {
+        TIMINGS.remove();
+    }
+}
@@ -0,0 +1,108 @@
+package com.automationtest.metrics;
+
+import java.util.Map;
+
+/**
+ * Tiempos de carga de una página, obtenidos de Navigation Timing y Resource Timing
+ * Para cargas completas (hard navigation) la duración es loadEventEnd de la entrada de navegación;
+ * para transiciones dentro de la SPA es el tiempo entre la acción y la aparición de la página
+ */
+public class PageTiming {
+
+    private final String page;
+    private final boolean hardNavigation;
+    private final long durationMillis;
+    private final long timeToFirstByteMillis;
+    private final long domContentLoadedMillis;
+    private final long loadEventMillis;
+    private final long resourceCount;
+    private final long resourceMillis;
+    private final long transferBytes;
+
+    public PageTiming(String page, boolean hardNavigation, long durationMillis, long timeToFirstByteMillis,
+                      long domContentLoadedMillis, long loadEventMillis, long resourceCount,
+                      long resourceMillis, long transferBytes) {
+        this.page = page;
+        this.hardNavigation = hardNavigation;
+        this.durationMillis = durationMillis;
+        this.timeToFirstByteMillis = timeToFirstByteMillis;
+        this.domContentLoadedMillis = domContentLoadedMillis;
+        this.loadEventMillis = loadEventMillis;
+        this.resourceCount = resourceCount;
+        this.resourceMillis = resourceMillis;
+        this.transferBytes = transferBytes;
+    }
+
+    /**
+     * Crea la medición a partir del objeto devuelto por el script de PagePerformance
+     */
+    static PageTiming fromScriptResult(String page, Map<?, ?> values) {
+        return new PageTiming(
+            page,
+            Boolean.TRUE.equals(values.get("hardNavigation")),
+            asLong(values.get("duration")),
+            asLong(values.get("ttfb")),
+            asLong(values.get("domContentLoaded")),
+            asLong(values.get("load")),
+            asLong(values.get("resourceCount")),
+            asLong(values.get("resourceMillis")),
+            asLong(values.get("transferBytes"))
+        );
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number ? Math.round(((Number) value).doubleValue()) : 0;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public boolean isHardNavigation() {
+        return hardNavigation;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getTimeToFirstByteMillis() {
+        return timeToFirstByteMillis;
+    }
+
+    public long getDomContentLoadedMillis() {
+        return domContentLoadedMillis;
+    }
+
+    public long getLoadEventMillis() {
+        return loadEventMillis;
+    }
+
+    public long getResourceCount() {
+        return resourceCount;
+    }
+
+    public long getResourceMillis() {
+        return resourceMillis;
+    }
+
+    public long getTransferBytes() {
+        return transferBytes;
+    }
+
+    /**
+     * Desglose legible de los tiempos, usado en los mensajes de violación de presupuesto
+     */
+    public String breakdown() {
+        return String.format(
+            "%s: total=%d ms (%s), ttfb=%d ms, domContentLoaded=%d ms, load=%d ms, resources=%d (%d ms, %d KB)",
+            page, durationMillis, hardNavigation ? "full load" : "in-app transition",
+            timeToFirstByteMillis, domContentLoadedMillis, loadEventMillis,
+            resourceCount, resourceMillis, transferBytes / 1024);
+    }
+
+    @Override
+    public String toString() {
+        return breakdown();
+    }
+}
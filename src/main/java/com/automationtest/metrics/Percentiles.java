@@ -0,0 +1,55 @@
+package com.automationtest.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Cálculo de percentiles (método nearest-rank) sobre una muestra de duraciones
+ */
+public class Percentiles {
+
+    private final long[] sortedValues;
+
+    private Percentiles(long[] sortedValues) {
+        this.sortedValues = sortedValues;
+    }
+
+    /**
+     * Crea el cálculo a partir de una muestra; la muestra no se modifica
+     */
+    public static Percentiles of(long[] values) {
+        long[] copy = Arrays.copyOf(values, values.length);
+        Arrays.sort(copy);
+        return new Percentiles(copy);
+    }
+
+    /**
+     * Devuelve el percentil indicado (0-100); 0 si la muestra está vacía
+     */
+    public long get(double percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(0, Math.min(rank, sortedValues.length) - 1)];
+    }
+
+    public long p50() {
+        return get(50);
+    }
+
+    public long p95() {
+        return get(95);
+    }
+
+    public long p99() {
+        return get(99);
+    }
+
+    public long max() {
+        return sortedValues.length == 0 ? 0 : sortedValues[sortedValues.length - 1];
+    }
+
+    public int count() {
+        return sortedValues.length;
+    }
+}
@@ -0,0 +1,162 @@
+package com.automationtest.metrics;
+
+import net.serenitybdd.screenplay.Actor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.automationtest.screenshots.ScreenshotPipeline;
+
+/**
+ * Instrumentación de latencia por paso
+ * Mide el tiempo de pared de cada Task, la cantidad de comandos WebDriver enviados y el tiempo
+ * pasado en esperas, por escenario y usuario. Las mediciones se exportan con MetricsExporter.
+ */
+public class StepMetrics {
+
+    private static final Queue<StepRecord> RECORDS = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<String> CURRENT_SCENARIO = ThreadLocal.withInitial(() -> "unknown");
+    private static final ThreadLocal<Deque<StepContext>> ACTIVE_STEPS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<int[]> DRIVER_CALL_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    private static final WebDriverListener COMMAND_COUNTER = new CommandCounter();
+
+    private StepMetrics() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Indica el escenario que se está ejecutando en el hilo actual
+     */
+    public static void startScenario(String scenarioName) {
+        CURRENT_SCENARIO.set(scenarioName);
+        ACTIVE_STEPS.get().clear();
+    }
+
+    /**
+     * Nombre del escenario que se está ejecutando en el hilo actual
+     */
+    public static String currentScenario() {
+        return CURRENT_SCENARIO.get();
+    }
+
+    /**
+     * Limpia el contexto del escenario del hilo actual
+     */
+    public static void endScenario() {
+        CURRENT_SCENARIO.remove();
+        ACTIVE_STEPS.remove();
+    }
+
+    /**
+     * Ejecuta un paso midiendo su duración, comandos WebDriver y tiempo de espera
+     * @param stepName El nombre del paso (por ejemplo LoginTask.typeUsernameAndPassword)
+     * @param actor El actor que ejecuta el paso; su nombre identifica al usuario
+     * @param step El cuerpo del paso
+     */
+    public static void measure(String stepName, Actor actor, Runnable step) {
+        Deque<StepContext> activeSteps = ACTIVE_STEPS.get();
+        StepContext context = new StepContext();
+        activeSteps.push(context);
+
+        long start = System.nanoTime();
+        boolean passed = false;
+        try {
+            step.run();
+            passed = true;
+        } finally {
+            long wallMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            activeSteps.pop();
+            StepContext parent = activeSteps.peek();
+            if (parent != null) {
+                parent.driverCalls += context.driverCalls;
+                parent.waitMillis += context.waitMillis;
+            }
+            RECORDS.add(new StepRecord(
+                CURRENT_SCENARIO.get(),
+                actor == null ? "unknown" : actor.getName(),
+                stepName,
+                activeSteps.size(),
+                wallMillis,
+                context.driverCalls,
+                context.waitMillis,
+                passed
+            ));
+        }
+    }
+
+    /**
+     * Suma tiempo de espera al paso en curso del hilo actual
+     */
+    public static void recordWait(long waitMillis) {
+        StepContext context = ACTIVE_STEPS.get().peek();
+        if (context != null) {
+            context.waitMillis += waitMillis;
+        }
+    }
+
+    /**
+     * Envuelve un WebDriver para contar cada comando enviado al navegador
+     * Se aplica una sola vez, al driver de la habilidad BrowseTheWeb de cada actor (ScreenplayHooks,
+     * BrowserlessDriver, el modo de carga), así se cuentan tanto las llamadas directas de las Tasks como
+     * las acciones de Serenity (Click, Enter, Open). Los comandos internos de Serenity que no pasan por el
+     * actor (por ejemplo sus propias capturas) no se cuentan.
+     * Los comandos anidados (un driver instrumentado que envuelve a otro) se cuentan una sola vez.
+     * Con screenshots.async.enabled también toma las capturas por acción a través de ScreenshotPipeline
+     */
+    public static WebDriver instrument(WebDriver driver) {
+        List<WebDriverListener> listeners = new ArrayList<>();
+        listeners.add(COMMAND_COUNTER);
+        if (ScreenshotPipeline.enabled()) {
+            listeners.add(ScreenshotPipeline.captureListener(driver));
+        }
+        return new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+    }
+
+    /**
+     * Devuelve una copia de las mediciones registradas hasta el momento
+     */
+    public static List<StepRecord> records() {
+        return new ArrayList<>(RECORDS);
+    }
+
+    private static class StepContext {
+        private long driverCalls;
+        private long waitMillis;
+    }
+
+    /**
+     * Listener que cuenta los round trips WebDriver del paso en curso
+     */
+    private static class CommandCounter implements WebDriverListener {
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            int[] depth = DRIVER_CALL_DEPTH.get();
+            if (depth[0]++ == 0) {
+                StepContext context = ACTIVE_STEPS.get().peek();
+                if (context != null) {
+                    context.driverCalls++;
+                }
+            }
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            DRIVER_CALL_DEPTH.get()[0]--;
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            DRIVER_CALL_DEPTH.get()[0]--;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.automationtest.metrics;
+
+/**
+ * Medición de un paso (ejecución de una Task) dentro de un escenario
+ */
+public class StepRecord {
+
+    private final String scenario;
+    private final String user;
+    private final String step;
+    private final int depth;
+    private final long wallMillis;
+    private final long driverCalls;
+    private final long waitMillis;
+    private final boolean passed;
+
+    public StepRecord(String scenario, String user, String step, int depth,
+                      long wallMillis, long driverCalls, long waitMillis, boolean passed) {
+        this.scenario = scenario;
+        this.user = user;
+        this.step = step;
+        this.depth = depth;
+        this.wallMillis = wallMillis;
+        this.driverCalls = driverCalls;
+        this.waitMillis = waitMillis;
+        this.passed = passed;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getWallMillis() {
+        return wallMillis;
+    }
+
+    public long getDriverCalls() {
+        return driverCalls;
+    }
+
+    public long getWaitMillis() {
+        return waitMillis;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+}
@@ -0,0 +1,203 @@
+package com.automationtest.reports;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestSourceRead;
+import io.cucumber.plugin.event.TestStepFinished;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Plugin de Cucumber que reemplaza a los formatters json: / junit: repetidos en los runners
+ * Los hilos de los escenarios solo encolan los eventos; un único hilo de fondo arma el resultado
+ * compacto de cada escenario, agrega una línea al log de tiempos (timings.ndjson) a medida que
+ * terminan los pasos, y al final de la ejecución escribe cucumber.json y cucumber.xml en una sola
+ * pasada sobre los escenarios. Los formatos se eligen con report.formats (por defecto json,junit,ndjson).
+ *
+ * Uso en @CucumberOptions: plugin = {"com.automationtest.reports.ConsolidatedReporter:target/cucumber-reports"}
+ */
+public class ConsolidatedReporter implements ConcurrentEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsolidatedReporter.class);
+    private static final Object STOP = new Object();
+
+    private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final ConsolidatedWriter writer;
+    private final Map<String, FeatureSource> features = new HashMap<>();
+    private final Map<UUID, ScenarioRecord> running = new HashMap<>();
+
+    /**
+     * @param outputDir Directorio donde se escriben los archivos de reporte
+     */
+    public ConsolidatedReporter(File outputDir) {
+        String configuredFormats = FrameworkProperties.get("report.formats", "json,junit,ndjson");
+        Set<String> formats = new LinkedHashSet<>(
+            Arrays.asList(configuredFormats.toLowerCase(Locale.ROOT).split("\\s*,\\s*")));
+        this.writer = new ConsolidatedWriter(outputDir.toPath(), formats);
+        Thread thread = new Thread(this::drain, "cucumber-report-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestSourceRead.class, this::enqueue);
+        publisher.registerHandlerFor(TestCaseStarted.class, this::enqueue);
+        publisher.registerHandlerFor(TestStepFinished.class, event -> events.add(new ThreadEvent(event)));
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> events.add(new ThreadEvent(event)));
+        publisher.registerHandlerFor(TestRunFinished.class, this::finish);
+    }
+
+    private void enqueue(Object event) {
+        events.add(event);
+    }
+
+    /**
+     * Espera a que el hilo de fondo escriba los reportes antes de que Cucumber termine
+     */
+    private void finish(TestRunFinished event) {
+        events.add(STOP);
+        long timeoutSeconds = FrameworkProperties.getLong("report.writer.timeout", 60);
+        try {
+            if (!finished.await(timeoutSeconds, TimeUnit.SECONDS)) {
+                LOGGER.warn("Report writer did not finish within {}s", timeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hilo de fondo: procesa los eventos en orden y escribe los reportes al recibir el fin de la ejecución
+     */
+    private void drain() {
+        try {
+            writer.open();
+            while (true) {
+                Object event = events.take();
+                if (event == STOP) {
+                    break;
+                }
+                handle(event);
+            }
+            writer.close(features);
+        } catch (IOException e) {
+            LOGGER.error("Could not write Cucumber reports: {}", e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void handle(Object event) throws IOException {
+        if (event instanceof TestSourceRead) {
+            TestSourceRead sourceRead = (TestSourceRead) event;
+            features.put(sourceRead.getUri().toString(), FeatureSource.parse(sourceRead.getSource()));
+        } else if (event instanceof TestCaseStarted) {
+            TestCaseStarted started = (TestCaseStarted) event;
+            TestCase testCase = started.getTestCase();
+            running.put(testCase.getId(), new ScenarioRecord(testCase.getUri().toString(), testCase.getKeyword(),
+                testCase.getName(), testCase.getLocation().getLine(), new ArrayList<>(testCase.getTags()),
+                started.getInstant().toEpochMilli()));
+        } else if (event instanceof ThreadEvent) {
+            ThreadEvent threadEvent = (ThreadEvent) event;
+            if (threadEvent.event instanceof TestStepFinished) {
+                stepFinished((TestStepFinished) threadEvent.event, threadEvent.threadName);
+            } else {
+                scenarioFinished((TestCaseFinished) threadEvent.event, threadEvent.threadName);
+            }
+        }
+    }
+
+    private void stepFinished(TestStepFinished event, String threadName) throws IOException {
+        ScenarioRecord scenario = running.get(event.getTestCase().getId());
+        if (scenario == null) {
+            return;
+        }
+        Result result = event.getResult();
+        String status = status(result);
+        long durationNanos = result.getDuration().toNanos();
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            ScenarioRecord.StepRecord record = new ScenarioRecord.StepRecord(step.getStep().getKeyword(),
+                step.getStep().getText(), step.getStep().getLine(), step.getCodeLocation(), status, durationNanos,
+                error(result));
+            scenario.steps.add(record);
+            writer.timing(scenario, record, threadName);
+        } else if (event.getTestStep() instanceof HookTestStep) {
+            HookType hookType = ((HookTestStep) event.getTestStep()).getHookType();
+            ScenarioRecord.StepRecord record = new ScenarioRecord.StepRecord("", "", 0,
+                event.getTestStep().getCodeLocation(), status, durationNanos, error(result));
+            if (hookType == HookType.BEFORE) {
+                scenario.before.add(record);
+            } else if (hookType == HookType.AFTER) {
+                scenario.after.add(record);
+            }
+        }
+    }
+
+    private void scenarioFinished(TestCaseFinished event, String threadName) throws IOException {
+        ScenarioRecord scenario = running.remove(event.getTestCase().getId());
+        if (scenario == null) {
+            return;
+        }
+        scenario.status = status(event.getResult());
+        scenario.durationNanos = event.getResult().getDuration().toNanos();
+        scenario.error = error(event.getResult());
+        writer.scenario(scenario, threadName);
+    }
+
+    private static String status(Result result) {
+        return result.getStatus().name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String error(Result result) {
+        if (result.getError() == null) {
+            return "";
+        }
+        StringWriter stackTrace = new StringWriter();
+        result.getError().printStackTrace(new PrintWriter(stackTrace));
+        return stackTrace.toString();
+    }
+
+    /**
+     * Evento con el nombre del hilo del escenario que lo publicó (para el log de tiempos)
+     */
+    private static class ThreadEvent {
+        private final Object event;
+        private final String threadName;
+
+        private ThreadEvent(Object event) {
+            this.event = event;
+            this.threadName = Thread.currentThread().getName();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.automationtest.reports;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Escritura de los formatos de ConsolidatedReporter; se usa solo desde el hilo de fondo del plugin
+ *   ndjson  timings.ndjson: una línea por paso y por escenario, escrita a medida que terminan
+ *   json    cucumber.json con el mismo esquema que el formatter json: de Cucumber
+ *   junit   cucumber.xml con el mismo esquema que el formatter junit: de Cucumber
+ * cucumber.json y cucumber.xml se escriben juntos al final, recorriendo los escenarios una sola vez.
+ */
+class ConsolidatedWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsolidatedWriter.class);
+    private static final Json JSON = new Json();
+
+    private final Path outputDir;
+    private final Set<String> formats;
+    private final Map<String, List<ScenarioRecord>> scenariosByUri = new TreeMap<>();
+    private Writer timings;
+
+    ConsolidatedWriter(Path outputDir, Set<String> formats) {
+        this.outputDir = outputDir;
+        this.formats = formats;
+    }
+
+    void open() throws IOException {
+        Files.createDirectories(outputDir);
+        if (formats.contains("ndjson")) {
+            timings = Files.newBufferedWriter(outputDir.resolve("timings.ndjson"), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Registra un paso terminado en el log de tiempos
+     */
+    void timing(ScenarioRecord scenario, ScenarioRecord.StepRecord step, String threadName) throws IOException {
+        if (timings == null) {
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", "step");
+        line.put("uri", scenario.uri);
+        line.put("scenario", scenario.name);
+        line.put("scenario_line", scenario.line);
+        line.put("step", step.keyword + step.text);
+        line.put("line", step.line);
+        line.put("status", step.status);
+        line.put("duration_ms", TimeUnit.NANOSECONDS.toMillis(step.durationNanos));
+        line.put("thread", threadName);
+        writeLine(line);
+    }
+
+    /**
+     * Registra un escenario terminado: línea en el log de tiempos y resultado para json / junit
+     */
+    void scenario(ScenarioRecord scenario, String threadName) throws IOException {
+        scenariosByUri.computeIfAbsent(scenario.uri, uri -> new ArrayList<>()).add(scenario);
+        if (timings == null) {
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", "scenario");
+        line.put("uri", scenario.uri);
+        line.put("scenario", scenario.name);
+        line.put("line", scenario.line);
+        line.put("status", scenario.status);
+        line.put("start", scenario.startEpochMillis);
+        line.put("duration_ms", TimeUnit.NANOSECONDS.toMillis(scenario.durationNanos));
+        line.put("thread", threadName);
+        writeLine(line);
+    }
+
+    /**
+     * Cierra el log de tiempos y escribe cucumber.json / cucumber.xml en una sola pasada
+     */
+    void close(Map<String, FeatureSource> features) throws IOException {
+        if (timings != null) {
+            timings.close();
+        }
+        boolean json = formats.contains("json");
+        boolean junit = formats.contains("junit");
+        if (!json && !junit) {
+            return;
+        }
+        for (List<ScenarioRecord> scenarios : scenariosByUri.values()) {
+            scenarios.sort(Comparator.comparingInt(scenario -> scenario.line));
+        }
+
+        try (Writer jsonWriter = json ? newWriter("cucumber.json") : null;
+             Writer xmlWriter = junit ? newWriter("cucumber.xml") : null) {
+            JsonOutput jsonOutput = null;
+            if (jsonWriter != null) {
+                jsonOutput = JSON.newOutput(jsonWriter);
+                jsonOutput.beginArray();
+            }
+            if (xmlWriter != null) {
+                writeSuiteStart(xmlWriter);
+            }
+            for (Map.Entry<String, List<ScenarioRecord>> entry : scenariosByUri.entrySet()) {
+                FeatureSource feature = features.getOrDefault(entry.getKey(), new FeatureSource());
+                if (jsonOutput != null) {
+                    jsonOutput.write(feature(entry.getKey(), feature, entry.getValue()));
+                }
+                if (xmlWriter != null) {
+                    for (ScenarioRecord scenario : entry.getValue()) {
+                        writeTestCase(xmlWriter, feature, scenario);
+                    }
+                }
+            }
+            if (jsonOutput != null) {
+                jsonOutput.endArray();
+                jsonOutput.close();
+            }
+            if (xmlWriter != null) {
+                xmlWriter.write("</testsuite>\n");
+            }
+        }
+        LOGGER.info("Cucumber reports {} written to {}", formats, outputDir.toAbsolutePath());
+    }
+
+    private Writer newWriter(String fileName) throws IOException {
+        return Files.newBufferedWriter(outputDir.resolve(fileName), StandardCharsets.UTF_8);
+    }
+
+    private void writeLine(Map<String, Object> line) throws IOException {
+        StringWriter text = new StringWriter();
+        try (JsonOutput output = JSON.newOutput(text)) {
+            output.setPrettyPrint(false);
+            output.write(line);
+        }
+        timings.write(text.toString());
+        timings.write('\n');
+    }
+
+    private static Map<String, Object> feature(String uri, FeatureSource source, List<ScenarioRecord> scenarios) {
+        Map<String, Object> feature = new LinkedHashMap<>();
+        feature.put("line", source.line);
+        List<Map<String, Object>> elements = new ArrayList<>();
+        for (ScenarioRecord scenario : scenarios) {
+            elements.add(element(source, scenario));
+        }
+        feature.put("elements", elements);
+        feature.put("name", source.name);
+        feature.put("description", source.description);
+        feature.put("id", source.id());
+        feature.put("keyword", source.keyword);
+        feature.put("uri", uri);
+        List<Map<String, Object>> tags = new ArrayList<>();
+        for (int index = 0; index < source.tags.size(); index++) {
+            Map<String, Object> tag = new LinkedHashMap<>();
+            tag.put("name", source.tags.get(index));
+            tag.put("type", "Tag");
+            tag.put("location", Map.of("line", source.tagLines.get(index), "column", 1));
+            tags.add(tag);
+        }
+        feature.put("tags", tags);
+        return feature;
+    }
+
+    private static Map<String, Object> element(FeatureSource source, ScenarioRecord scenario) {
+        Map<String, Object> element = new LinkedHashMap<>();
+        element.put("start_timestamp", Instant.ofEpochMilli(scenario.startEpochMillis).toString());
+        element.put("before", hooks(scenario.before));
+        element.put("line", scenario.line);
+        element.put("name", scenario.name);
+        element.put("description", "");
+        element.put("id", source.id() + ";" + FeatureSource.slug(scenario.name));
+        element.put("after", hooks(scenario.after));
+        element.put("type", "scenario");
+        element.put("keyword", scenario.keyword);
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (ScenarioRecord.StepRecord step : scenario.steps) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("result", result(step));
+            json.put("line", step.line);
+            json.put("name", step.text);
+            json.put("match", Collections.singletonMap("location", step.location));
+            json.put("keyword", step.keyword);
+            steps.add(json);
+        }
+        element.put("steps", steps);
+        List<Map<String, Object>> tags = new ArrayList<>();
+        for (String tag : scenario.tags) {
+            if (!source.tags.contains(tag)) {
+                tags.add(Map.of("name", tag));
+            }
+        }
+        element.put("tags", tags);
+        return element;
+    }
+
+    private static List<Map<String, Object>> hooks(List<ScenarioRecord.StepRecord> hooks) {
+        List<Map<String, Object>> json = new ArrayList<>();
+        for (ScenarioRecord.StepRecord hook : hooks) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("result", result(hook));
+            entry.put("match", Collections.singletonMap("location", hook.location));
+            json.add(entry);
+        }
+        return json;
+    }
+
+    private static Map<String, Object> result(ScenarioRecord.StepRecord step) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (!step.error.isEmpty()) {
+            result.put("error_message", step.error);
+        }
+        result.put("duration", step.durationNanos);
+        result.put("status", step.status);
+        return result;
+    }
+
+    private void writeSuiteStart(Writer writer) throws IOException {
+        int tests = 0;
+        int failures = 0;
+        int skipped = 0;
+        long durationNanos = 0;
+        for (List<ScenarioRecord> scenarios : scenariosByUri.values()) {
+            for (ScenarioRecord scenario : scenarios) {
+                tests++;
+                durationNanos += scenario.durationNanos;
+                if ("failed".equals(scenario.status)) {
+                    failures++;
+                } else if (!"passed".equals(scenario.status)) {
+                    skipped++;
+                }
+            }
+        }
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write(String.format(Locale.ROOT,
+            "<testsuite name=\"io.cucumber.core.plugin.JUnitFormatter\" tests=\"%d\" skipped=\"%d\" failures=\"%d\""
+                + " errors=\"0\" time=\"%s\">\n", tests, skipped, failures, seconds(durationNanos)));
+    }
+
+    private static void writeTestCase(Writer writer, FeatureSource feature, ScenarioRecord scenario)
+        throws IOException {
+        writer.write("<testcase classname=\"" + xml(feature.name) + "\" name=\"" + xml(scenario.name)
+            + "\" time=\"" + seconds(scenario.durationNanos) + "\">\n");
+        StringBuilder stepLines = new StringBuilder();
+        for (ScenarioRecord.StepRecord step : scenario.steps) {
+            String text = step.keyword + step.text;
+            stepLines.append(text);
+            for (int dots = text.length(); dots < 80; dots++) {
+                stepLines.append('.');
+            }
+            stepLines.append(step.status).append('\n');
+        }
+        String steps = cdata(stepLines.toString());
+        if ("failed".equals(scenario.status)) {
+            String message = scenario.error.isEmpty() ? "" : scenario.error.split("\\r?\\n", 2)[0];
+            writer.write("<failure message=\"" + xml(message) + "\"><![CDATA[" + steps + "\nStackTrace:\n"
+                + cdata(scenario.error) + "]]></failure>\n");
+        } else if (!"passed".equals(scenario.status)) {
+            writer.write("<skipped message=\"" + xml(scenario.status) + "\"><![CDATA[" + steps + "]]></skipped>\n");
+        } else {
+            writer.write("<system-out><![CDATA[" + steps + "]]></system-out>\n");
+        }
+        writer.write("</testcase>\n");
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000_000.0);
+    }
+
+    private static String xml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String cdata(String value) {
+        return value.replace("]]>", "]]]]><![CDATA[>");
+    }
+}
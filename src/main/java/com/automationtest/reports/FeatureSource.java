@@ -0,0 +1,72 @@
+package com.automationtest.reports;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Encabezado de un archivo .feature (nombre, línea, descripción y tags) para cucumber.json
+ * Se obtiene del texto del archivo sin el parser completo de Gherkin: solo se leen las líneas previas
+ * al primer Background / Scenario / Rule
+ */
+class FeatureSource {
+
+    private static final String[] BODY_KEYWORDS = {
+        "Background:", "Scenario:", "Scenario Outline:", "Scenario Template:", "Example:", "Rule:", "@", "#"
+    };
+
+    String keyword = "Feature";
+    String name = "";
+    int line;
+    String description = "";
+    final List<String> tags = new ArrayList<>();
+    final List<Integer> tagLines = new ArrayList<>();
+
+    static FeatureSource parse(String source) {
+        FeatureSource feature = new FeatureSource();
+        String[] lines = source.split("\\r?\\n");
+        StringBuilder description = new StringBuilder();
+        for (int index = 0; index < lines.length; index++) {
+            String text = lines[index].trim();
+            if (feature.line == 0) {
+                if (text.startsWith("@")) {
+                    for (String token : text.split("\\s+")) {
+                        if (token.startsWith("@")) {
+                            feature.tags.add(token);
+                            feature.tagLines.add(index + 1);
+                        }
+                    }
+                } else if (text.startsWith("Feature:")) {
+                    feature.name = text.substring("Feature:".length()).trim();
+                    feature.line = index + 1;
+                }
+            } else if (isBody(text)) {
+                break;
+            } else if (!text.isEmpty()) {
+                description.append(description.length() == 0 ? "" : "\n").append(text);
+            }
+        }
+        feature.description = description.toString();
+        return feature;
+    }
+
+    /**
+     * Identificador del feature en cucumber.json (nombre en minúsculas con guiones)
+     */
+    String id() {
+        return slug(name);
+    }
+
+    static String slug(String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("\\s+", "-").replace(";", "");
+    }
+
+    private static boolean isBody(String text) {
+        for (String keyword : BODY_KEYWORDS) {
+            if (text.startsWith(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,180 @@
+package com.automationtest.reports;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import org.openqa.selenium.json.Json;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plugin de Cucumber que lleva la estadística de intentos por escenario (feature:línea)
+ * Cada ejecución (la completa y las de RerunFailedRunner) agrega el resultado de cada escenario a su
+ * historial; un escenario que falló y pasó en intentos distintos se marca como inestable (flaky).
+ * El archivo se conserva entre ejecuciones mientras no se borre target/ y se escribe al terminar cada runner.
+ *
+ * Uso en @CucumberOptions: plugin = {"com.automationtest.reports.FlakeTracker:target/rerun/flake-stats.json"}
+ */
+public class FlakeTracker implements ConcurrentEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlakeTracker.class);
+    private static final Json JSON = new Json();
+    private static final int MAX_HISTORY = 20;
+
+    /**
+     * Estadística compartida por todos los runners de la JVM, así ninguno pisa lo que escribió otro
+     */
+    private static final Map<String, ScenarioStats> STATS = new TreeMap<>();
+    private static Path loadedFrom;
+
+    private final Path statsFile;
+
+    /**
+     * @param statsFile Archivo JSON con la estadística por escenario
+     */
+    public FlakeTracker(File statsFile) {
+        this.statsFile = statsFile.toPath();
+        load(this.statsFile);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::scenarioFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> write());
+    }
+
+    private void scenarioFinished(TestCaseFinished event) {
+        Status status = event.getResult().getStatus();
+        if (status != Status.PASSED && status != Status.FAILED) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        synchronized (STATS) {
+            STATS.computeIfAbsent(location(testCase), key -> new ScenarioStats(testCase.getName()))
+                .record(status == Status.PASSED);
+        }
+    }
+
+    private void write() {
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        List<String> flaky = new ArrayList<>();
+        synchronized (STATS) {
+            for (Map.Entry<String, ScenarioStats> entry : STATS.entrySet()) {
+                ScenarioStats stats = entry.getValue();
+                scenarios.add(stats.toJson(entry.getKey()));
+                if (stats.isFlaky()) {
+                    flaky.add(entry.getKey() + " " + stats.history + " (" + stats.name + ")");
+                }
+            }
+        }
+        try {
+            Files.createDirectories(statsFile.toAbsolutePath().getParent());
+            Files.write(statsFile, JSON.toJson(scenarios).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOGGER.warn("Could not write flake statistics to {}: {}", statsFile, e.getMessage());
+        }
+        if (!flaky.isEmpty()) {
+            LOGGER.warn("Unstable scenarios (P = passed, F = failed, oldest first):\n  {}", String.join("\n  ", flaky));
+        }
+    }
+
+    /**
+     * Carga la estadística guardada una sola vez por JVM
+     */
+    private static void load(Path statsFile) {
+        synchronized (STATS) {
+            if (statsFile.equals(loadedFrom)) {
+                return;
+            }
+            loadedFrom = statsFile;
+            if (!Files.exists(statsFile)) {
+                return;
+            }
+            try {
+                String content = new String(Files.readAllBytes(statsFile), StandardCharsets.UTF_8);
+                List<Map<String, Object>> scenarios = JSON.toType(content, Json.LIST_OF_MAPS_TYPE);
+                for (Map<String, Object> scenario : scenarios) {
+                    ScenarioStats stats = new ScenarioStats(String.valueOf(scenario.get("name")));
+                    stats.history = String.valueOf(scenario.getOrDefault("history", ""));
+                    stats.attempts = ((Number) scenario.getOrDefault("attempts", 0)).intValue();
+                    stats.failures = ((Number) scenario.getOrDefault("failures", 0)).intValue();
+                    STATS.put(String.valueOf(scenario.get("location")), stats);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Ignoring unreadable flake statistics {}: {}", statsFile, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * feature:línea relativo al directorio del proyecto, igual que en el archivo rerun
+     */
+    private static String location(TestCase testCase) {
+        URI uri = testCase.getUri();
+        String path = uri.getSchemeSpecificPart();
+        if ("file".equals(uri.getScheme())) {
+            try {
+                path = Paths.get("").toAbsolutePath().relativize(Paths.get(uri)).toString().replace('\\', '/');
+            } catch (IllegalArgumentException e) {
+                path = Paths.get(uri).toString();
+            }
+        }
+        return path + ":" + testCase.getLocation().getLine();
+    }
+
+    /**
+     * Intentos de un escenario: historial P/F de los últimos MAX_HISTORY intentos
+     */
+    private static class ScenarioStats {
+        private final String name;
+        private String history = "";
+        private int attempts;
+        private int failures;
+
+        private ScenarioStats(String name) {
+            this.name = name;
+        }
+
+        private void record(boolean passed) {
+            attempts++;
+            if (!passed) {
+                failures++;
+            }
+            history = history + (passed ? 'P' : 'F');
+            if (history.length() > MAX_HISTORY) {
+                history = history.substring(history.length() - MAX_HISTORY);
+            }
+        }
+
+        private boolean isFlaky() {
+            return history.indexOf('P') >= 0 && history.indexOf('F') >= 0;
+        }
+
+        private Map<String, Object> toJson(String location) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("location", location);
+            json.put("name", name);
+            json.put("attempts", attempts);
+            json.put("failures", failures);
+            json.put("failure_rate", attempts == 0 ? 0 : (double) failures / attempts);
+            json.put("flaky", isFlaky());
+            json.put("history", history);
+            return json;
+        }
+    }
+}
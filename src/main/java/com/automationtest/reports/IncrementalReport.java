@@ -0,0 +1,123 @@
+package com.automationtest.reports;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Agregación incremental de los resultados de Serenity
+ * En lugar de reconstruir todo el reporte en cada ejecución (serenity:aggregate), recorre los JSON de
+ * resultados uno por uno y compara el hash de cada archivo con el índice de la ejecución anterior:
+ *   - los resultados sin cambios no se vuelven a leer ni a renderizar
+ *   - los nuevos o modificados se leen en modo streaming y regeneran solo su página
+ *   - los que ya no existen se quitan del índice junto con su página
+ * La página principal se regenera desde el índice solo si algo cambió.
+ * La memoria usada depende del escenario más grande, no de la cantidad de escenarios.
+ *
+ * Uso: mvn -Pincremental-report exec:java@incremental-report (o ./run-tests.sh --incremental)
+ */
+public class IncrementalReport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalReport.class);
+    private static final String SCENARIOS_DIR = "scenarios";
+
+    private IncrementalReport() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    public static void main(String[] args) {
+        Path outcomesDir = Paths.get(FrameworkProperties.get("serenity.reports.outdir", "target/site/serenity"));
+        Path reportDir = Paths.get(FrameworkProperties.get("report.incremental.dir",
+            outcomesDir.resolve("incremental").toString()));
+        update(outcomesDir, reportDir);
+    }
+
+    /**
+     * Actualiza el reporte incremental con los resultados del directorio
+     * @param outcomesDir Directorio con los JSON de resultados de Serenity
+     * @param reportDir Directorio del reporte incremental (index.html, index.tsv y scenarios/)
+     */
+    public static void update(Path outcomesDir, Path reportDir) {
+        if (!Files.isDirectory(outcomesDir)) {
+            LOGGER.info("No Serenity outcomes in {}, nothing to aggregate", outcomesDir.toAbsolutePath());
+            return;
+        }
+        try {
+            Path scenariosDir = reportDir.resolve(SCENARIOS_DIR);
+            Files.createDirectories(scenariosDir);
+            String screenshotPrefix = scenariosDir.toAbsolutePath().relativize(outcomesDir.toAbsolutePath())
+                .toString().replace('\\', '/') + "/";
+            OutcomeIndex index = OutcomeIndex.load(reportDir.resolve("index.tsv"));
+
+            Set<String> present = new HashSet<>();
+            int rendered = 0;
+            int unchanged = 0;
+            int updated = 0;
+            try (DirectoryStream<Path> outcomes = Files.newDirectoryStream(outcomesDir, "*.json")) {
+                for (Path outcomeFile : outcomes) {
+                    String name = outcomeFile.getFileName().toString();
+                    present.add(name);
+                    String hash = ReportFiles.sha256(outcomeFile);
+                    OutcomeIndex.Entry previous = index.get(name);
+                    if (previous != null && previous.hash.equals(hash)) {
+                        unchanged++;
+                        continue;
+                    }
+                    updated++;
+                    if (render(outcomeFile, hash, index, scenariosDir, screenshotPrefix)) {
+                        rendered++;
+                    }
+                }
+            }
+
+            List<String> removed = index.retainOnly(present);
+            for (String name : removed) {
+                Files.deleteIfExists(scenariosDir.resolve(OutcomeIndex.Entry.pageFor(name)));
+            }
+
+            Path summary = reportDir.resolve("index.html");
+            if (updated > 0 || !removed.isEmpty() || !Files.exists(summary)) {
+                ReportPages.writeSummary(summary, index.scenarios());
+                index.save();
+            }
+            LOGGER.info("Incremental report {}: {} rendered, {} unchanged, {} removed",
+                summary.toAbsolutePath(), rendered, unchanged, removed.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not update the incremental report", e);
+        }
+    }
+
+    /**
+     * Lee un resultado nuevo o modificado y regenera su página
+     * @return true si el archivo era un resultado de prueba y se renderizó
+     */
+    private static boolean render(Path outcomeFile, String hash, OutcomeIndex index, Path scenariosDir,
+                                  String screenshotPrefix) throws IOException {
+        String name = outcomeFile.getFileName().toString();
+        ReportOutcome outcome;
+        try {
+            outcome = OutcomeReader.read(outcomeFile);
+        } catch (JsonException e) {
+            // Un archivo a medio escribir se reintenta en la próxima actualización
+            LOGGER.warn("Skipping unreadable outcome {}: {}", name, e.getMessage());
+            return false;
+        }
+        index.put(OutcomeIndex.Entry.of(name, hash, outcome));
+        if (!outcome.isTestOutcome()) {
+            return false;
+        }
+        ReportPages.writeScenario(scenariosDir.resolve(OutcomeIndex.Entry.pageFor(name)), outcome, screenshotPrefix);
+        return true;
+    }
+}
@@ -0,0 +1,155 @@
+package com.automationtest.reports;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Índice de los resultados ya procesados por el reporte incremental (index.tsv)
+ * Una línea por archivo de resultado: nombre, hash del contenido y el resumen que usa la página principal.
+ * Solo guarda esos pocos campos por escenario, nunca el contenido de los resultados.
+ */
+class OutcomeIndex {
+
+    private static final String HEADER = "file\thash\tfeature\ttitle\tresult\tduration_ms";
+
+    private final Path file;
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    private OutcomeIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Carga el índice; si no existe devuelve uno vacío (primera ejecución)
+     */
+    static OutcomeIndex load(Path file) throws IOException {
+        OutcomeIndex index = new OutcomeIndex(file);
+        if (!Files.exists(file)) {
+            return index;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (fields.length == 6) {
+                    Entry entry = new Entry(fields[0], fields[1], fields[2], fields[3], fields[4],
+                        Long.parseLong(fields[5]));
+                    index.entries.put(entry.file, entry);
+                }
+            }
+        }
+        return index;
+    }
+
+    Entry get(String outcomeFile) {
+        return entries.get(outcomeFile);
+    }
+
+    void put(Entry entry) {
+        entries.put(entry.file, entry);
+    }
+
+    /**
+     * Quita del índice los resultados que ya no existen
+     * @return Los archivos de resultado eliminados
+     */
+    List<String> retainOnly(Set<String> outcomeFiles) {
+        List<String> removed = new ArrayList<>();
+        Iterator<String> names = entries.keySet().iterator();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!outcomeFiles.contains(name)) {
+                removed.add(name);
+                names.remove();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Escenarios del índice ordenados por feature y título (excluye archivos que no son resultados)
+     */
+    List<Entry> scenarios() {
+        List<Entry> scenarios = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (!entry.result.isEmpty()) {
+                scenarios.add(entry);
+            }
+        }
+        scenarios.sort(Comparator.comparing((Entry entry) -> entry.feature).thenComparing(entry -> entry.title));
+        return scenarios;
+    }
+
+    Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    void save() throws IOException {
+        Path temp = ReportFiles.tempFileFor(file);
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Entry entry : entries.values()) {
+                writer.write(String.join("\t", entry.file, entry.hash, clean(entry.feature), clean(entry.title),
+                    entry.result, String.valueOf(entry.durationMillis)));
+                writer.newLine();
+            }
+        }
+        ReportFiles.replace(temp, file);
+    }
+
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ');
+    }
+
+    /**
+     * Línea del índice; result vacío indica un JSON que no es un resultado de prueba
+     */
+    static class Entry {
+        final String file;
+        final String hash;
+        final String feature;
+        final String title;
+        final String result;
+        final long durationMillis;
+
+        Entry(String file, String hash, String feature, String title, String result, long durationMillis) {
+            this.file = file;
+            this.hash = hash;
+            this.feature = feature;
+            this.title = title;
+            this.result = result;
+            this.durationMillis = durationMillis;
+        }
+
+        static Entry of(String file, String hash, ReportOutcome outcome) {
+            if (!outcome.isTestOutcome()) {
+                return new Entry(file, hash, "", "", "", 0);
+            }
+            return new Entry(file, hash, outcome.feature, outcome.title, outcome.result, outcome.durationMillis);
+        }
+
+        /**
+         * Nombre de la página del escenario dentro de scenarios/
+         */
+        String page() {
+            return pageFor(file);
+        }
+
+        static String pageFor(String outcomeFile) {
+            return outcomeFile.replaceAll("\\.json$", "") + ".html";
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.automationtest.reports;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.json.JsonType;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Lee un archivo de resultado de Serenity en modo streaming
+ * Recorre el JSON token por token y conserva solo los campos del reporte incremental
+ * (título, feature, resultado, duración y árbol de pasos); descarta HTML, tablas y demás sin cargarlos
+ */
+class OutcomeReader {
+
+    private static final Json JSON = new Json();
+
+    private OutcomeReader() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * @return El resultado leído; isTestOutcome() es false si el archivo no es un resultado de prueba
+     */
+    static ReportOutcome read(Path file) throws IOException {
+        ReportOutcome outcome = new ReportOutcome();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             JsonInput input = JSON.newInput(reader)) {
+            if (input.peek() != JsonType.START_MAP) {
+                return outcome;
+            }
+            input.beginObject();
+            while (input.hasNext()) {
+                switch (input.nextName()) {
+                    case "title":
+                        outcome.title = string(input);
+                        break;
+                    case "result":
+                        outcome.result = string(input);
+                        break;
+                    case "duration":
+                        outcome.durationMillis = number(input);
+                        break;
+                    case "testFailureMessage":
+                        outcome.failureMessage = string(input);
+                        break;
+                    case "userStory":
+                        outcome.feature = storyName(input);
+                        break;
+                    case "testSteps":
+                        readSteps(input, outcome.steps);
+                        break;
+                    default:
+                        input.skipValue();
+                }
+            }
+            input.endObject();
+        }
+        return outcome;
+    }
+
+    private static void readSteps(JsonInput input, List<ReportOutcome.Step> steps) {
+        if (input.peek() != JsonType.START_COLLECTION) {
+            input.skipValue();
+            return;
+        }
+        input.beginArray();
+        while (input.hasNext()) {
+            steps.add(readStep(input));
+        }
+        input.endArray();
+    }
+
+    private static ReportOutcome.Step readStep(JsonInput input) {
+        ReportOutcome.Step step = new ReportOutcome.Step();
+        if (input.peek() != JsonType.START_MAP) {
+            input.skipValue();
+            return step;
+        }
+        input.beginObject();
+        while (input.hasNext()) {
+            switch (input.nextName()) {
+                case "description":
+                    step.description = string(input);
+                    break;
+                case "result":
+                    step.result = string(input);
+                    break;
+                case "duration":
+                    step.durationMillis = number(input);
+                    break;
+                case "screenshots":
+                    step.screenshot = lastScreenshot(input);
+                    break;
+                case "children":
+                    readSteps(input, step.children);
+                    break;
+                default:
+                    input.skipValue();
+            }
+        }
+        input.endObject();
+        return step;
+    }
+
+    private static String storyName(JsonInput input) {
+        if (input.peek() != JsonType.START_MAP) {
+            input.skipValue();
+            return "";
+        }
+        String name = "";
+        input.beginObject();
+        while (input.hasNext()) {
+            if ("storyName".equals(input.nextName())) {
+                name = string(input);
+            } else {
+                input.skipValue();
+            }
+        }
+        input.endObject();
+        return name;
+    }
+
+    private static String lastScreenshot(JsonInput input) {
+        if (input.peek() != JsonType.START_COLLECTION) {
+            input.skipValue();
+            return "";
+        }
+        String screenshot = "";
+        input.beginArray();
+        while (input.hasNext()) {
+            if (input.peek() != JsonType.START_MAP) {
+                input.skipValue();
+                continue;
+            }
+            input.beginObject();
+            while (input.hasNext()) {
+                if ("screenshot".equals(input.nextName())) {
+                    screenshot = string(input);
+                } else {
+                    input.skipValue();
+                }
+            }
+            input.endObject();
+        }
+        input.endArray();
+        return screenshot;
+    }
+
+    private static String string(JsonInput input) {
+        if (input.peek() == JsonType.STRING) {
+            return input.nextString();
+        }
+        input.skipValue();
+        return "";
+    }
+
+    private static long number(JsonInput input) {
+        if (input.peek() == JsonType.NUMBER) {
+            return input.nextNumber().longValue();
+        }
+        input.skipValue();
+        return 0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.automationtest.reports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Operaciones de archivos del reporte incremental
+ */
+class ReportFiles {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ReportFiles() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Hash SHA-256 del contenido, leyendo el archivo por bloques
+     */
+    static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            while (input.read(buffer) != -1) {
+                // El digest se actualiza al leer
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte value : digest.digest()) {
+            hex.append(String.format("%02x", value));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Archivo temporal en el mismo directorio, para reemplazar el destino de forma atómica
+     */
+    static Path tempFileFor(Path target) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        return Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+    }
+
+    /**
+     * Reemplaza el destino por el archivo temporal; quien abre el reporte nunca ve una página a medias
+     */
+    static void replace(Path temp, Path target) throws IOException {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,36 @@
+package com.automationtest.reports;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de un escenario leído de un archivo JSON de Serenity
+ * Solo contiene lo que muestra el reporte incremental; el resto del JSON se descarta al leerlo
+ */
+class ReportOutcome {
+
+    String feature = "";
+    String title = "";
+    String result = "";
+    long durationMillis;
+    String failureMessage = "";
+    final List<Step> steps = new ArrayList<>();
+
+    /**
+     * Indica si el archivo era un resultado de prueba (otros JSON del directorio se ignoran)
+     */
+    boolean isTestOutcome() {
+        return !title.isEmpty() && !result.isEmpty();
+    }
+
+    /**
+     * Paso del escenario con sus pasos anidados
+     */
+    static class Step {
+        String description = "";
+        String result = "";
+        long durationMillis;
+        String screenshot = "";
+        final List<Step> children = new ArrayList<>();
+    }
+}
@@ -0,0 +1,116 @@
+package com.automationtest.reports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HTML del reporte incremental: una página por escenario y la página principal con el resumen
+ * Cada página se escribe directamente al archivo (sin armarla completa en memoria) y reemplaza a la anterior
+ */
+class ReportPages {
+
+    private static final String STYLE = "<style>"
+        + "body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}"
+        + "td,th{border:1px solid #ccc;padding:4px 8px;text-align:left}"
+        + ".SUCCESS{color:#2e7d32}.FAILURE,.ERROR,.COMPROMISED{color:#c62828}"
+        + ".PENDING,.IGNORED,.SKIPPED{color:#757575}ul{list-style:none}"
+        + "</style>";
+    private static final DateTimeFormatter UPDATED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private ReportPages() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Escribe la página de un escenario
+     * @param screenshotPrefix Ruta relativa desde la página hasta las capturas de Serenity
+     */
+    static void writeScenario(Path page, ReportOutcome outcome, String screenshotPrefix) throws IOException {
+        Path temp = ReportFiles.tempFileFor(page);
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(header(outcome.title));
+            writer.write("<p><a href=\"../index.html\">&larr; Summary</a></p>");
+            writer.write("<h1>" + escape(outcome.title) + "</h1>");
+            writer.write("<p>" + escape(outcome.feature) + " &middot; " + result(outcome.result)
+                + " &middot; " + outcome.durationMillis + " ms</p>");
+            if (!outcome.failureMessage.isEmpty()) {
+                writer.write("<pre>" + escape(outcome.failureMessage) + "</pre>");
+            }
+            writeSteps(writer, outcome.steps, screenshotPrefix);
+            writer.write("</body></html>");
+        }
+        ReportFiles.replace(temp, page);
+    }
+
+    /**
+     * Escribe la página principal a partir del índice
+     */
+    static void writeSummary(Path page, List<OutcomeIndex.Entry> scenarios) throws IOException {
+        Map<String, Integer> totals = new TreeMap<>();
+        for (OutcomeIndex.Entry scenario : scenarios) {
+            totals.merge(scenario.result, 1, Integer::sum);
+        }
+
+        Path temp = ReportFiles.tempFileFor(page);
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(header("Serenity incremental report"));
+            writer.write("<h1>Serenity incremental report</h1>");
+            writer.write("<p>Updated " + LocalDateTime.now().format(UPDATED_FORMAT) + " &middot; "
+                + scenarios.size() + " scenarios</p><p>");
+            for (Map.Entry<String, Integer> total : totals.entrySet()) {
+                writer.write(result(total.getKey()) + ": " + total.getValue() + "&nbsp;&nbsp;");
+            }
+            writer.write("</p><table><tr><th>Feature</th><th>Scenario</th><th>Result</th><th>Duration (ms)</th></tr>");
+            for (OutcomeIndex.Entry scenario : scenarios) {
+                writer.write("<tr><td>" + escape(scenario.feature) + "</td>"
+                    + "<td><a href=\"scenarios/" + escape(scenario.page()) + "\">"
+                    + escape(scenario.title) + "</a></td>"
+                    + "<td>" + result(scenario.result) + "</td>"
+                    + "<td>" + scenario.durationMillis + "</td></tr>");
+                writer.newLine();
+            }
+            writer.write("</table></body></html>");
+        }
+        ReportFiles.replace(temp, page);
+    }
+
+    private static void writeSteps(Writer writer, List<ReportOutcome.Step> steps, String screenshotPrefix)
+        throws IOException {
+        if (steps.isEmpty()) {
+            return;
+        }
+        writer.write("<ul>");
+        for (ReportOutcome.Step step : steps) {
+            writer.write("<li>" + result(step.result) + " " + escape(step.description)
+                + " <small>(" + step.durationMillis + " ms)</small>");
+            if (!step.screenshot.isEmpty()) {
+                writer.write(" <a href=\"" + escape(screenshotPrefix + step.screenshot) + "\">screenshot</a>");
+            }
+            writeSteps(writer, step.children, screenshotPrefix);
+            writer.write("</li>");
+        }
+        writer.write("</ul>");
+    }
+
+    private static String header(String title) {
+        return "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>" + escape(title) + "</title>"
+            + STYLE + "</head><body>";
+    }
+
+    private static String result(String result) {
+        return "<span class=\"" + escape(result) + "\">" + escape(result) + "</span>";
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
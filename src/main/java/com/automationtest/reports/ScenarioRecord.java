@@ -0,0 +1,57 @@
+package com.automationtest.reports;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado compacto de un escenario ejecutado, armado por ConsolidatedReporter a partir de los eventos
+ * Contiene solo lo necesario para escribir cucumber.json, cucumber.xml y el log de tiempos
+ */
+class ScenarioRecord {
+
+    final String uri;
+    final String keyword;
+    final String name;
+    final int line;
+    final List<String> tags;
+    final long startEpochMillis;
+    final List<StepRecord> before = new ArrayList<>();
+    final List<StepRecord> steps = new ArrayList<>();
+    final List<StepRecord> after = new ArrayList<>();
+    String status = "undefined";
+    long durationNanos;
+    String error = "";
+
+    ScenarioRecord(String uri, String keyword, String name, int line, List<String> tags, long startEpochMillis) {
+        this.uri = uri;
+        this.keyword = keyword;
+        this.name = name;
+        this.line = line;
+        this.tags = tags;
+        this.startEpochMillis = startEpochMillis;
+    }
+
+    /**
+     * Paso Gherkin o hook con su resultado
+     */
+    static class StepRecord {
+        final String keyword;
+        final String text;
+        final int line;
+        final String location;
+        final String status;
+        final long durationNanos;
+        final String error;
+
+        StepRecord(String keyword, String text, int line, String location, String status, long durationNanos,
+                   String error) {
+            this.keyword = keyword;
+            this.text = text;
+            this.line = line;
+            this.location = location;
+            this.status = status;
+            this.durationNanos = durationNanos;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.automationtest.screenshots;
+
+/**
+ * Captura de una acción procesada por ScreenshotPipeline
+ */
+public class ScreenshotFrame {
+
+    private final int index;
+    private final String action;
+    private final String fileName;
+    private final boolean duplicate;
+
+    /**
+     * @param index Posición de la acción dentro del escenario (desde 1)
+     * @param action Descripción de la acción que disparó la captura
+     * @param fileName Archivo de la captura dentro del directorio de salida
+     * @param duplicate true si la captura es idéntica a la anterior y no se volvió a escribir
+     */
+    public ScreenshotFrame(int index, String action, String fileName, boolean duplicate) {
+        this.index = index;
+        this.action = action;
+        this.fileName = fileName;
+        this.duplicate = duplicate;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public boolean isDuplicate() {
+        return duplicate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%03d %s -> %s%s", index, action, fileName, duplicate ? " (same as previous)" : "");
+    }
+}
@@ -0,0 +1,356 @@
+package com.automationtest.screenshots;
+
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.model.domain.TestStep;
+import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageIO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+import com.automationtest.util.WebDrivers;
+
+/**
+ * Capturas por acción fuera del hilo del escenario
+ * El hilo de la prueba solo pide los bytes PNG al navegador (un comando); la conversión a
+ * serenity.compress.filetype, la deduplicación y la escritura en disco se hacen en un pool acotado.
+ *   - Una captura idéntica a la anterior del mismo escenario (mismo hash) no se vuelve a convertir ni escribir
+ *   - Los archivos se nombran por hash, así una misma pantalla en varios escenarios se escribe una vez
+ *   - Como máximo screenshots.async.queue capturas pendientes: si la cola se llena, el hilo del escenario
+ *     espera a que se libere un lugar (backpressure) en vez de acumular memoria
+ * Las capturas de un mismo escenario se procesan en orden; escenarios distintos se procesan en paralelo.
+ *
+ * Cada captura se toma durante el paso de Serenity que la provocó (Click, Enter, Open o la Task) y, al
+ * terminar el escenario, se adjunta a ese paso: el reporte muestra las capturas igual que con
+ * FOR_EACH_ACTION, con los archivos en el directorio del reporte.
+ */
+public class ScreenshotPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotPipeline.class);
+    private static final ThreadLocal<ScenarioFrames> CURRENT_SCENARIO = new ThreadLocal<>();
+    private static final AtomicLong BACKPRESSURE_NANOS = new AtomicLong();
+    private static final AtomicInteger WRITTEN = new AtomicInteger();
+    private static final AtomicInteger SKIPPED = new AtomicInteger();
+
+    private static ExecutorService executor;
+    private static Semaphore slots;
+
+    private ScreenshotPipeline() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Indica si las capturas por acción pasan por este pipeline (screenshots.async.enabled)
+     */
+    public static boolean enabled() {
+        return FrameworkProperties.getBoolean("screenshots.async.enabled", false);
+    }
+
+    /**
+     * Directorio donde se escriben las capturas: el del reporte de Serenity, junto a sus propias capturas
+     */
+    public static Path outputDir() {
+        return Paths.get(FrameworkProperties.get("serenity.reports.outdir", "target/site/serenity"));
+    }
+
+    /**
+     * Comienza a registrar las capturas del escenario que corre en el hilo actual
+     */
+    public static void startScenario(String scenarioName) {
+        CURRENT_SCENARIO.set(new ScenarioFrames(scenarioName));
+    }
+
+    /**
+     * Toma la captura de la acción recién ejecutada y la encola para procesarla en segundo plano
+     * No hace nada fuera de un escenario (startScenario) o con el pipeline deshabilitado
+     * @param driver El WebDriver del actor
+     * @param action Descripción de la acción, para el reporte
+     */
+    public static void capture(WebDriver driver, String action) {
+        ScenarioFrames frames = CURRENT_SCENARIO.get();
+        if (frames == null) {
+            return;
+        }
+        WebDriver realDriver = WebDrivers.unwrap(driver);
+        if (!(realDriver instanceof TakesScreenshot)) {
+            // El backend sin navegador (@browserless) no pinta la página
+            return;
+        }
+        byte[] png;
+        try {
+            png = ((TakesScreenshot) realDriver).getScreenshotAs(OutputType.BYTES);
+        } catch (WebDriverException e) {
+            LOGGER.debug("Screenshot after '{}' failed: {}", action, e.getMessage());
+            return;
+        }
+        frames.submit(action, png, currentStep());
+    }
+
+    /**
+     * Espera a que se procesen las capturas pendientes del escenario del hilo actual y adjunta cada una
+     * al paso de Serenity durante el cual se tomó
+     * Se llama desde un hook @After, antes de que Serenity escriba el resultado del escenario
+     * @return Las capturas del escenario en orden; vacía si no hubo capturas o el pipeline no estaba activo
+     */
+    public static List<ScreenshotFrame> finishScenario() {
+        ScenarioFrames frames = CURRENT_SCENARIO.get();
+        CURRENT_SCENARIO.remove();
+        if (frames == null) {
+            return Collections.emptyList();
+        }
+        long timeoutSeconds = FrameworkProperties.getLong("screenshots.async.drain.timeout", 30);
+        try {
+            frames.tail.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("Screenshots of scenario '{}' not fully processed after {}s", frames.scenario, timeoutSeconds);
+        }
+        List<ScreenshotFrame> processed = frames.snapshot();
+        for (ScreenshotFrame frame : processed) {
+            TestStep step = frames.steps.get(frame.getIndex());
+            if (step != null && !frame.isDuplicate()) {
+                step.addScreenshot(new ScreenshotAndHtmlSource(outputDir().resolve(frame.getFileName()).toFile()));
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Listener que toma una captura después de cada clic, escritura, submit o navegación
+     * Se registra en el driver del actor (StepMetrics.instrument) cuando el pipeline está habilitado, así
+     * cubre tanto las acciones de Serenity como las llamadas directas de las Tasks
+     */
+    public static WebDriverListener captureListener(WebDriver driver) {
+        WebDriver browser = WebDrivers.unwrap(driver);
+        return new WebDriverListener() {
+            @Override
+            public void afterGet(WebDriver target, String url) {
+                capture(browser, "open " + url);
+            }
+
+            @Override
+            public void afterClick(WebElement element) {
+                capture(browser, "click " + describe(element));
+            }
+
+            @Override
+            public void afterSubmit(WebElement element) {
+                capture(browser, "submit " + describe(element));
+            }
+
+            @Override
+            public void afterSendKeys(WebElement element, CharSequence... keysToSend) {
+                capture(browser, "type into " + describe(element));
+            }
+        };
+    }
+
+    /**
+     * Espera las capturas en curso y detiene el pool; se llama al final de la ejecución
+     */
+    public static synchronized void shutdown() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(FrameworkProperties.getLong("screenshots.async.drain.timeout", 30),
+                TimeUnit.SECONDS)) {
+                int dropped = executor.shutdownNow().size();
+                LOGGER.warn("Screenshot pipeline did not drain in time, {} tasks dropped", dropped);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.info("Screenshot pipeline: {} files written, {} duplicates skipped, {} ms of backpressure",
+            WRITTEN.get(), SKIPPED.get(), TimeUnit.NANOSECONDS.toMillis(BACKPRESSURE_NANOS.get()));
+        executor = null;
+        slots = null;
+    }
+
+    /**
+     * Paso de Serenity en curso en el hilo actual, al que se adjuntará la captura
+     */
+    private static TestStep currentStep() {
+        StepEventBus eventBus = StepEventBus.getEventBus();
+        if (!eventBus.isBaseStepListenerRegistered()) {
+            return null;
+        }
+        Optional<TestStep> step = eventBus.getBaseStepListener().getCurrentTestOutcome().currentStep();
+        return step.orElse(null);
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (executor == null) {
+            int threads = FrameworkProperties.getInt("screenshots.async.threads", 2);
+            AtomicInteger counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-pipeline-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            slots = new Semaphore(FrameworkProperties.getInt("screenshots.async.queue", 16));
+        }
+        return executor;
+    }
+
+    private static synchronized Semaphore slots() {
+        executor();
+        return slots;
+    }
+
+    /**
+     * Convierte, deduplica y escribe una captura; devuelve su hash para comparar con la siguiente
+     */
+    private static String process(ScenarioFrames frames, int index, String action, byte[] png, String previousHash) {
+        try {
+            String hash = sha256(png);
+            String fileType = FrameworkProperties.get("serenity.compress.filetype", "png").toLowerCase();
+            String fileName = hash + "." + fileType;
+            if (hash.equals(previousHash)) {
+                SKIPPED.incrementAndGet();
+                frames.add(new ScreenshotFrame(index, action, fileName, true));
+                return hash;
+            }
+            Path file = outputDir().resolve(fileName);
+            if (!Files.exists(file)) {
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), hash, ".tmp");
+                Files.write(temp, encode(png, fileType));
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                WRITTEN.incrementAndGet();
+            } else {
+                SKIPPED.incrementAndGet();
+            }
+            frames.add(new ScreenshotFrame(index, action, fileName, false));
+            return hash;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not process screenshot after '{}': {}", action, e.getMessage());
+            return previousHash;
+        }
+    }
+
+    private static byte[] encode(byte[] png, String fileType) throws IOException {
+        if ("png".equals(fileType)) {
+            return png;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image.getColorModel().hasAlpha()) {
+            // JPEG no admite transparencia
+            BufferedImage opaque = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = opaque.createGraphics();
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+            graphics.dispose();
+            image = opaque;
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream(png.length / 2);
+        if (!ImageIO.write(image, fileType, output)) {
+            throw new IOException("No image writer for " + fileType);
+        }
+        return output.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte value : digest) {
+                hex.append(String.format("%02x", value));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Parte del locator en la descripción del elemento ("... -> css selector: #id")
+     */
+    private static String describe(WebElement element) {
+        String description = String.valueOf(element);
+        int arrow = description.lastIndexOf("-> ");
+        if (arrow < 0) {
+            return description;
+        }
+        String locator = description.substring(arrow + 3);
+        return locator.endsWith("]") ? locator.substring(0, locator.length() - 1) : locator;
+    }
+
+    /**
+     * Capturas de un escenario: cada una se encadena a la anterior para deduplicar en orden
+     */
+    private static class ScenarioFrames {
+        private final String scenario;
+        private final List<ScreenshotFrame> frames = new ArrayList<>();
+        private final Map<Integer, TestStep> steps = new HashMap<>();
+        private CompletableFuture<String> tail = CompletableFuture.completedFuture(null);
+        private int nextIndex;
+
+        private ScenarioFrames(String scenario) {
+            this.scenario = scenario;
+        }
+
+        private void submit(String action, byte[] png, TestStep step) {
+            Semaphore queue = slots();
+            long start = System.nanoTime();
+            try {
+                queue.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            BACKPRESSURE_NANOS.addAndGet(System.nanoTime() - start);
+
+            int index = ++nextIndex;
+            if (step != null) {
+                steps.put(index, step);
+            }
+            tail = tail
+                .thenApplyAsync(previousHash -> process(this, index, action, png, previousHash), executor())
+                .whenComplete((hash, error) -> queue.release());
+        }
+
+        private synchronized void add(ScreenshotFrame frame) {
+            frames.add(frame);
+        }
+
+        private synchronized List<ScreenshotFrame> snapshot() {
+            return new ArrayList<>(frames);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.automationtest.sharding;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.json.JsonType;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Duraciones por escenario de ejecuciones anteriores, leídas de archivos cucumber.json
+ * La duración de un escenario es la suma de sus hooks y pasos más el Background que lo precede.
+ * Con varias ejecuciones guardadas se usa la mediana, así una ejecución anómala no distorsiona el plan.
+ */
+class DurationHistory {
+
+    private static final Json JSON = new Json();
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Map<String, Map<Integer, List<Long>>> durations = new HashMap<>();
+
+    /**
+     * Guarda una copia del cucumber.json de la ejecución en el historial y conserva solo las últimas
+     * @param keep Cantidad de ejecuciones que se conservan
+     */
+    static Path record(Path cucumberJson, Path historyDir, int keep) throws IOException {
+        Files.createDirectories(historyDir);
+        Path copy = historyDir.resolve("cucumber-" + LocalDateTime.now().format(RUN_ID_FORMAT) + ".json");
+        Files.copy(cucumberJson, copy, StandardCopyOption.REPLACE_EXISTING);
+        List<Path> runs = runs(historyDir);
+        for (int index = 0; index < runs.size() - keep; index++) {
+            Files.deleteIfExists(runs.get(index));
+        }
+        return copy;
+    }
+
+    /**
+     * Lee todas las ejecuciones del historial
+     */
+    static DurationHistory load(Path historyDir) throws IOException {
+        DurationHistory history = new DurationHistory();
+        if (Files.isDirectory(historyDir)) {
+            for (Path run : runs(historyDir)) {
+                history.read(run);
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Cantidad de escenarios distintos con al menos una medición
+     */
+    int size() {
+        return durations.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Mediana de las duraciones registradas para el escenario
+     * @return La duración en milisegundos, o -1 si el escenario no aparece en el historial
+     */
+    long medianMillis(ScenarioLocation scenario) {
+        String featurePath = normalize(scenario.getFeaturePath());
+        for (Map.Entry<String, Map<Integer, List<Long>>> feature : durations.entrySet()) {
+            String historyPath = feature.getKey();
+            if (!historyPath.isEmpty() && (featurePath.endsWith(historyPath) || historyPath.endsWith(featurePath))) {
+                List<Long> samples = feature.getValue().get(scenario.getLine());
+                if (samples != null && !samples.isEmpty()) {
+                    List<Long> sorted = new ArrayList<>(samples);
+                    Collections.sort(sorted);
+                    return sorted.get(sorted.size() / 2);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static List<Path> runs(Path historyDir) throws IOException {
+        try (Stream<Path> files = Files.list(historyDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json")).sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Recorre un cucumber.json en modo streaming sumando las duraciones de cada escenario
+     */
+    private void read(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             JsonInput input = JSON.newInput(reader)) {
+            if (input.peek() != JsonType.START_COLLECTION) {
+                return;
+            }
+            input.beginArray();
+            while (input.hasNext()) {
+                readFeature(input);
+            }
+            input.endArray();
+        }
+    }
+
+    private void readFeature(JsonInput input) {
+        String uri = "";
+        List<long[]> elements = new ArrayList<>();
+        input.beginObject();
+        while (input.hasNext()) {
+            String name = input.nextName();
+            if ("uri".equals(name) && input.peek() == JsonType.STRING) {
+                uri = normalize(input.nextString());
+            } else if ("elements".equals(name) && input.peek() == JsonType.START_COLLECTION) {
+                input.beginArray();
+                while (input.hasNext()) {
+                    elements.add(readElement(input));
+                }
+                input.endArray();
+            } else {
+                input.skipValue();
+            }
+        }
+        input.endObject();
+
+        long backgroundNanos = 0;
+        Map<Integer, List<Long>> feature = durations.computeIfAbsent(uri, key -> new HashMap<>());
+        for (long[] element : elements) {
+            // element = {línea, duración en nanos, 1 si es Background}
+            if (element[2] == 1) {
+                backgroundNanos = element[1];
+                continue;
+            }
+            long millis = (element[1] + backgroundNanos) / 1_000_000;
+            feature.computeIfAbsent((int) element[0], key -> new ArrayList<>()).add(millis);
+            backgroundNanos = 0;
+        }
+    }
+
+    private static long[] readElement(JsonInput input) {
+        long[] element = new long[3];
+        input.beginObject();
+        while (input.hasNext()) {
+            String name = input.nextName();
+            if ("line".equals(name) && input.peek() == JsonType.NUMBER) {
+                element[0] = input.nextNumber().longValue();
+            } else if ("type".equals(name) && input.peek() == JsonType.STRING) {
+                element[2] = "background".equals(input.nextString()) ? 1 : 0;
+            } else if (("before".equals(name) || "steps".equals(name) || "after".equals(name))
+                && input.peek() == JsonType.START_COLLECTION) {
+                element[1] += sumDurations(input);
+            } else {
+                input.skipValue();
+            }
+        }
+        input.endObject();
+        return element;
+    }
+
+    /**
+     * Suma result.duration (nanosegundos) de una lista de pasos o hooks
+     */
+    private static long sumDurations(JsonInput input) {
+        long total = 0;
+        input.beginArray();
+        while (input.hasNext()) {
+            input.beginObject();
+            while (input.hasNext()) {
+                if ("result".equals(input.nextName()) && input.peek() == JsonType.START_MAP) {
+                    input.beginObject();
+                    while (input.hasNext()) {
+                        if ("duration".equals(input.nextName()) && input.peek() == JsonType.NUMBER) {
+                            total += input.nextNumber().longValue();
+                        } else {
+                            input.skipValue();
+                        }
+                    }
+                    input.endObject();
+                } else {
+                    input.skipValue();
+                }
+            }
+            input.endObject();
+        }
+        input.endArray();
+        return total;
+    }
+
+    /**
+     * Quita el esquema de la URI (file:, classpath:) para comparar rutas de .feature
+     */
+    private static String normalize(String uri) {
+        String path = uri.replace('\\', '/');
+        int scheme = path.indexOf(':');
+        if (scheme > 1) {
+            path = path.substring(scheme + 1);
+        }
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,109 @@
+package com.automationtest.sharding;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lista los escenarios ejecutables de los archivos .feature con su línea
+ * Cada fila de Examples de un Scenario Outline es un escenario propio (feature:línea de la fila),
+ * igual que en cucumber.json. Los tags se heredan del feature, del escenario y del bloque Examples.
+ */
+class FeatureScenarios {
+
+    private FeatureScenarios() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * @param featuresDir Directorio raíz de los .feature
+     * @param excludedTags Escenarios con alguno de estos tags no se planifican (por ejemplo @ignore)
+     */
+    static List<ScenarioLocation> list(Path featuresDir, Collection<String> excludedTags) throws IOException {
+        List<Path> featureFiles;
+        try (Stream<Path> files = Files.walk(featuresDir)) {
+            featureFiles = files.filter(file -> file.toString().endsWith(".feature")).sorted()
+                .collect(Collectors.toList());
+        }
+        List<ScenarioLocation> scenarios = new ArrayList<>();
+        for (Path featureFile : featureFiles) {
+            String featurePath = featureFile.toString().replace('\\', '/');
+            List<String> lines = Files.readAllLines(featureFile, StandardCharsets.UTF_8);
+            for (ScenarioLocation scenario : parse(featurePath, lines)) {
+                if (scenario.getTags().stream().noneMatch(excludedTags::contains)) {
+                    scenarios.add(scenario);
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    private static List<ScenarioLocation> parse(String featurePath, List<String> lines) {
+        List<ScenarioLocation> scenarios = new ArrayList<>();
+        List<String> featureTags = new ArrayList<>();
+        List<String> pendingTags = new ArrayList<>();
+        List<String> scenarioTags = new ArrayList<>();
+        List<String> examplesTags = new ArrayList<>();
+        boolean inFeature = false;
+        boolean inOutline = false;
+        boolean inExamples = false;
+        boolean headerRead = false;
+
+        for (int index = 0; index < lines.size(); index++) {
+            String text = lines.get(index).trim();
+            int lineNumber = index + 1;
+            if (text.isEmpty() || text.startsWith("#")) {
+                continue;
+            }
+            if (text.startsWith("@")) {
+                for (String token : text.split("\\s+")) {
+                    if (token.startsWith("@")) {
+                        pendingTags.add(token);
+                    }
+                }
+            } else if (text.startsWith("Feature:")) {
+                inFeature = true;
+                featureTags.addAll(pendingTags);
+                pendingTags.clear();
+            } else if (text.startsWith("Scenario Outline:") || text.startsWith("Scenario Template:")) {
+                scenarioTags = merge(featureTags, pendingTags);
+                pendingTags.clear();
+                inOutline = true;
+                inExamples = false;
+            } else if (text.startsWith("Scenario:") || text.startsWith("Example:")) {
+                scenarios.add(new ScenarioLocation(featurePath, lineNumber, merge(featureTags, pendingTags)));
+                pendingTags.clear();
+                inOutline = false;
+                inExamples = false;
+            } else if (inOutline && (text.startsWith("Examples:") || text.startsWith("Scenarios:"))) {
+                examplesTags = merge(scenarioTags, pendingTags);
+                pendingTags.clear();
+                inExamples = true;
+                headerRead = false;
+            } else if (inExamples && text.startsWith("|")) {
+                if (headerRead) {
+                    scenarios.add(new ScenarioLocation(featurePath, lineNumber, examplesTags));
+                } else {
+                    headerRead = true;
+                }
+            } else if (inFeature && (text.startsWith("Background:") || text.startsWith("Rule:"))) {
+                inOutline = false;
+                inExamples = false;
+                pendingTags.clear();
+            }
+        }
+        return scenarios;
+    }
+
+    private static List<String> merge(List<String> inherited, List<String> own) {
+        List<String> tags = new ArrayList<>(inherited);
+        tags.addAll(own);
+        return tags;
+    }
+}
@@ -0,0 +1,54 @@
+package com.automationtest.sharding;
+
+import java.util.List;
+
+/**
+ * Escenario (o fila de Examples) identificado por archivo .feature y línea, con su duración estimada
+ */
+class ScenarioLocation {
+
+    private final String featurePath;
+    private final int line;
+    private final List<String> tags;
+    private long estimatedMillis;
+    private boolean measured;
+
+    ScenarioLocation(String featurePath, int line, List<String> tags) {
+        this.featurePath = featurePath;
+        this.line = line;
+        this.tags = tags;
+    }
+
+    String getFeaturePath() {
+        return featurePath;
+    }
+
+    int getLine() {
+        return line;
+    }
+
+    List<String> getTags() {
+        return tags;
+    }
+
+    long getEstimatedMillis() {
+        return estimatedMillis;
+    }
+
+    /**
+     * Indica si la duración viene del historial o es la estimación por defecto
+     */
+    boolean isMeasured() {
+        return measured;
+    }
+
+    void estimate(long millis, boolean fromHistory) {
+        this.estimatedMillis = millis;
+        this.measured = fromHistory;
+    }
+
+    @Override
+    public String toString() {
+        return featurePath + ":" + line;
+    }
+}
@@ -0,0 +1,188 @@
+package com.automationtest.sharding;
+
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Reparte los escenarios entre shards (workers o jobs de CI) según su duración histórica
+ * Usa LPT (longest processing time first): ordena los escenarios de mayor a menor duración y asigna
+ * cada uno al shard con menos carga acumulada. Así el escenario lento (por ejemplo la fila de
+ * performance_glitch_user) no queda al final de un shard ya cargado y el tiempo total se acerca
+ * a la suma / N. Los escenarios sin historial usan la mediana de los conocidos.
+ *
+ * Uso:
+ *   ShardPlanner record   guarda target/cucumber-reports/cucumber.json en el historial (shard.history.dir)
+ *   ShardPlanner plan [N] escribe target/shards/shard-&lt;i&gt;.txt con las líneas feature:línea de cada shard
+ * Cada shard se ejecuta con: mvn test -Dcucumber.features=@target/shards/shard-1.txt
+ */
+public class ShardPlanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardPlanner.class);
+
+    private ShardPlanner() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    public static void main(String[] args) {
+        String command = args.length > 0 ? args[0] : "plan";
+        Path historyDir = Paths.get(FrameworkProperties.get("shard.history.dir", "shard-history"));
+        try {
+            if ("record".equals(command)) {
+                Path cucumberJson = Paths.get(FrameworkProperties.get("shard.history.source",
+                    "target/cucumber-reports/cucumber.json"));
+                Path copy = DurationHistory.record(cucumberJson, historyDir,
+                    FrameworkProperties.getInt("shard.history.keep", 10));
+                LOGGER.info("Durations of this run saved to {}", copy.toAbsolutePath());
+            } else if ("plan".equals(command)) {
+                int shards = args.length > 1 ? Integer.parseInt(args[1]) : FrameworkProperties.getInt("shard.count", 2);
+                plan(shards, historyDir);
+            } else {
+                throw new IllegalArgumentException("Unknown command '" + command + "', expected 'record' or 'plan'");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Shard planner failed", e);
+        }
+    }
+
+    /**
+     * Planifica los escenarios de shard.features.dir en N shards y escribe los archivos de cada shard
+     * @return Los escenarios asignados a cada shard
+     */
+    public static List<List<String>> plan(int shardCount, Path historyDir) throws IOException {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, got " + shardCount);
+        }
+        Path featuresDir = Paths.get(FrameworkProperties.get("shard.features.dir", "src/test/resources/features"));
+        List<String> excludedTags = Arrays.asList(
+            FrameworkProperties.get("shard.exclude.tags", "@ignore").trim().split("\\s*,\\s*"));
+        List<ScenarioLocation> scenarios = FeatureScenarios.list(featuresDir, excludedTags);
+        DurationHistory history = DurationHistory.load(historyDir);
+        estimate(scenarios, history);
+
+        List<Shard> shards = assign(scenarios, shardCount);
+        write(shards, Paths.get(FrameworkProperties.get("shard.output.dir", "target/shards")));
+
+        long total = scenarios.stream().mapToLong(ScenarioLocation::getEstimatedMillis).sum();
+        long makespan = shards.stream().mapToLong(shard -> shard.loadMillis).max().orElse(0);
+        LOGGER.info("Planned {} scenarios ({} with history) in {} shards: longest shard {} ms, ideal {} ms",
+            scenarios.size(), scenarios.stream().filter(ScenarioLocation::isMeasured).count(), shardCount,
+            makespan, total / shardCount);
+        return shards.stream()
+            .map(shard -> shard.scenarios.stream().map(ScenarioLocation::toString).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Asigna a cada escenario la mediana del historial, o la mediana de los conocidos si no tiene
+     */
+    private static void estimate(List<ScenarioLocation> scenarios, DurationHistory history) {
+        List<Long> known = new ArrayList<>();
+        for (ScenarioLocation scenario : scenarios) {
+            long millis = history.medianMillis(scenario);
+            if (millis >= 0) {
+                scenario.estimate(millis, true);
+                known.add(millis);
+            }
+        }
+        known.sort(Comparator.naturalOrder());
+        long fallback = known.isEmpty()
+            ? FrameworkProperties.getLong("shard.default.duration", 30000)
+            : known.get(known.size() / 2);
+        for (ScenarioLocation scenario : scenarios) {
+            if (!scenario.isMeasured()) {
+                scenario.estimate(fallback, false);
+            }
+        }
+    }
+
+    /**
+     * LPT: el escenario más largo pendiente va al shard con menos carga
+     * Los empates se resuelven por ubicación del escenario y por número de shard, así el plan es estable
+     */
+    static List<Shard> assign(List<ScenarioLocation> scenarios, int shardCount) {
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> byLoad = new PriorityQueue<>(
+            Comparator.comparingLong((Shard shard) -> shard.loadMillis).thenComparingInt(shard -> shard.index));
+        for (int index = 1; index <= shardCount; index++) {
+            Shard shard = new Shard(index);
+            shards.add(shard);
+            byLoad.add(shard);
+        }
+        List<ScenarioLocation> longestFirst = new ArrayList<>(scenarios);
+        longestFirst.sort(Comparator.comparingLong(ScenarioLocation::getEstimatedMillis).reversed()
+            .thenComparing(ScenarioLocation::toString));
+        for (ScenarioLocation scenario : longestFirst) {
+            Shard shard = byLoad.poll();
+            shard.scenarios.add(scenario);
+            shard.loadMillis += scenario.getEstimatedMillis();
+            byLoad.add(shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Escribe shard-&lt;i&gt;.txt (formato de archivo rerun de Cucumber: feature:línea:línea) y plan.json
+     */
+    private static void write(List<Shard> shards, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        List<Map<String, Object>> plan = new ArrayList<>();
+        for (Shard shard : shards) {
+            Map<String, List<Integer>> linesByFeature = new TreeMap<>();
+            for (ScenarioLocation scenario : shard.scenarios) {
+                linesByFeature.computeIfAbsent(scenario.getFeaturePath(), key -> new ArrayList<>())
+                    .add(scenario.getLine());
+            }
+            List<String> entries = new ArrayList<>();
+            for (Map.Entry<String, List<Integer>> feature : linesByFeature.entrySet()) {
+                feature.getValue().sort(Comparator.naturalOrder());
+                entries.add(feature.getKey() + ":" + feature.getValue().stream()
+                    .map(String::valueOf).collect(Collectors.joining(":")));
+            }
+            Files.write(outputDir.resolve("shard-" + shard.index + ".txt"),
+                (entries.isEmpty() ? "" : String.join("\n", entries) + "\n").getBytes(StandardCharsets.UTF_8));
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("shard", shard.index);
+            entry.put("estimated_ms", shard.loadMillis);
+            entry.put("features", entries);
+            entry.put("scenarios", shard.scenarios.stream().map(scenario -> {
+                Map<String, Object> planned = new LinkedHashMap<>();
+                planned.put("location", scenario.toString());
+                planned.put("estimated_ms", scenario.getEstimatedMillis());
+                planned.put("from_history", scenario.isMeasured());
+                return planned;
+            }).collect(Collectors.toList()));
+            plan.add(entry);
+            LOGGER.info("Shard {} (~{} ms): {}", shard.index, shard.loadMillis, String.join(" ", entries));
+        }
+        Files.write(outputDir.resolve("plan.json"), new Json().toJson(plan).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class Shard {
+        final int index;
+        final List<ScenarioLocation> scenarios = new ArrayList<>();
+        long loadMillis;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.automationtest.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.faults.FaultInjectionFilter;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Stand-in local de Saucedemo: servidor HTTP embebido (JDK HttpServer) que se arranca en la JVM de las pruebas
+ * Sirve las páginas de login, inventario, carrito, checkout y confirmación con los mismos data-test que
+ * usan los selectores de com.automationtest.ui, y reproduce locked_out_user, problem_user y
+ * performance_glitch_user (ver StandInUser). La sesión se guarda en la cookie session-username y el carrito
+ * en la cookie cart-contents, así el servidor no guarda estado entre peticiones.
+ * Cada cambio del carrito se confirma con un fetch a /api/cart, de modo que la latencia inyectada
+ * por FaultInjectionFilter (@slow-xhr) también retrasa la actualización del badge.
+ *
+ * Configuración (serenity.conf o -D):
+ *   standin.enabled       arranca el stand-in antes de los escenarios (por defecto false)
+ *   standin.port          puerto local; 0 elige uno libre (por defecto 0)
+ *   standin.glitch.delay  milisegundos de retraso del login de performance_glitch_user (por defecto 5000)
+ */
+public class SaucedemoStandIn {
+
+    public static final String SESSION_COOKIE = "session-username";
+    public static final String CART_COOKIE = "cart-contents";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaucedemoStandIn.class);
+    private static final int SESSION_MAX_AGE_SECONDS = 600;
+    private static final String CART_SEPARATOR = "-";
+    private static final String MEDIA_PATH = "/static/media/";
+    private static final String SVG_EXTENSION = ".svg";
+
+    private static SaucedemoStandIn shared;
+
+    private final int requestedPort;
+    private final long glitchDelayMillis;
+    private final StandInPages pages = new StandInPages();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public SaucedemoStandIn(int port, long glitchDelayMillis) {
+        this.requestedPort = port;
+        this.glitchDelayMillis = glitchDelayMillis;
+    }
+
+    /**
+     * Arranca (una sola vez por JVM) el stand-in compartido con la configuración actual
+     * Se detiene automáticamente al terminar la JVM
+     */
+    public static synchronized SaucedemoStandIn startShared() {
+        if (shared == null) {
+            SaucedemoStandIn standIn = new SaucedemoStandIn(
+                FrameworkProperties.getInt("standin.port", 0),
+                FrameworkProperties.getLong("standin.glitch.delay", 5000)
+            );
+            standIn.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(standIn::stop, "saucedemo-standin-shutdown"));
+            shared = standIn;
+        }
+        return shared;
+    }
+
+    /**
+     * Inicia el servidor en la interfaz de loopback
+     */
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the Saucedemo stand-in on port " + requestedPort, e);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "saucedemo-standin-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle).getFilters().add(new FaultInjectionFilter());
+        server.start();
+        LOGGER.info("Saucedemo stand-in listening on {}", getBaseUrl());
+    }
+
+    /**
+     * Detiene el servidor y libera el puerto
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        LOGGER.info("Saucedemo stand-in stopped");
+    }
+
+    /**
+     * URL base del stand-in, sin barra final (por ejemplo http://127.0.0.1:41234)
+     */
+    public String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("The Saucedemo stand-in is not running");
+        }
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange httpExchange) {
+        StandInExchange exchange = new StandInExchange(httpExchange);
+        try {
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.warn("Stand-in request {} {} failed: {}", exchange.getMethod(), exchange.getPath(), e.getMessage());
+            try {
+                exchange.html(500, "Internal error");
+            } catch (IOException | RuntimeException ignored) {
+                // La respuesta ya estaba comenzada; solo se cierra la conexión
+            }
+        } finally {
+            httpExchange.close();
+        }
+    }
+
+    private void route(StandInExchange exchange) throws IOException, InterruptedException {
+        String path = exchange.getPath();
+        boolean post = "POST".equals(exchange.getMethod());
+
+        switch (path) {
+            case "/":
+            case "/index.html":
+                if (post) {
+                    login(exchange);
+                } else {
+                    exchange.html(200, pages.login("", null));
+                }
+                return;
+            case "/favicon.ico":
+                exchange.send(200, "image/x-icon", new byte[0]);
+                return;
+            case "/static/app.js":
+                exchange.send(200, "application/javascript; charset=utf-8", pages.resource("app.js"));
+                return;
+            case "/static/app.css":
+                exchange.send(200, "text/css; charset=utf-8", pages.resource("app.css"));
+                return;
+            case "/logout":
+                exchange.setCookie(SESSION_COOKIE, "", 0);
+                exchange.setCookie(CART_COOKIE, "", 0);
+                exchange.redirect("/");
+                return;
+            default:
+                break;
+        }
+
+        if (path.startsWith(MEDIA_PATH) && path.endsWith(SVG_EXTENSION)) {
+            String image = path.substring(MEDIA_PATH.length(), path.length() - SVG_EXTENSION.length());
+            exchange.send(200, "image/svg+xml", pages.image(image));
+            return;
+        }
+
+        StandInUser user = currentUser(exchange);
+        if (user == null) {
+            exchange.redirect("/");
+            return;
+        }
+        routeAuthenticated(exchange, user, path, post);
+    }
+
+    /**
+     * Páginas que requieren una sesión iniciada
+     */
+    private void routeAuthenticated(StandInExchange exchange, StandInUser user, String path, boolean post)
+            throws IOException {
+        Set<StandInProduct> cart = cart(exchange);
+
+        switch (path) {
+            case "/inventory.html":
+                exchange.html(200, pages.inventory(user, cart));
+                break;
+            case "/cart.html":
+                exchange.html(200, pages.cart(user, cart));
+                break;
+            case "/checkout-step-one.html":
+                if (post) {
+                    submitCheckoutInformation(exchange, user, cart);
+                } else {
+                    exchange.html(200, pages.checkoutStepOne(user, cart.size(), Collections.emptyMap(), null));
+                }
+                break;
+            case "/checkout-step-two.html":
+                exchange.html(200, pages.checkoutStepTwo(user, cart));
+                break;
+            case "/api/cart":
+                byte[] json = ("{\"count\":" + cart.size() + "}").getBytes(StandardCharsets.UTF_8);
+                exchange.send(200, "application/json", json);
+                break;
+            case "/checkout-complete.html":
+                if (post) {
+                    exchange.setCookie(CART_COOKIE, "", 0);
+                    exchange.redirect("/checkout-complete.html");
+                } else {
+                    exchange.html(200, pages.checkoutComplete(user));
+                }
+                break;
+            default:
+                exchange.html(404, "Not found: " + StandInPages.escape(path));
+                break;
+        }
+    }
+
+    /**
+     * Valida las credenciales; si son correctas inicia la sesión y redirige al inventario
+     */
+    private void login(StandInExchange exchange) throws IOException, InterruptedException {
+        Map<String, String> form = exchange.form();
+        String username = form.getOrDefault("user-name", "");
+        String password = form.getOrDefault("password", "");
+
+        String error = loginError(username, password);
+        if (error != null) {
+            exchange.html(200, pages.login(username, error));
+            return;
+        }
+
+        StandInUser user = StandInUser.fromUsername(username);
+        if (user.hasSlowLogin()) {
+            Thread.sleep(glitchDelayMillis);
+        }
+        exchange.setCookie(SESSION_COOKIE, username, SESSION_MAX_AGE_SECONDS);
+        exchange.redirect("/inventory.html");
+    }
+
+    /**
+     * Mismos mensajes de error que el login de saucedemo.com
+     * @return El mensaje de error, o null si las credenciales son válidas
+     */
+    private static String loginError(String username, String password) {
+        if (username.isEmpty()) {
+            return "Epic sadface: Username is required";
+        }
+        if (password.isEmpty()) {
+            return "Epic sadface: Password is required";
+        }
+        StandInUser user = StandInUser.fromUsername(username);
+        if (user == null || !StandInUser.PASSWORD.equals(password)) {
+            return "Epic sadface: Username and password do not match any user in this service";
+        }
+        if (user.isLockedOut()) {
+            return "Epic sadface: Sorry, this user has been locked out.";
+        }
+        return null;
+    }
+
+    private void submitCheckoutInformation(StandInExchange exchange, StandInUser user, Set<StandInProduct> cart)
+            throws IOException {
+        Map<String, String> form = exchange.form();
+        String error = null;
+        if (form.getOrDefault("firstName", "").isEmpty()) {
+            error = "Error: First Name is required";
+        } else if (form.getOrDefault("lastName", "").isEmpty()) {
+            error = "Error: Last Name is required";
+        } else if (form.getOrDefault("postalCode", "").isEmpty()) {
+            error = "Error: Postal Code is required";
+        }
+
+        if (error != null) {
+            exchange.html(200, pages.checkoutStepOne(user, cart.size(), form, error));
+        } else {
+            exchange.redirect("/checkout-step-two.html");
+        }
+    }
+
+    /**
+     * Usuario de la sesión actual; los usuarios bloqueados o desconocidos no tienen sesión
+     */
+    private static StandInUser currentUser(StandInExchange exchange) {
+        String username = exchange.cookie(SESSION_COOKIE);
+        StandInUser user = username == null ? null : StandInUser.fromUsername(username);
+        return user == null || user.isLockedOut() ? null : user;
+    }
+
+    /**
+     * Productos del carrito guardados en la cookie cart-contents (ids separados por "-")
+     */
+    private static Set<StandInProduct> cart(StandInExchange exchange) {
+        Set<StandInProduct> cart = new LinkedHashSet<>();
+        String contents = exchange.cookie(CART_COOKIE);
+        if (contents == null || contents.isEmpty()) {
+            return cart;
+        }
+        for (String id : contents.split(CART_SEPARATOR)) {
+            try {
+                StandInProduct product = StandInProduct.byId(Integer.parseInt(id.trim()));
+                if (product != null) {
+                    cart.add(product);
+                }
+            } catch (NumberFormatException e) {
+                LOGGER.debug("Ignoring invalid cart entry '{}'", id);
+            }
+        }
+        return cart;
+    }
+}
@@ -0,0 +1,127 @@
+package com.automationtest.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Petición HTTP recibida por el stand-in con utilidades para cookies, formularios y respuestas
+ */
+class StandInExchange {
+
+    private static final String HTML_CONTENT_TYPE = "text/html; charset=utf-8";
+
+    private final HttpExchange exchange;
+    private Map<String, String> cookies;
+
+    StandInExchange(HttpExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    String getMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    String getPath() {
+        return exchange.getRequestURI().getPath();
+    }
+
+    /**
+     * Valor de una cookie de la petición
+     * @return El valor, o null si la cookie no fue enviada
+     */
+    String cookie(String name) {
+        if (cookies == null) {
+            cookies = new HashMap<>();
+            List<String> headers = exchange.getRequestHeaders().get("Cookie");
+            if (headers != null) {
+                for (String header : headers) {
+                    for (String pair : header.split(";")) {
+                        int separator = pair.indexOf('=');
+                        if (separator > 0) {
+                            cookies.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+                        }
+                    }
+                }
+            }
+        }
+        return cookies.get(name);
+    }
+
+    /**
+     * Campos de un formulario application/x-www-form-urlencoded enviado por POST
+     */
+    Map<String, String> form() throws IOException {
+        Map<String, String> fields = new HashMap<>();
+        String body = new String(readBody(), StandardCharsets.UTF_8);
+        for (String pair : body.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            fields.put(decode(name), decode(value));
+        }
+        return fields;
+    }
+
+    /**
+     * Agrega una cookie a la respuesta
+     * @param maxAgeSeconds Duración de la cookie; 0 la elimina del navegador
+     */
+    void setCookie(String name, String value, int maxAgeSeconds) {
+        exchange.getResponseHeaders().add("Set-Cookie",
+            name + "=" + value + "; Path=/; Max-Age=" + maxAgeSeconds);
+    }
+
+    void html(int status, String body) throws IOException {
+        send(status, HTML_CONTENT_TYPE, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redirige con 303 See Other, para que el navegador siga con un GET después de un POST
+     */
+    void redirect(String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(303, -1);
+        exchange.close();
+    }
+
+    void send(int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        if ("HEAD".equals(getMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private byte[] readBody() throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4096];
+            int read;
+            while ((read = input.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,218 @@
+package com.automationtest.standin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Genera el HTML de las páginas del stand-in a partir de las plantillas en src/main/resources/standin
+ * Las plantillas usan marcadores ${nombre}; los valores de texto se escapan antes de insertarlos
+ */
+class StandInPages {
+
+    private static final String RESOURCE_ROOT = "/standin/";
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.08");
+
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+
+    String login(String username, String error) {
+        StringBuilder usernames = new StringBuilder();
+        for (StandInUser user : StandInUser.values()) {
+            usernames.append(user.getUsername()).append("<br>");
+        }
+        Map<String, String> values = new HashMap<>();
+        values.put("username", escape(username));
+        values.put("error", errorMessage(error));
+        values.put("usernames", usernames.toString());
+        values.put("password", StandInUser.PASSWORD);
+        return layout("", render("login.html", values));
+    }
+
+    String inventory(StandInUser user, Collection<StandInProduct> cart) {
+        StringBuilder items = new StringBuilder();
+        for (StandInProduct product : StandInProduct.CATALOG) {
+            Map<String, String> values = productValues(product);
+            values.put("image", user.imageFor(product));
+            values.put("button", button(user, product, cart.contains(product)));
+            items.append(render("inventory-item.html", values));
+        }
+        Map<String, String> values = new HashMap<>();
+        values.put("header", header("Products", cart.size()));
+        values.put("items", items.toString());
+        return layout(bodyClass(user), render("inventory.html", values));
+    }
+
+    String cart(StandInUser user, Collection<StandInProduct> cart) {
+        Map<String, String> values = new HashMap<>();
+        values.put("header", header("Your Cart", cart.size()));
+        values.put("items", cartItems(user, cart, true));
+        return layout(bodyClass(user), render("cart.html", values));
+    }
+
+    String checkoutStepOne(StandInUser user, int cartSize, Map<String, String> form, String error) {
+        Map<String, String> values = new HashMap<>();
+        values.put("header", header("Checkout: Your Information", cartSize));
+        values.put("firstName", escape(form.getOrDefault("firstName", "")));
+        values.put("lastName", escape(form.getOrDefault("lastName", "")));
+        values.put("postalCode", escape(form.getOrDefault("postalCode", "")));
+        values.put("error", errorMessage(error));
+        return layout(bodyClass(user), render("checkout-step-one.html", values));
+    }
+
+    String checkoutStepTwo(StandInUser user, Collection<StandInProduct> cart) {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (StandInProduct product : cart) {
+            subtotal = subtotal.add(product.getPrice());
+        }
+        BigDecimal tax = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+
+        Map<String, String> values = new HashMap<>();
+        values.put("header", header("Checkout: Overview", cart.size()));
+        values.put("items", cartItems(user, cart, false));
+        values.put("subtotal", subtotal.setScale(2, RoundingMode.HALF_UP).toPlainString());
+        values.put("tax", tax.toPlainString());
+        values.put("total", subtotal.add(tax).setScale(2, RoundingMode.HALF_UP).toPlainString());
+        return layout(bodyClass(user), render("checkout-step-two.html", values));
+    }
+
+    String checkoutComplete(StandInUser user) {
+        Map<String, String> values = new HashMap<>();
+        values.put("header", header("Checkout: Complete!", 0));
+        return layout(bodyClass(user), render("checkout-complete.html", values));
+    }
+
+    /**
+     * Imagen SVG de relleno para un producto; el color depende del nombre para que cada imagen sea distinta
+     */
+    byte[] image(String name) {
+        String color = String.format("#%06x", name.hashCode() & 0xffffff);
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"240\" height=\"300\" viewBox=\"0 0 240 300\">"
+            + "<rect width=\"240\" height=\"300\" fill=\"" + color + "\"/>"
+            + "<text x=\"120\" y=\"150\" font-family=\"Arial\" font-size=\"16\" fill=\"#fff\" text-anchor=\"middle\">"
+            + escape(name) + "</text></svg>";
+        return svg.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Contenido de un archivo estático (CSS, JS) del stand-in
+     */
+    byte[] resource(String name) {
+        try (InputStream input = StandInPages.class.getResourceAsStream(RESOURCE_ROOT + name)) {
+            if (input == null) {
+                throw new IllegalStateException("Stand-in resource not found: " + RESOURCE_ROOT + name);
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4096];
+            int read;
+            while ((read = input.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read stand-in resource " + name, e);
+        }
+    }
+
+    private String cartItems(StandInUser user, Collection<StandInProduct> cart, boolean withButtons) {
+        StringBuilder items = new StringBuilder();
+        for (StandInProduct product : cart) {
+            Map<String, String> values = productValues(product);
+            values.put("button", withButtons ? button(user, product, true) : "");
+            items.append(render("cart-item.html", values));
+        }
+        return items.toString();
+    }
+
+    private Map<String, String> productValues(StandInProduct product) {
+        Map<String, String> values = new HashMap<>();
+        values.put("id", String.valueOf(product.getId()));
+        values.put("name", escape(product.getName()));
+        values.put("slug", escape(product.getSlug()));
+        values.put("description", escape(product.getDescription()));
+        values.put("price", product.getPrice().toPlainString());
+        return values;
+    }
+
+    /**
+     * Botón "Add to cart" / "Remove" con los mismos data-test que saucedemo.com
+     * Los botones que no funcionan para el usuario se marcan con data-broken
+     */
+    private String button(StandInUser user, StandInProduct product, boolean inCart) {
+        String slug = escape(product.getSlug());
+        String action = (inCart ? "remove-" : "add-to-cart-") + slug;
+        return "<button class=\"btn " + (inCart ? "btn_secondary" : "btn_primary") + " btn_small btn_inventory\""
+            + " data-test=\"" + action + "\" id=\"" + action + "\" name=\"" + action + "\""
+            + " data-item-id=\"" + product.getId() + "\" data-slug=\"" + slug + "\""
+            + (user.canToggle(product) ? "" : " data-broken=\"true\"")
+            + ">" + (inCart ? "Remove" : "Add to cart") + "</button>";
+    }
+
+    private String header(String title, int cartSize) {
+        Map<String, String> values = new HashMap<>();
+        values.put("title", escape(title));
+        values.put("cartBadge", cartSize == 0 ? ""
+            : "<span class=\"shopping_cart_badge\" data-test=\"shopping-cart-badge\">" + cartSize + "</span>");
+        return render("header.html", values);
+    }
+
+    private String layout(String bodyClass, String content) {
+        Map<String, String> values = new HashMap<>();
+        values.put("bodyClass", bodyClass);
+        values.put("content", content);
+        return render("layout.html", values);
+    }
+
+    private static String bodyClass(StandInUser user) {
+        return user.hasBrokenLastName() ? "problem-user" : "";
+    }
+
+    private static String errorMessage(String error) {
+        if (error == null || error.isEmpty()) {
+            return "";
+        }
+        return "<h3 data-test=\"error\">" + escape(error) + "</h3>";
+    }
+
+    private String render(String templateName, Map<String, String> values) {
+        String template = templates.computeIfAbsent(templateName,
+            name -> new String(resource(name), StandardCharsets.UTF_8));
+        StringBuilder html = new StringBuilder(template.length() + 256);
+        int position = 0;
+        while (true) {
+            int start = template.indexOf("${", position);
+            if (start < 0) {
+                break;
+            }
+            int end = template.indexOf('}', start);
+            html.append(template, position, start);
+            String value = values.get(template.substring(start + 2, end));
+            html.append(value == null ? "" : value);
+            position = end + 1;
+        }
+        html.append(template, position, template.length());
+        return html.toString();
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '&': escaped.append("&amp;"); break;
+                case '<': escaped.append("&lt;"); break;
+                case '>': escaped.append("&gt;"); break;
+                case '"': escaped.append("&quot;"); break;
+                case '\'': escaped.append("&#39;"); break;
+                default: escaped.append(character);
+            }
+        }
+        return escaped.toString();
+    }
+}
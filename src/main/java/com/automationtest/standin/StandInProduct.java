@@ -0,0 +1,86 @@
+package com.automationtest.standin;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Producto del catálogo del stand-in local
+ * Mismos ids, nombres, precios y data-test que el inventario de saucedemo.com
+ */
+class StandInProduct {
+
+    /**
+     * Catálogo en el orden en que se muestra (nombre A-Z)
+     */
+    static final List<StandInProduct> CATALOG = Collections.unmodifiableList(Arrays.asList(
+        new StandInProduct(4, "Sauce Labs Backpack", "29.99", "sauce-backpack",
+            "carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection."),
+        new StandInProduct(0, "Sauce Labs Bike Light", "9.99", "bike-light",
+            "A red light isn't the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included."),
+        new StandInProduct(1, "Sauce Labs Bolt T-Shirt", "15.99", "bolt-shirt",
+            "Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt."),
+        new StandInProduct(5, "Sauce Labs Fleece Jacket", "49.99", "sauce-pullover",
+            "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office."),
+        new StandInProduct(2, "Sauce Labs Onesie", "7.99", "red-onesie",
+            "Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won't unravel."),
+        new StandInProduct(3, "Test.allTheThings() T-Shirt (Red)", "15.99", "red-tatt",
+            "This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.")
+    ));
+
+    private final int id;
+    private final String name;
+    private final BigDecimal price;
+    private final String image;
+    private final String description;
+
+    private StandInProduct(int id, String name, String price, String image, String description) {
+        this.id = id;
+        this.name = name;
+        this.price = new BigDecimal(price);
+        this.image = image;
+        this.description = description;
+    }
+
+    /**
+     * Busca un producto por su id
+     * @return El producto, o null si el id no existe
+     */
+    static StandInProduct byId(int id) {
+        for (StandInProduct product : CATALOG) {
+            if (product.id == id) {
+                return product;
+            }
+        }
+        return null;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    BigDecimal getPrice() {
+        return price;
+    }
+
+    String getImage() {
+        return image;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    /**
+     * Nombre en el formato de los data-test de Saucedemo, por ejemplo "sauce-labs-backpack"
+     */
+    String getSlug() {
+        return name.toLowerCase(Locale.ROOT).replace(' ', '-');
+    }
+}
@@ -0,0 +1,90 @@
+package com.automationtest.standin;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Usuarios aceptados por el stand-in local y el comportamiento que reproduce cada uno
+ *   standard_user            flujo normal
+ *   locked_out_user          el login falla con el mensaje de usuario bloqueado
+ *   problem_user             todas las imágenes son iguales, algunos botones "Add to cart" no hacen nada
+ *                            y el campo Last Name del checkout escribe en First Name
+ *   performance_glitch_user  el login responde con retraso (standin.glitch.delay)
+ */
+public enum StandInUser {
+
+    STANDARD("standard_user"),
+    LOCKED_OUT("locked_out_user"),
+    PROBLEM("problem_user"),
+    PERFORMANCE_GLITCH("performance_glitch_user");
+
+    public static final String PASSWORD = "secret_sauce";
+
+    /**
+     * Productos cuyo botón "Add to cart" no funciona para problem_user (igual que en saucedemo.com)
+     */
+    private static final Set<Integer> PROBLEM_USER_BROKEN_ITEMS = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList(1, 3, 5))
+    );
+    private static final String PROBLEM_USER_IMAGE = "sl-404";
+
+    private final String username;
+
+    StandInUser(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Busca el usuario por su nombre de login
+     * @return El usuario, o null si no existe
+     */
+    public static StandInUser fromUsername(String username) {
+        for (StandInUser user : values()) {
+            if (user.username.equals(username)) {
+                return user;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indica si el usuario puede iniciar sesión
+     */
+    boolean isLockedOut() {
+        return this == LOCKED_OUT;
+    }
+
+    /**
+     * Indica si el login de este usuario se responde con retraso
+     */
+    boolean hasSlowLogin() {
+        return this == PERFORMANCE_GLITCH;
+    }
+
+    /**
+     * Indica si el campo Last Name del checkout está roto
+     */
+    boolean hasBrokenLastName() {
+        return this == PROBLEM;
+    }
+
+    /**
+     * Indica si el botón "Add to cart" / "Remove" del producto funciona para este usuario
+     */
+    boolean canToggle(StandInProduct product) {
+        return this != PROBLEM || !PROBLEM_USER_BROKEN_ITEMS.contains(product.getId());
+    }
+
+    /**
+     * Nombre de la imagen que ve este usuario para el producto
+     */
+    String imageFor(StandInProduct product) {
+        return this == PROBLEM ? PROBLEM_USER_IMAGE : product.getImage();
+    }
+}
@@ -3,13 +3,51 @@ package com.automationtest.tasks;
 import net.serenitybdd.screenplay.Task;
 import net.serenitybdd.screenplay.Actor;
 
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.ui.ElementCache;
+
 /**
  * Clase base para todas las Tasks
+ * Mide cada ejecución (tiempo, comandos WebDriver y esperas) antes de delegar en performStep
+ * y registra en TaskLedger qué Tasks se crearon y cuáles se ejecutaron.
+ * Cada Task empieza con la caché de elementos vacía: las acciones previas pudieron cambiar de página
  */
 public abstract class BaseTask implements Task {
 
+    /**
+     * No es final: Serenity copia los campos de la Task en su copia instrumentada y así la copia
+     * conserva el identificador de la original
+     */
+    private long ledgerId;
+
+    protected BaseTask() {
+        ledgerId = TaskLedger.created(this);
+    }
+
     @Override
     public <T extends Actor> void performAs(T actor) {
-        // Implementar en clases derivadas
+        TaskLedger.performed(this);
+        ElementCache.clear();
+        StepMetrics.measure(stepName(), actor, () -> performStep(actor));
+    }
+
+    long ledgerId() {
+        return ledgerId;
+    }
+
+    /**
+     * Implementar en clases derivadas
+     */
+    protected abstract <T extends Actor> void performStep(T actor);
+
+    /**
+     * Nombre del paso: clase y método de fábrica que creó la Task (por ejemplo CartTask.proceedToCheckout)
+     */
+    protected String stepName() {
+        Class<?> type = getClass();
+        if (type.isAnonymousClass() && type.getEnclosingMethod() != null) {
+            return type.getEnclosingClass().getSimpleName() + "." + type.getEnclosingMethod().getName();
+        }
+        return type.getSimpleName();
     }
 }
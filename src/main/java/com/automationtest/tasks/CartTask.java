@@ -1,7 +1,7 @@
 package com.automationtest.tasks;
 
-import net.serenitybdd.screenplay.Task;
 import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
 import net.serenitybdd.screenplay.actions.Click;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -9,16 +9,23 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.automationtest.metrics.PagePerformance;
 import com.automationtest.ui.CartPage;
+import com.automationtest.ui.CommonComponents;
+import com.automationtest.ui.ElementCache;
+import com.automationtest.util.BatchedDomReader;
+import com.automationtest.util.ItemSnapshot;
+import com.automationtest.waits.WaitEngine;
 
 /**
  * Task para realizar acciones en la página del Carrito de Saucedemo
  * Contiene métodos para validar cantidad de items y proceder al checkout
  */
-public class CartTask implements Task {
+public class CartTask extends BaseTask {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CartTask.class);
     private static final int EXPECTED_ITEM_COUNT = 4;
+    private static final String CHECKOUT_STEP_ONE_URL = "checkout-step-one.html";
 
     /**
      * Valida la cantidad de items en el carrito
@@ -29,12 +36,13 @@ public class CartTask implements Task {
     public static CartTask cartItemsCounter(String username) {
         return new CartTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
-                WebDriver driver = getWebDriver();
-                List<WebElement> cartItems = driver.findElements(CartPage.CART_ITEMS);
+            protected <T extends Actor> void performStep(T actor) {
+                WebDriver driver = getWebDriver(actor);
+                List<ItemSnapshot> cartItems = BatchedDomReader.readItems(driver, CommonComponents.ITEM_CSS);
                 int itemCount = cartItems.size();
 
                 validateCartItems(username, itemCount);
+                LOGGER.info("Cart contents: {}", cartItems);
             }
         };
     }
@@ -65,17 +73,20 @@ public class CartTask implements Task {
     public static CartTask proceedToCheckout() {
         return new CartTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
-                WebDriver driver = getWebDriver();
-                WebElement checkoutBtn = driver.findElement(CartPage.CHECKOUT_BUTTON);
+            protected <T extends Actor> void performStep(T actor) {
+                WebDriver driver = getWebDriver(actor);
+                WebElement checkoutBtn = ElementCache.find(driver, CartPage.CHECKOUT_BUTTON);
                 
                 if (!checkoutBtn.isDisplayed()) {
                     throw new AssertionError("Checkout button is not visible");
                 }
                 
+                PagePerformance.markTransitionStart(driver);
                 actor.attemptsTo(
                     Click.on(CartPage.CHECKOUT_BUTTON)
                 );
+                WaitEngine.untilUrlContains(driver, CHECKOUT_STEP_ONE_URL);
+                PagePerformance.capture(driver, "checkout");
                 
                 LOGGER.info("User proceeded to checkout");
             }
@@ -83,16 +94,14 @@ public class CartTask implements Task {
     }
 
     /**
-     * Obtiene el WebDriver de Serenity
+     * Obtiene el WebDriver con el que navega el actor (instrumentado por StepMetrics al entrar en escena)
      */
-    private static WebDriver getWebDriver() {
-        return org.openqa.selenium.WebDriver.class.cast(
-            net.serenitybdd.core.Serenity.getDriver()
-        );
+    private static WebDriver getWebDriver(Actor actor) {
+        return BrowseTheWeb.as(actor).getDriver();
     }
 
     @Override
-    public <T extends Actor> void performAs(T actor) {
+    protected <T extends Actor> void performStep(T actor) {
         // Método base no implementa nada
     }
 }
@@ -1,27 +1,30 @@
 package com.automationtest.tasks;
 
-import net.serenitybdd.screenplay.Task;
 import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
 import net.serenitybdd.screenplay.actions.Click;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import java.time.Duration;
+import org.openqa.selenium.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.automationtest.metrics.PagePerformance;
 import com.automationtest.ui.CheckoutPage;
+import com.automationtest.ui.CommonComponents;
+import com.automationtest.ui.ElementCache;
+import com.automationtest.waits.NetworkIdleMonitor;
+import com.automationtest.waits.WaitEngine;
 
 /**
  * Task para realizar acciones en la página de Checkout de Saucedemo
  * Contiene métodos para llenar información de checkout y validaciones
  */
-public class CheckoutTask implements Task {
+public class CheckoutTask extends BaseTask {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CheckoutTask.class);
     private static final String CHECKOUT_STEP_TWO_URL = "checkout-step-two.html";
-    private static final int TIMEOUT_SECONDS = 10;
+    private static final String CHECKOUT_COMPLETE_URL = "checkout-complete.html";
 
     /**
      * Llena el formulario de checkout con los datos proporcionados
@@ -32,24 +35,24 @@ public class CheckoutTask implements Task {
     public static CheckoutTask fillCheckoutInformation(String firstName, String lastName, String postalCode) {
         return new CheckoutTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
+            protected <T extends Actor> void performStep(T actor) {
                 LOGGER.info("Filling checkout form - First Name: {}, Last Name: {}, Postal Code: {}", 
                     firstName, lastName, postalCode);
 
-                WebDriver driver = getWebDriver();
+                WebDriver driver = getWebDriver(actor);
                 
                 // Limpiar y llenar nombre
-                WebElement firstNameInput = driver.findElement(CheckoutPage.FIRST_NAME_INPUT);
+                WebElement firstNameInput = ElementCache.find(driver, CheckoutPage.FIRST_NAME_INPUT);
                 firstNameInput.clear();
                 firstNameInput.sendKeys(firstName);
                 
                 // Limpiar y llenar apellido
-                WebElement lastNameInput = driver.findElement(CheckoutPage.LAST_NAME_INPUT);
+                WebElement lastNameInput = ElementCache.find(driver, CheckoutPage.LAST_NAME_INPUT);
                 lastNameInput.clear();
                 lastNameInput.sendKeys(lastName);
                 
                 // Limpiar y llenar código postal
-                WebElement postalCodeInput = driver.findElement(CheckoutPage.POSTAL_CODE_INPUT);
+                WebElement postalCodeInput = ElementCache.find(driver, CheckoutPage.POSTAL_CODE_INPUT);
                 postalCodeInput.clear();
                 postalCodeInput.sendKeys(postalCode);
                 
@@ -70,15 +73,16 @@ public class CheckoutTask implements Task {
     public static CheckoutTask verifyCheckoutPage(String username) {
         return new CheckoutTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
+            protected <T extends Actor> void performStep(T actor) {
                 LOGGER.info("Verifying checkout page for user: {}", username);
                 
                 if ("problem_user".equals(username)) {
-                    waitForNetworkIdle();
+                    waitForNetworkIdle(getWebDriver(actor));
                     LOGGER.info("Network idle state reached for problem_user");
                 } else {
-                    waitForCheckoutStepTwo();
-                    validateCheckoutURL();
+                    WebDriver driver = getWebDriver(actor);
+                    waitForCheckoutStepTwo(driver);
+                    validateCheckoutURL(driver);
                     LOGGER.info("Checkout step two URL verified");
                 }
             }
@@ -94,21 +98,24 @@ public class CheckoutTask implements Task {
     public static CheckoutTask clickFinishButton(String username) {
         return new CheckoutTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
+            protected <T extends Actor> void performStep(T actor) {
                 LOGGER.info("Clicking finish button for user: {}", username);
                 
                 if ("problem_user".equals(username)) {
-                    waitForNetworkIdle();
+                    waitForNetworkIdle(getWebDriver(actor));
                     LOGGER.info("Network idle state reached for problem_user before clicking finish");
                 } else {
-                    WebDriver driver = getWebDriver();
-                    WebElement finishBtn = driver.findElement(CheckoutPage.FINISH_BUTTON);
+                    WebDriver driver = getWebDriver(actor);
+                    WebElement finishBtn = ElementCache.find(driver, CheckoutPage.FINISH_BUTTON);
                     
                     if (!finishBtn.isDisplayed()) {
                         throw new AssertionError("Finish button is not visible");
                     }
                     
+                    PagePerformance.markTransitionStart(driver);
                     actor.attemptsTo(Click.on(CheckoutPage.FINISH_BUTTON));
+                    WaitEngine.untilUrlContains(driver, CHECKOUT_COMPLETE_URL);
+                    PagePerformance.capture(driver, "complete");
                     LOGGER.info("Finish button clicked successfully");
                 }
             }
@@ -122,17 +129,12 @@ public class CheckoutTask implements Task {
     public static CheckoutTask verifyErrorMessageInCheckoutForm(String expectedMessage) {
         return new CheckoutTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
+            protected <T extends Actor> void performStep(T actor) {
                 LOGGER.info("Verifying error message in checkout form: {}", expectedMessage);
                 
-                WebDriver driver = getWebDriver();
-                WebElement errorElement = driver.findElement(CheckoutPage.ERROR_CHECKOUT_FORM_MESSAGE);
-                
-                if (!errorElement.isDisplayed()) {
-                    throw new AssertionError("Error message is not displayed");
-                }
-                
-                String actualMessage = errorElement.getText();
+                WebDriver driver = getWebDriver(actor);
+                String actualMessage = WaitEngine.untilDisplayed(driver, CommonComponents.ERROR_MESSAGE)
+                    .textOf(CommonComponents.ERROR_MESSAGE);
                 if (!actualMessage.equals(expectedMessage)) {
                     throw new AssertionError(
                         String.format("Expected error message: '%s', but found: '%s'", 
@@ -147,26 +149,20 @@ public class CheckoutTask implements Task {
 
     /**
      * Espera a que la página esté en estado networkidle
+     * Usa Chrome DevTools para seguir las peticiones en curso; falla con la lista de peticiones pendientes
      */
-    private static void waitForNetworkIdle() {
-        // Esperar un tiempo razonable para que la red se estabilice
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    private static void waitForNetworkIdle(WebDriver driver) {
+        WaitEngine.untilDocumentReady(driver);
+        NetworkIdleMonitor.untilIdle(driver);
     }
 
     /**
      * Espera a que la URL contenga checkout-step-two.html
      */
-    private static void waitForCheckoutStepTwo() {
-        WebDriver driver = getWebDriver();
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_SECONDS));
-        
+    private static void waitForCheckoutStepTwo(WebDriver driver) {
         try {
-            wait.until(ExpectedConditions.urlContains(CHECKOUT_STEP_TWO_URL));
-        } catch (Exception e) {
+            WaitEngine.untilUrlContains(driver, CHECKOUT_STEP_TWO_URL);
+        } catch (TimeoutException e) {
             LOGGER.warn("Timeout waiting for checkout-step-two URL");
         }
     }
@@ -174,8 +170,7 @@ public class CheckoutTask implements Task {
     /**
      * Valida que la URL actual contenga checkout-step-two.html
      */
-    private static void validateCheckoutURL() {
-        WebDriver driver = getWebDriver();
+    private static void validateCheckoutURL(WebDriver driver) {
         String currentURL = driver.getCurrentUrl();
         
         if (!currentURL.contains(CHECKOUT_STEP_TWO_URL)) {
@@ -187,16 +182,14 @@ public class CheckoutTask implements Task {
     }
 
     /**
-     * Obtiene el WebDriver de Serenity
+     * Obtiene el WebDriver con el que navega el actor (instrumentado por StepMetrics al entrar en escena)
      */
-    private static WebDriver getWebDriver() {
-        return org.openqa.selenium.WebDriver.class.cast(
-            net.serenitybdd.core.Serenity.getDriver()
-        );
+    private static WebDriver getWebDriver(Actor actor) {
+        return BrowseTheWeb.as(actor).getDriver();
     }
 
     @Override
-    public <T extends Actor> void performAs(T actor) {
+    protected <T extends Actor> void performStep(T actor) {
         // Método base no implementa nada
     }
 }
@@ -1,46 +1,44 @@
 package com.automationtest.tasks;
 
-import net.serenitybdd.screenplay.Task;
 import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
 import net.serenitybdd.screenplay.actions.Click;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.automationtest.ui.CompletePage;
+import com.automationtest.ui.ElementCache;
+import com.automationtest.ui.PageSnapshot;
+import com.automationtest.waits.WaitEngine;
 
 /**
  * Task para realizar acciones en la página de Confirmación de Orden de Saucedemo
  * Contiene métodos para validar la orden completada y volver al inicio
  */
-public class CompleteTask implements Task {
+public class CompleteTask extends BaseTask {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CompleteTask.class);
-    private static final String EXPECTED_THANKS_MESSAGE = "Thank you for your order!";
+    public static final String EXPECTED_THANKS_MESSAGE = "Thank you for your order!";
     private static final String EXPECTED_COMPLETE_TEXT = "Your order has been dispatched, and will arrive just as fast as the pony can get there!";
     private static final String INVENTORY_URL_PATTERN = "inventory.html";
 
     /**
      * Verifica que la orden se haya completado exitosamente
      * Valida que los mensajes de confirmación sean visibles y contengan el texto esperado
+     * Ambos mensajes se leen juntos en una sola llamada al navegador
      */
     public static CompleteTask verifyOrderCompletion() {
         return new CompleteTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
-                WebDriver driver = getWebDriver();
-                WebElement thanksMsg = driver.findElement(CompletePage.THANKS_MESSAGE);
-                
-                if (!thanksMsg.isDisplayed()) {
-                    throw new AssertionError("Thanks message is not displayed");
-                }
+            protected <T extends Actor> void performStep(T actor) {
+                WebDriver driver = getWebDriver(actor);
+                PageSnapshot page = WaitEngine.untilDisplayed(driver,
+                    CompletePage.THANKS_MESSAGE, CompletePage.COMPLETE_TEXT);
 
-                validateThanksMessage(driver);
-                validateCompleteText(driver);
+                validateThanksMessage(page);
+                validateCompleteText(page);
                 
                 LOGGER.info("Order completion verification passed successfully");
             }
@@ -50,10 +48,8 @@ public class CompleteTask implements Task {
     /**
      * Valida que el mensaje de agradecimiento sea visible y contenga el texto esperado
      */
-    private static void validateThanksMessage(WebDriver driver) {
-        WebElement thanksMessageElement = driver.findElement(CompletePage.THANKS_MESSAGE);
-        
-        String actualText = thanksMessageElement.getText();
+    private static void validateThanksMessage(PageSnapshot page) {
+        String actualText = page.textOf(CompletePage.THANKS_MESSAGE);
         if (!actualText.equals(EXPECTED_THANKS_MESSAGE)) {
             throw new AssertionError(
                 String.format("Expected thanks message: '%s', but found: '%s'", 
@@ -66,10 +62,8 @@ public class CompleteTask implements Task {
     /**
      * Valida que el texto de confirmación sea visible y contenga el texto esperado
      */
-    private static void validateCompleteText(WebDriver driver) {
-        WebElement completeTextElement = driver.findElement(CompletePage.COMPLETE_TEXT);
-        
-        String actualText = completeTextElement.getText();
+    private static void validateCompleteText(PageSnapshot page) {
+        String actualText = page.textOf(CompletePage.COMPLETE_TEXT);
         if (!actualText.equals(EXPECTED_COMPLETE_TEXT)) {
             throw new AssertionError(
                 String.format("Expected complete text: '%s', but found: '%s'", 
@@ -87,9 +81,9 @@ public class CompleteTask implements Task {
     public static CompleteTask backToHome() {
         return new CompleteTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
-                WebDriver driver = getWebDriver();
-                WebElement backBtn = driver.findElement(CompletePage.BACK_HOME_BUTTON);
+            protected <T extends Actor> void performStep(T actor) {
+                WebDriver driver = getWebDriver(actor);
+                WebElement backBtn = ElementCache.find(driver, CompletePage.BACK_HOME_BUTTON);
                 
                 if (!backBtn.isDisplayed()) {
                     throw new AssertionError("Back home button is not visible");
@@ -99,7 +93,7 @@ public class CompleteTask implements Task {
                     Click.on(CompletePage.BACK_HOME_BUTTON)
                 );
 
-                waitForInventoryPage();
+                waitForInventoryPage(driver);
                 LOGGER.info("User navigated back to home (inventory page)");
             }
         };
@@ -108,24 +102,19 @@ public class CompleteTask implements Task {
     /**
      * Espera a que la página cargue la URL del inventario
      */
-    private static void waitForInventoryPage() {
-        WebDriver driver = getWebDriver();
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        
-        wait.until(ExpectedConditions.urlContains(INVENTORY_URL_PATTERN));
+    private static void waitForInventoryPage(WebDriver driver) {
+        WaitEngine.untilUrlContains(driver, INVENTORY_URL_PATTERN);
     }
 
     /**
-     * Obtiene el WebDriver de Serenity
+     * Obtiene el WebDriver con el que navega el actor (instrumentado por StepMetrics al entrar en escena)
      */
-    private static WebDriver getWebDriver() {
-        return org.openqa.selenium.WebDriver.class.cast(
-            net.serenitybdd.core.Serenity.getDriver()
-        );
+    private static WebDriver getWebDriver(Actor actor) {
+        return BrowseTheWeb.as(actor).getDriver();
     }
 
     @Override
-    public <T extends Actor> void performAs(T actor) {
+    protected <T extends Actor> void performStep(T actor) {
         // Método base no implementa nada
     }
 }
@@ -1,47 +1,58 @@
 package com.automationtest.tasks;
 
-import net.serenitybdd.screenplay.Task;
 import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
 import net.serenitybdd.screenplay.actions.Click;
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
+import org.openqa.selenium.TimeoutException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.automationtest.metrics.PagePerformance;
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.ui.CommonComponents;
 import com.automationtest.ui.InventoryPage;
+import com.automationtest.util.BatchedDomReader;
+import com.automationtest.util.Constants;
+import com.automationtest.util.ExecutionProfile;
+import com.automationtest.util.ItemSelection;
+import com.automationtest.util.ItemSnapshot;
+import com.automationtest.waits.WaitEngine;
 
 /**
  * Task para realizar acciones en la página de Inventario de Saucedemo
  * Contiene métodos para agregar items, validar imágenes y logout
  */
-public class InventoryTask implements Task {
+public class InventoryTask extends BaseTask {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InventoryTask.class);
-    private static final Random RANDOM = new Random();
+    private static final Duration CART_BADGE_TIMEOUT = Duration.ofSeconds(Constants.SMALL_WAIT);
+    private static final String ADD_TO_CART_PREFIX = "add-to-cart";
+    private static final String CART_URL_PATTERN = "cart.html";
 
     /**
      * Agrega items aleatorios al carrito
      * Para problem_user agrega 2 items, para otros usuarios agrega 4 items
+     * La selección es reproducible: depende de la semilla de la ejecución (ver ItemSelection)
      * @param username El nombre del usuario
      */
     public static InventoryTask addRandomItemsToCart(String username) {
         return new InventoryTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
-                WebDriver driver = getWebDriver();
-                List<WebElement> inventoryItems = driver.findElements(InventoryPage.INVENTORY_ITEMS);
+            protected <T extends Actor> void performStep(T actor) {
+                WebDriver driver = getWebDriver(actor);
+                List<ItemSnapshot> inventoryItems = BatchedDomReader.readItems(driver, CommonComponents.ITEM_CSS);
                 int totalItems = inventoryItems.size();
 
                 validateItemsAvailable(totalItems);
 
-                int itemsToAdd = calculateItemsToAdd(username, totalItems);
-                List<Integer> selectedIndexes = selectRandomIndexes(itemsToAdd, totalItems);
-                clickSelectedItems(inventoryItems, selectedIndexes);
-                navigateToCart(actor);
+                int itemsToAdd = itemsToAdd(username, totalItems);
+                List<Integer> selectedIndexes = selectRandomIndexes(inventoryItems, itemsToAdd, username);
+                clickSelectedItems(driver, inventoryItems, selectedIndexes);
+                navigateToCart(driver, actor);
             }
         };
     }
@@ -57,68 +68,72 @@ public class InventoryTask implements Task {
 
     /**
      * Calcula la cantidad de items a agregar según el usuario
+     * También la usa el replay HTTP del modo de carga, para repetir el mismo recorrido sin navegador
      */
-    private static int calculateItemsToAdd(String username, int totalItems) {
+    public static int itemsToAdd(String username, int totalItems) {
         return "problem_user".equals(username) ? 2 : Math.min(4, totalItems);
     }
 
     /**
-     * Selecciona índices aleatorios únicos
+     * Selecciona índices aleatorios únicos con la semilla del escenario
      */
-    private static List<Integer> selectRandomIndexes(int itemsToAdd, int totalItems) {
-        List<Integer> selectedIndexes = new ArrayList<>();
-        while (selectedIndexes.size() < itemsToAdd && selectedIndexes.size() < totalItems) {
-            int randomIndex = RANDOM.nextInt(totalItems);
-            if (!selectedIndexes.contains(randomIndex)) {
-                selectedIndexes.add(randomIndex);
-            }
+    private static List<Integer> selectRandomIndexes(List<ItemSnapshot> inventoryItems, int itemsToAdd,
+                                                     String username) {
+        List<String> itemNames = new ArrayList<>(inventoryItems.size());
+        for (ItemSnapshot item : inventoryItems) {
+            itemNames.add(item.getName());
         }
-        return selectedIndexes;
+        return ItemSelection.select(itemNames, itemsToAdd, StepMetrics.currentScenario() + "|" + username);
     }
 
     /**
      * Hace clic en los items seleccionados
+     * Todos los clics se envían en una sola llamada y luego se espera a que el badge del carrito
+     * refleje los items agregados
      */
-    private static void clickSelectedItems(List<WebElement> inventoryItems, List<Integer> selectedIndexes) {
+    private static void clickSelectedItems(WebDriver driver, List<ItemSnapshot> inventoryItems,
+                                           List<Integer> selectedIndexes) {
+        List<String> buttons = new ArrayList<>();
         for (Integer index : selectedIndexes) {
-            try {
-                WebElement item = inventoryItems.get(index);
-                WebElement button = item.findElement(By.cssSelector("button[data-test*='add-to-cart']"));
-                button.click();
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                LOGGER.warn("Click en item {} fue interrumpido", index);
-            } catch (Exception e) {
-                LOGGER.warn("Click en item {} falló, continuando...", index);
+            String dataTest = inventoryItems.get(index).getButtonDataTest();
+            if (dataTest != null && dataTest.startsWith(ADD_TO_CART_PREFIX)) {
+                buttons.add(dataTest);
+            } else {
+                LOGGER.warn("Item {} no tiene botón para agregar al carrito, continuando...", index);
             }
         }
 
+        List<String> clicked = BatchedDomReader.clickAll(driver, buttons);
         try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            WaitEngine.untilCartBadgeCount(driver, clicked.size(), CART_BADGE_TIMEOUT);
+        } catch (TimeoutException e) {
+            LOGGER.warn("No todos los items se agregaron al carrito ({} clics), continuando...", clicked.size());
         }
     }
 
     /**
-     * Navega al carrito de compras
+     * Navega al carrito de compras y registra el tiempo de la transición
      */
-    private static void navigateToCart(Actor actor) {
+    private static void navigateToCart(WebDriver driver, Actor actor) {
+        PagePerformance.markTransitionStart(driver);
         actor.attemptsTo(Click.on(InventoryPage.SHOPPING_CART_LINK));
+        WaitEngine.untilUrlContains(driver, CART_URL_PATTERN);
+        PagePerformance.capture(driver, "cart");
     }
 
     /**
      * Valida que las imágenes de los items se hayan cargado correctamente
      * Comprueba que no todas las imágenes sean idénticas
+     * Requiere un perfil que cargue imágenes (los escenarios que la usan deben tener @needs-images)
      */
     public static InventoryTask validateItemImages() {
         return new InventoryTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
-                WebDriver driver = getWebDriver();
-                List<WebElement> images = driver.findElements(InventoryPage.ITEM_IMAGE);
-                List<String> imageSources = extractImageSources(images);
+            protected <T extends Actor> void performStep(T actor) {
+                ExecutionProfile.requireImages("InventoryTask.validateItemImages");
+                WebDriver driver = getWebDriver(actor);
+                List<ItemSnapshot> items = BatchedDomReader.readItems(driver, CommonComponents.ITEM_CSS);
+                List<String> imageSources = extractImageSources(items);
 
                 validateImageSourcesExist(imageSources);
                 checkImageLoadStatus(imageSources);
@@ -129,10 +144,10 @@ public class InventoryTask implements Task {
     /**
      * Extrae los src de todas las imágenes
      */
-    private static List<String> extractImageSources(List<WebElement> images) {
+    private static List<String> extractImageSources(List<ItemSnapshot> items) {
         List<String> imageSources = new ArrayList<>();
-        for (WebElement img : images) {
-            String src = img.getAttribute("src");
+        for (ItemSnapshot item : items) {
+            String src = item.getImageSrc();
             if (src != null && !src.isEmpty()) {
                 imageSources.add(src);
             }
@@ -171,14 +186,12 @@ public class InventoryTask implements Task {
     public static InventoryTask logout() {
         return new InventoryTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
+            protected <T extends Actor> void performStep(T actor) {
                 actor.attemptsTo(Click.on(InventoryPage.OPEN_MENU_BUTTON));
 
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                WebDriver driver = getWebDriver(actor);
+                WaitEngine.untilAnimationsFinished(driver);
+                WaitEngine.untilClickable(driver, InventoryPage.LOGOUT_LINK);
 
                 actor.attemptsTo(Click.on(InventoryPage.LOGOUT_LINK));
             }
@@ -186,16 +199,14 @@ public class InventoryTask implements Task {
     }
 
     /**
-     * Obtiene el WebDriver de Serenity
+     * Obtiene el WebDriver con el que navega el actor (instrumentado por StepMetrics al entrar en escena)
      */
-    private static WebDriver getWebDriver() {
-        return org.openqa.selenium.WebDriver.class.cast(
-            net.serenitybdd.core.Serenity.getDriver()
-        );
+    private static WebDriver getWebDriver(Actor actor) {
+        return BrowseTheWeb.as(actor).getDriver();
     }
 
     @Override
-    public <T extends Actor> void performAs(T actor) {
+    protected <T extends Actor> void performStep(T actor) {
         // Método base no implementa nada
     }
 }
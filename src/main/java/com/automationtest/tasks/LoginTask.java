@@ -1,27 +1,45 @@
 package com.automationtest.tasks;
 
-import net.serenitybdd.screenplay.Task;
 import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
 import net.serenitybdd.screenplay.actions.Open;
 import net.serenitybdd.screenplay.actions.Enter;
 import net.serenitybdd.screenplay.actions.Click;
 import net.serenitybdd.screenplay.matchers.WebElementStateMatchers;
 import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.automationtest.metrics.PagePerformance;
+import com.automationtest.ui.CommonComponents;
 import com.automationtest.ui.LoginPage;
-import com.automationtest.ui.InventoryPage;
+import com.automationtest.util.Constants;
+import com.automationtest.util.FrameworkProperties;
+import com.automationtest.waits.WaitEngine;
 
 /**
  * Task para realizar acciones de Login en Saucedemo
  * Contiene los métodos para navegación y autenticación
  */
-public class LoginTask implements Task {
+public class LoginTask extends BaseTask {
 
-    private static final String BASE_URL = "https://www.saucedemo.com";
+    /**
+     * URL pública de Saucedemo; la URL efectiva se resuelve con FrameworkProperties.baseUrl()
+     */
+    public static final String BASE_URL = Constants.BASE_URL;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginTask.class);
+    private static final String SESSION_COOKIE_NAME = "session-username";
+    private static final String INVENTORY_PATH = "/inventory.html";
+    private static final String COOKIE_DOMAIN_PATH = "/favicon.ico";
+    private static final long COOKIE_EXPIRY_MARGIN_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final Map<String, Cookie> SESSION_COOKIES = new ConcurrentHashMap<>();
 
     /**
      * Navega a la página de Saucedemo
@@ -29,20 +47,20 @@ public class LoginTask implements Task {
     public static LoginTask navigateToSwagLabs() {
         return new LoginTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
-                WebDriver driver = getWebDriver();
-                driver.navigate().to(BASE_URL);
+            protected <T extends Actor> void performStep(T actor) {
+                WebDriver driver = getWebDriver(actor);
+                driver.navigate().to(FrameworkProperties.baseUrl());
+                WaitEngine.untilVisible(driver, LoginPage.USERNAME_INPUT);
+                PagePerformance.capture(driver, "login");
             }
         };
     }
 
     /**
-     * Obtiene el WebDriver de Serenity
+     * Obtiene el WebDriver con el que navega el actor (instrumentado por StepMetrics al entrar en escena)
      */
-    private static WebDriver getWebDriver() {
-        return org.openqa.selenium.WebDriver.class.cast(
-            net.serenitybdd.core.Serenity.getDriver()
-        );
+    private static WebDriver getWebDriver(Actor actor) {
+        return BrowseTheWeb.as(actor).getDriver();
     }
 
     /**
@@ -53,27 +71,31 @@ public class LoginTask implements Task {
     public static LoginTask typeUsernameAndPassword(String username, String password) {
         return new LoginTask() {
             @Override
-            public <T extends Actor> void performAs(T actor) {
+            protected <T extends Actor> void performStep(T actor) {
                 // Ingresar credenciales
                 actor.attemptsTo(
                     Enter.theValue(username).into(LoginPage.USERNAME_INPUT),
-                    Enter.theValue(password).into(LoginPage.PASSWORD_INPUT),
-                    Click.on(LoginPage.LOGIN_BUTTON)
+                    Enter.theValue(password).into(LoginPage.PASSWORD_INPUT)
                 );
+                WebDriver driver = getWebDriver(actor);
+                PagePerformance.markTransitionStart(driver);
+                actor.attemptsTo(Click.on(LoginPage.LOGIN_BUTTON));
 
                 // Validaciones según el tipo de usuario
                 switch (username) {
                     case "standard_user":
                     case "problem_user":
-                        validateSuccessfulLogin();
+                        validateSuccessfulLogin(driver);
+                        PagePerformance.capture(driver, "inventory");
                         break;
 
                     case "locked_out_user":
-                        validateLockedOutUser();
+                        validateLockedOutUser(driver);
                         break;
 
                     case "performance_glitch_user":
-                        validatePerformanceGlitchUser();
+                        validatePerformanceGlitchUser(driver);
+                        PagePerformance.capture(driver, "inventory");
                         break;
 
                     default:
@@ -83,44 +105,117 @@ public class LoginTask implements Task {
         };
     }
 
+    /**
+     * Verifica el mensaje de error de la página de login (credenciales inválidas o usuario bloqueado)
+     * @param expectedMessage El mensaje de error esperado
+     */
+    public static LoginTask verifyErrorMessage(String expectedMessage) {
+        return new LoginTask() {
+            @Override
+            protected <T extends Actor> void performStep(T actor) {
+                WebDriver driver = getWebDriver(actor);
+                String actualMessage = WaitEngine.untilDisplayed(driver, CommonComponents.ERROR_MESSAGE)
+                    .textOf(CommonComponents.ERROR_MESSAGE);
+                if (!actualMessage.equals(expectedMessage)) {
+                    throw new AssertionError(
+                        String.format("Expected login error: '%s', but found: '%s'", expectedMessage, actualMessage)
+                    );
+                }
+                LOGGER.info("Login error validated: {}", actualMessage);
+            }
+        };
+    }
+
+    /**
+     * Login rápido con la cookie de sesión cacheada
+     * La primera vez que se usa un usuario en la ejecución se hace el login completo por la UI
+     * y se guarda la cookie de sesión; las siguientes veces la cookie se inyecta directamente
+     * en el navegador y se abre /inventory.html sin pasar por la página de login.
+     * locked_out_user siempre usa el login completo por la UI.
+     * @param username El nombre de usuario
+     * @param password La contraseña
+     */
+    public static LoginTask loginWithCachedSession(String username, String password) {
+        return new LoginTask() {
+            @Override
+            protected <T extends Actor> void performStep(T actor) {
+                Cookie cachedCookie = "locked_out_user".equals(username) ? null : usableCookieFor(username);
+
+                if (cachedCookie == null) {
+                    actor.attemptsTo(
+                        navigateToSwagLabs(),
+                        typeUsernameAndPassword(username, password)
+                    );
+                    cacheSessionCookie(getWebDriver(actor), username);
+                    return;
+                }
+
+                WebDriver driver = getWebDriver(actor);
+                // Selenium solo permite agregar cookies del dominio actual: se carga un recurso liviano del sitio
+                driver.navigate().to(FrameworkProperties.baseUrl() + COOKIE_DOMAIN_PATH);
+                driver.manage().addCookie(cachedCookie);
+                driver.navigate().to(FrameworkProperties.baseUrl() + INVENTORY_PATH);
+                validateSuccessfulLogin(driver);
+                PagePerformance.capture(driver, "inventory");
+                LOGGER.info("User {} logged in with cached session cookie", username);
+            }
+        };
+    }
+
+    /**
+     * Devuelve la cookie cacheada del usuario si todavía no expiró
+     */
+    private static Cookie usableCookieFor(String username) {
+        Cookie cookie = SESSION_COOKIES.get(username);
+        if (cookie == null) {
+            return null;
+        }
+        Date expiry = cookie.getExpiry();
+        if (expiry != null && expiry.getTime() - System.currentTimeMillis() < COOKIE_EXPIRY_MARGIN_MILLIS) {
+            SESSION_COOKIES.remove(username, cookie);
+            return null;
+        }
+        return cookie;
+    }
+
+    /**
+     * Guarda la cookie de sesión obtenida después de un login por la UI
+     */
+    private static void cacheSessionCookie(WebDriver driver, String username) {
+        if ("locked_out_user".equals(username)) {
+            return;
+        }
+        Cookie sessionCookie = driver.manage().getCookieNamed(SESSION_COOKIE_NAME);
+        if (sessionCookie != null) {
+            SESSION_COOKIES.put(username, sessionCookie);
+            LOGGER.debug("Cached session cookie for user {}", username);
+        }
+    }
+
     /**
      * Valida el login exitoso para usuarios estándar
      */
-    private static void validateSuccessfulLogin() {
-        WebDriver driver = getWebDriver();
-        int timeout = 10;
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(InventoryPage.INVENTORY_ITEMS));
+    private static void validateSuccessfulLogin(WebDriver driver) {
+        WaitEngine.untilAllPresent(driver, CommonComponents.ITEMS);
     }
 
     /**
      * Valida el mensaje de error para usuario bloqueado
      */
-    private static void validateLockedOutUser() {
-        WebDriver driver = getWebDriver();
-        int timeout = 10;
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-        wait.until(ExpectedConditions.presenceOfElementLocated(LoginPage.ERROR_MESSAGE));
+    private static void validateLockedOutUser(WebDriver driver) {
+        WaitEngine.untilVisible(driver, CommonComponents.ERROR_MESSAGE);
     }
 
     /**
      * Valida el login con retraso para usuario con problemas de rendimiento
+     * Espera a que el inventario aparezca en lugar de una pausa fija, así el tiempo real queda registrado
      */
-    private static void validatePerformanceGlitchUser() {
-        try {
-            Thread.sleep(10000); // Esperar 10 segundos
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        WebDriver driver = getWebDriver();
-        int timeout = 10;
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(InventoryPage.INVENTORY_ITEMS));
+    private static void validatePerformanceGlitchUser(WebDriver driver) {
+        WaitEngine.untilAllPresent(driver, CommonComponents.ITEMS);
     }
 
     @Override
-    public <T extends Actor> void performAs(T actor) {
+    protected <T extends Actor> void performStep(T actor) {
         // Método base no implementa nada
     }
 }
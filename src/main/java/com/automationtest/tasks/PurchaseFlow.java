@@ -0,0 +1,97 @@
+package com.automationtest.tasks;
+
+import net.serenitybdd.screenplay.Performable;
+
+/**
+ * Definición única del flujo de compra: Login → Inventory → Cart → Checkout → Complete
+ * La usan los step definitions del escenario funcional y el modo de carga (LoadRunner), así ambos
+ * ejecutan exactamente las mismas Tasks en el mismo orden
+ */
+public class PurchaseFlow {
+
+    public static final String FIRST_NAME = "John";
+    public static final String LAST_NAME = "Doe";
+    public static final String POSTAL_CODE = "12345";
+
+    /**
+     * Etapas del flujo, en orden
+     */
+    public enum Stage {
+        LOGIN,
+        INVENTORY,
+        CART,
+        CHECKOUT,
+        COMPLETE;
+
+        /**
+         * Nombre de la etapa en los reportes (login, inventory, ...)
+         */
+        public String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    private PurchaseFlow() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Tasks de una etapa completa del flujo
+     */
+    public static Performable[] stage(Stage stage, String username, String password) {
+        switch (stage) {
+            case LOGIN:
+                return login(username, password);
+            case INVENTORY:
+                return inventory(username);
+            case CART:
+                return cart(username);
+            case CHECKOUT:
+                return concat(fillCheckoutInformation(), finishCheckout(username));
+            case COMPLETE:
+                return complete();
+            default:
+                throw new IllegalArgumentException("Unknown stage " + stage);
+        }
+    }
+
+    public static Performable[] login(String username, String password) {
+        return new Performable[] {
+            LoginTask.navigateToSwagLabs(),
+            LoginTask.typeUsernameAndPassword(username, password)
+        };
+    }
+
+    public static Performable[] inventory(String username) {
+        return new Performable[] {InventoryTask.addRandomItemsToCart(username)};
+    }
+
+    public static Performable[] cart(String username) {
+        return new Performable[] {
+            CartTask.cartItemsCounter(username),
+            CartTask.proceedToCheckout()
+        };
+    }
+
+    public static Performable[] fillCheckoutInformation() {
+        return new Performable[] {CheckoutTask.fillCheckoutInformation(FIRST_NAME, LAST_NAME, POSTAL_CODE)};
+    }
+
+    public static Performable[] finishCheckout(String username) {
+        return new Performable[] {
+            CheckoutTask.verifyCheckoutPage(username),
+            CheckoutTask.clickFinishButton(username)
+        };
+    }
+
+    public static Performable[] complete() {
+        return new Performable[] {CompleteTask.verifyOrderCompletion()};
+    }
+
+    private static Performable[] concat(Performable[] first, Performable[] second) {
+        Performable[] all = new Performable[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+}
@@ -0,0 +1,55 @@
+package com.automationtest.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro de las Tasks creadas y ejecutadas en el escenario del hilo actual
+ * Una Task construida pero nunca ejecutada con actor.attemptsTo(...) no hace nada en el navegador;
+ * el registro permite detectarlo y hacer fallar el escenario en lugar de dar un falso positivo.
+ * Cada Task recibe un identificador al crearse; si Serenity ejecuta una copia instrumentada, la copia
+ * hereda el identificador de la original al copiar sus campos y ambas se marcan como ejecutadas.
+ */
+public class TaskLedger {
+
+    private static final ThreadLocal<List<BaseTask>> PENDING = ThreadLocal.withInitial(ArrayList::new);
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    private TaskLedger() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Registra la Task y devuelve su identificador en el registro
+     */
+    static long created(BaseTask task) {
+        PENDING.get().add(task);
+        return NEXT_ID.incrementAndGet();
+    }
+
+    /**
+     * Marca la Task como ejecutada, junto con las Tasks que comparten su identificador
+     * (la original de una copia instrumentada)
+     */
+    static void performed(BaseTask task) {
+        PENDING.get().removeIf(candidate -> candidate == task || candidate.ledgerId() == task.ledgerId());
+    }
+    /**
+     * Limpia el registro al comenzar un escenario
+     */
+    public static void reset() {
+        PENDING.remove();
+    }
+
+    /**
+     * Devuelve el nombre de las Tasks creadas y nunca ejecutadas en el escenario actual
+     */
+    public static List<String> unperformed() {
+        List<String> names = new ArrayList<>();
+        for (BaseTask task : PENDING.get()) {
+            names.add(task.stepName());
+        }
+        return names;
+    }
+}
@@ -15,7 +15,6 @@ public class CartPage {
     /**
      * Selectores (localizadores) para los elementos de la página del carrito
      */
-    public static final By CART_ITEMS = By.cssSelector("[data-test=\"inventory-item\"]");
-    public static final By CHECKOUT_BUTTON = By.cssSelector("[data-test=\"checkout\"]");
-    public static final By CONTINUE_SHOPPING_BUTTON = By.cssSelector("[data-test=\"continue-shopping\"]");
+    public static final By CHECKOUT_BUTTON = Locators.css("[data-test=\"checkout\"]");
+    public static final By CONTINUE_SHOPPING_BUTTON = Locators.css("[data-test=\"continue-shopping\"]");
 }
@@ -0,0 +1,30 @@
+package com.automationtest.ui;
+
+import org.openqa.selenium.By;
+
+/**
+ * Componentes que aparecen en más de una página de Saucedemo
+ * Se declaran una sola vez para que las Page Objects no repitan el mismo selector
+ */
+public class CommonComponents {
+
+    private CommonComponents() {
+        // Clase de selectores, no se debe instanciar
+    }
+
+    /**
+     * Selector CSS de cada item (tarjeta del inventario o fila del carrito), usado también por las
+     * lecturas en lote (BatchedDomReader)
+     */
+    public static final String ITEM_CSS = "[data-test=\"inventory-item\"]";
+
+    /**
+     * Items del inventario o del carrito
+     */
+    public static final By ITEMS = Locators.css(ITEM_CSS);
+
+    /**
+     * Mensaje de error de los formularios (login y datos de checkout)
+     */
+    public static final By ERROR_MESSAGE = Locators.css("[data-test=\"error\"]");
+}
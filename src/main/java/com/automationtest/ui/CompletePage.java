@@ -15,7 +15,7 @@ public class CompletePage {
     /**
      * Selectores (localizadores) para los elementos de la página de confirmación
      */
-    public static final By THANKS_MESSAGE = By.cssSelector("[data-test=\"complete-header\"]");
-    public static final By COMPLETE_TEXT = By.cssSelector("[data-test=\"complete-text\"]");
-    public static final By BACK_HOME_BUTTON = By.cssSelector("[data-test=\"back-to-products\"]");
+    public static final By THANKS_MESSAGE = Locators.css("[data-test=\"complete-header\"]");
+    public static final By COMPLETE_TEXT = Locators.css("[data-test=\"complete-text\"]");
+    public static final By BACK_HOME_BUTTON = Locators.css("[data-test=\"back-to-products\"]");
 }
@@ -0,0 +1,171 @@
+package com.automationtest.ui;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.automationtest.util.WebDrivers;
+import com.automationtest.waits.WaitEngine;
+
+/**
+ * Caché de elementos por página
+ * Cada locator se resuelve una sola vez por página y navegador; las siguientes búsquedas devuelven
+ * el mismo elemento sin ir al navegador. Cada hilo (escenario) tiene su propia caché, que se descarta:
+ * - al empezar cada Task (BaseTask), porque entre Tasks las acciones de Serenity pueden cambiar de página
+ * - cuando WaitEngine confirma un cambio de URL (la página cambió dentro de la Task)
+ * - al terminar el escenario (ScreenplayHooks), para no retener el navegador entre escenarios
+ * Cada elemento entregado se vuelve a resolver si el navegador responde StaleElementReferenceException
+ * (por ejemplo después de un re-render).
+ */
+public class ElementCache {
+
+    private static final ThreadLocal<Map<WebDriver, Map<By, CachedElement>>> CACHES =
+        ThreadLocal.withInitial(IdentityHashMap::new);
+
+    private ElementCache() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Busca el elemento usando la caché de la página actual
+     * @param driver El WebDriver del actor
+     * @param locator El selector del elemento
+     * @return El elemento; se vuelve a localizar de forma transparente si queda obsoleto
+     */
+    public static WebElement find(WebDriver driver, By locator) {
+        Map<By, CachedElement> page = CACHES.get().computeIfAbsent(WebDrivers.unwrap(driver), key -> new HashMap<>());
+        CachedElement cached = page.get(locator);
+        if (cached != null) {
+            LocatorStats.recordHit(locator);
+            return cached.proxy;
+        }
+
+        CachedElement element = new CachedElement(driver, locator, locate(driver, locator));
+        page.put(locator, element);
+        return element.proxy;
+    }
+
+    /**
+     * Descarta los elementos cacheados del navegador en el hilo actual (por ejemplo al cambiar de página)
+     */
+    public static void invalidate(WebDriver driver) {
+        CACHES.get().remove(WebDrivers.unwrap(driver));
+    }
+
+    /**
+     * Descarta toda la caché del hilo actual (inicio de cada Task y fin del escenario)
+     */
+    public static void clear() {
+        CACHES.remove();
+    }
+
+    /**
+     * Resuelve el locator en el navegador registrando el costo de la búsqueda
+     * Espera explícitamente a que el elemento exista: la espera implícita del driver es cero
+     */
+    private static WebElement locate(WebDriver driver, By locator) {
+        long start = System.nanoTime();
+        try {
+            return WaitEngine.untilPresent(driver, locator);
+        } finally {
+            LocatorStats.recordLookup(locator, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Elemento cacheado: el proxy delega en el último elemento resuelto y lo vuelve a resolver una vez
+     * si el navegador lo declara obsoleto. El driver se guarda como referencia débil para que un elemento
+     * que siga vivo no retenga la sesión del navegador.
+     */
+    private static class CachedElement implements InvocationHandler {
+
+        private final WeakReference<WebDriver> driver;
+        private final By locator;
+        private final WebElement proxy;
+        private volatile WebElement current;
+
+        CachedElement(WebDriver driver, By locator, WebElement element) {
+            this.driver = new WeakReference<>(driver);
+            this.locator = locator;
+            this.current = element;
+            this.proxy = createProxy(element);
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == WrapsElement.class) {
+                return current;
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxyInstance, method, args);
+            }
+            try {
+                return method.invoke(current, args);
+            } catch (InvocationTargetException e) {
+                WebDriver browser = driver.get();
+                if (!(e.getCause() instanceof StaleElementReferenceException) || browser == null) {
+                    throw e.getCause();
+                }
+                current = locate(browser, locator);
+                try {
+                    return method.invoke(current, args);
+                } catch (InvocationTargetException retryError) {
+                    throw retryError.getCause();
+                }
+            }
+        }
+
+        private Object invokeObjectMethod(Object proxyInstance, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    Object other = args[0] instanceof WrapsElement ? ((WrapsElement) args[0]).getWrappedElement() : args[0];
+                    return proxyInstance == args[0] || current.equals(other);
+                case "hashCode":
+                    return current.hashCode();
+                default:
+                    return "Cached(" + locator + ") -> " + current;
+            }
+        }
+
+        /**
+         * El proxy expone las mismas interfaces públicas que el elemento (Locatable, TakesScreenshot, ...)
+         * Si alguna no es visible desde este class loader se usan solo WebElement y WrapsElement
+         */
+        private WebElement createProxy(WebElement element) {
+            ClassLoader classLoader = ElementCache.class.getClassLoader();
+            try {
+                return (WebElement) Proxy.newProxyInstance(classLoader, interfacesOf(element), this);
+            } catch (IllegalArgumentException e) {
+                return (WebElement) Proxy.newProxyInstance(classLoader,
+                    new Class<?>[] {WebElement.class, WrapsElement.class}, this);
+            }
+        }
+
+        private static Class<?>[] interfacesOf(WebElement element) {
+            Set<Class<?>> interfaces = new LinkedHashSet<>();
+            interfaces.add(WebElement.class);
+            interfaces.add(WrapsElement.class);
+            for (Class<?> type = element.getClass(); type != null; type = type.getSuperclass()) {
+                for (Class<?> candidate : type.getInterfaces()) {
+                    if (candidate.isInterface() && Modifier.isPublic(candidate.getModifiers())) {
+                        interfaces.add(candidate);
+                    }
+                }
+            }
+            return interfaces.toArray(new Class<?>[0]);
+        }
+    }
+}
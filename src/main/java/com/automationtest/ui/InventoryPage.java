@@ -15,11 +15,11 @@ public class InventoryPage {
     /**
      * Selectores (localizadores) para los elementos de la página de inventario
      */
-    public static final By ITEM_IMAGE = By.cssSelector(".inventory_item_img");
-    public static final By INVENTORY_ITEMS = By.cssSelector("[data-test=\"inventory-item\"]");
-    public static final By ADD_TO_CART_BUTTON = By.xpath("//button[contains(text(), 'Add to cart')]");
-    public static final By REMOVE_BUTTON = By.xpath("//button[contains(text(), 'Remove')]");
-    public static final By SHOPPING_CART_LINK = By.cssSelector("[data-test=\"shopping-cart-link\"]");
-    public static final By OPEN_MENU_BUTTON = By.cssSelector("#react-burger-menu-btn");
-    public static final By LOGOUT_LINK = By.cssSelector("[data-test=\"logout-sidebar-link\"]");
+    public static final By ITEM_IMAGE = Locators.css(".inventory_item_img");
+    public static final By ADD_TO_CART_BUTTON = Locators.css("button[data-test^=\"add-to-cart\"]");
+    public static final By REMOVE_BUTTON = Locators.css("button[data-test^=\"remove\"]");
+    public static final By SHOPPING_CART_LINK = Locators.css("[data-test=\"shopping-cart-link\"]");
+    public static final By SHOPPING_CART_BADGE = Locators.css("[data-test=\"shopping-cart-badge\"]");
+    public static final By OPEN_MENU_BUTTON = Locators.id("react-burger-menu-btn");
+    public static final By LOGOUT_LINK = Locators.css("[data-test=\"logout-sidebar-link\"]");
 }
@@ -0,0 +1,187 @@
+package com.automationtest.ui;
+
+import org.openqa.selenium.By;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Costo de resolución por locator y revisión (lint) de los selectores de las Page Objects
+ * ElementCache registra cada búsqueda real en el navegador y cada acierto de caché; Locators.read registra
+ * las lecturas en lote (el costo de la llamada se reparte entre los selectores leídos).
+ * Con locator.lint = true se revisan los selectores al comenzar la ejecución (los XPath se marcan
+ * como lentos y los selectores declarados dos veces como duplicados) y al final se escribe
+ * target/locator-report/locators.csv con el costo de cada By.
+ */
+public class LocatorStats {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocatorStats.class);
+    private static final String CSV_HEADER =
+        "locator,strategy,lookups,cache_hits,batch_reads,total_ms,avg_ms,max_ms,flag";
+    private static final String XPATH_PREFIX = "By.xpath";
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private LocatorStats() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Indica si el modo lint / benchmark de locators está activo (locator.lint)
+     */
+    public static boolean lintEnabled() {
+        return FrameworkProperties.getBoolean("locator.lint", false);
+    }
+
+    static void recordLookup(By locator, long elapsedNanos) {
+        STATS.computeIfAbsent(locator.toString(), key -> new Stats()).addLookup(elapsedNanos);
+    }
+
+    static void recordHit(By locator) {
+        STATS.computeIfAbsent(locator.toString(), key -> new Stats()).cacheHits.increment();
+    }
+
+    static void recordBatch(List<By> locators, long elapsedNanos) {
+        long share = locators.isEmpty() ? 0 : elapsedNanos / locators.size();
+        for (By locator : locators) {
+            Stats stats = STATS.computeIfAbsent(locator.toString(), key -> new Stats());
+            stats.batchReads.increment();
+            stats.addTime(share);
+        }
+    }
+
+    /**
+     * Revisa los selectores públicos de las Page Objects y devuelve las advertencias encontradas
+     * Los XPath se marcan como lentos: el navegador los evalúa recorriendo el DOM en lugar de usar
+     * el motor de selectores CSS, y los que comparan texto se rompen con cambios de copy o idioma.
+     * Un selector declarado en más de un campo se marca como duplicado (va en CommonComponents)
+     */
+    public static List<String> lintPages() {
+        List<String> warnings = new ArrayList<>();
+        Map<String, String> declaredBy = new HashMap<>();
+        for (Class<?> page : Locators.PAGES) {
+            for (Field field : page.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || field.getType() != By.class) {
+                    continue;
+                }
+                String name = page.getSimpleName() + "." + field.getName();
+                try {
+                    String locator = field.get(null).toString();
+                    String warning = flag(locator);
+                    if (warning != null) {
+                        warnings.add(name + ": " + warning);
+                    }
+                    String original = declaredBy.putIfAbsent(locator, name);
+                    if (original != null) {
+                        warnings.add(name + ": duplicate of " + original + ", declare it once in CommonComponents");
+                    }
+                } catch (IllegalAccessException e) {
+                    LOGGER.debug("Skipping {}.{}: {}", page.getSimpleName(), field.getName(), e.getMessage());
+                }
+            }
+        }
+        for (String warning : warnings) {
+            LOGGER.warn("Locator lint: {}", warning);
+        }
+        return warnings;
+    }
+
+    /**
+     * Escribe el reporte de costo por locator (solo en modo lint)
+     */
+    public static void export() {
+        if (!lintEnabled() || STATS.isEmpty()) {
+            return;
+        }
+        Path outputDir = Paths.get(FrameworkProperties.get("locator.lint.output.dir", "target/locator-report"));
+        Path file = outputDir.resolve("locators.csv");
+        try {
+            Files.createDirectories(outputDir);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(CSV_HEADER);
+                writer.newLine();
+                for (Map.Entry<String, Stats> entry : new TreeMap<>(STATS).entrySet()) {
+                    Stats stats = entry.getValue();
+                    String flag = flag(entry.getKey());
+                    writer.write(String.join(",",
+                        csv(entry.getKey()),
+                        entry.getKey().startsWith(XPATH_PREFIX) ? "xpath" : "css",
+                        String.valueOf(stats.lookups.sum()),
+                        String.valueOf(stats.cacheHits.sum()),
+                        String.valueOf(stats.batchReads.sum()),
+                        millis(stats.totalNanos.sum()),
+                        millis(stats.averageNanos()),
+                        millis(stats.maxNanos.get()),
+                        csv(flag == null ? "" : flag)));
+                    writer.newLine();
+                }
+            }
+            LOGGER.info("Locator lookup report written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not export the locator report", e);
+        }
+    }
+
+    /**
+     * Advertencia para un locator, o null si no hay nada que marcar
+     */
+    private static String flag(String locator) {
+        if (!locator.startsWith(XPATH_PREFIX)) {
+            return null;
+        }
+        if (locator.contains("text()") || locator.contains("contains(")) {
+            return "slow XPath text match, prefer a [data-test] CSS selector";
+        }
+        return "XPath locator, prefer an id or CSS selector";
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static class Stats {
+
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder batchReads = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void addLookup(long elapsedNanos) {
+            lookups.increment();
+            addTime(elapsedNanos);
+        }
+
+        void addTime(long elapsedNanos) {
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        long averageNanos() {
+            long count = lookups.sum() + batchReads.sum();
+            return count == 0 ? 0 : totalNanos.sum() / count;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.automationtest.ui;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.automationtest.util.BatchedDomReader;
+import com.automationtest.util.ElementState;
+
+/**
+ * Registro único de los selectores de las Page Objects
+ * Las Page Objects declaran sus selectores con css / id en lugar de crear los By directamente:
+ * - cada selector se registra una sola vez (dos declaraciones iguales comparten la misma instancia, y
+ *   LocatorStats.lintPages marca los campos duplicados);
+ * - todos los selectores son CSS, que el navegador resuelve con su motor de selectores; un By.xpath
+ *   declarado a mano lo marca el lint;
+ * - read consulta varios componentes de la página en un solo round trip (BatchedDomReader) y registra
+ *   el costo en LocatorStats, así el costo de búsqueda queda medido en un único lugar.
+ */
+public final class Locators {
+
+    /**
+     * Clases que declaran selectores; las revisa el lint de LocatorStats
+     */
+    static final List<Class<?>> PAGES = Collections.unmodifiableList(Arrays.asList(
+        CommonComponents.class, LoginPage.class, InventoryPage.class, CartPage.class, CheckoutPage.class,
+        CompletePage.class
+    ));
+
+    private static final Pattern CSS_IDENTIFIER = Pattern.compile("-?[A-Za-z_][\\w-]*");
+
+    private static final Map<String, By> REGISTRY = new ConcurrentHashMap<>();
+    private static final Map<By, String> CSS_BY_LOCATOR = new ConcurrentHashMap<>();
+
+    private Locators() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Selector CSS registrado
+     */
+    public static By css(String selector) {
+        return REGISTRY.computeIfAbsent("css:" + selector, key -> {
+            By locator = By.cssSelector(selector);
+            CSS_BY_LOCATOR.put(locator, selector);
+            return locator;
+        });
+    }
+
+    /**
+     * Selector por id, registrado como CSS (en el protocolo W3C By.id ya se traduce a CSS)
+     */
+    public static By id(String id) {
+        return css(CSS_IDENTIFIER.matcher(id).matches() ? "#" + id : "[id=\"" + escape(id) + "\"]");
+    }
+
+    /**
+     * Expresión CSS del selector, o null si el selector es XPath
+     */
+    public static String cssOf(By locator) {
+        String css = CSS_BY_LOCATOR.get(locator);
+        if (css != null) {
+            return css;
+        }
+        String description = locator.toString();
+        if (description.startsWith("By.cssSelector: ")) {
+            return description.substring("By.cssSelector: ".length());
+        }
+        if (description.startsWith("By.id: ")) {
+            return "#" + description.substring("By.id: ".length());
+        }
+        return null;
+    }
+
+    /**
+     * Lee el estado de varios componentes de la página actual en una sola llamada al navegador
+     * @param locators Selectores con forma CSS (los declarados con css o id)
+     * @return El estado de cada componente, en el mismo orden
+     */
+    public static PageSnapshot read(WebDriver driver, By... locators) {
+        List<String> selectors = new ArrayList<>();
+        for (By locator : locators) {
+            String css = cssOf(locator);
+            if (css == null) {
+                throw new IllegalArgumentException(locator + " has no CSS form and cannot be read in a batch");
+            }
+            selectors.add(css);
+        }
+        long start = System.nanoTime();
+        List<ElementState> states = BatchedDomReader.readElements(driver, selectors);
+        LocatorStats.recordBatch(Arrays.asList(locators), System.nanoTime() - start);
+
+        Map<By, ElementState> byLocator = new LinkedHashMap<>();
+        for (int i = 0; i < locators.length; i++) {
+            byLocator.put(locators[i], i < states.size() ? states.get(i) : ElementState.MISSING);
+        }
+        return new PageSnapshot(byLocator);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -15,8 +15,7 @@ public class LoginPage {
     /**
      * Selectores (localizadores) para los elementos de la página de login
      */
-    public static final By USERNAME_INPUT = By.cssSelector("[data-test=\"username\"]");
-    public static final By PASSWORD_INPUT = By.cssSelector("[data-test=\"password\"]");
-    public static final By LOGIN_BUTTON = By.cssSelector("[data-test=\"login-button\"]");
-    public static final By ERROR_MESSAGE = By.cssSelector("[data-test=\"error\"]");
+    public static final By USERNAME_INPUT = Locators.css("[data-test=\"username\"]");
+    public static final By PASSWORD_INPUT = Locators.css("[data-test=\"password\"]");
+    public static final By LOGIN_BUTTON = Locators.css("[data-test=\"login-button\"]");
 }
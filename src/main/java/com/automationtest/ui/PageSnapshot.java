@@ -0,0 +1,54 @@
+package com.automationtest.ui;
+
+import org.openqa.selenium.By;
+import java.util.Collections;
+import java.util.Map;
+
+import com.automationtest.util.ElementState;
+
+/**
+ * Estado de varios componentes de la página leídos juntos con Locators.read
+ * Es inmutable: refleja la página en el momento de la lectura
+ */
+public class PageSnapshot {
+
+    private final Map<By, ElementState> states;
+
+    PageSnapshot(Map<By, ElementState> states) {
+        this.states = Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Estado del componente; falla si el selector no formaba parte de la lectura
+     */
+    public ElementState get(By locator) {
+        ElementState state = states.get(locator);
+        if (state == null) {
+            throw new IllegalArgumentException(locator + " was not part of this page snapshot");
+        }
+        return state;
+    }
+
+    /**
+     * Indica si todos los componentes leídos están visibles
+     */
+    public boolean allDisplayed() {
+        return states.values().stream().allMatch(ElementState::isDisplayed);
+    }
+
+    /**
+     * Texto del componente; falla con un mensaje claro si no está visible
+     */
+    public String textOf(By locator) {
+        ElementState state = get(locator);
+        if (!state.isDisplayed()) {
+            throw new AssertionError(String.format("Expected %s to be displayed, but it is %s", locator, state));
+        }
+        return state.getText();
+    }
+
+    @Override
+    public String toString() {
+        return states.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.automationtest.util;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lecturas y acciones sobre listas de elementos en un único round trip de WebDriver
+ * En lugar de llamar a findElement/getAttribute/click por cada item (una petición HTTP por llamada),
+ * se ejecuta un solo executeScript que devuelve los datos estructurados de toda la lista
+ */
+public class BatchedDomReader {
+
+    private static final String READ_ITEMS_SCRIPT =
+        "var items = document.querySelectorAll(arguments[0]);"
+        + "var text = function (root, selector) {"
+        + "  var el = root.querySelector(selector); return el ? el.textContent.trim() : null; };"
+        + "var result = [];"
+        + "for (var i = 0; i < items.length; i++) {"
+        + "  var item = items[i];"
+        + "  var img = item.querySelector('img');"
+        + "  var button = item.querySelector('button');"
+        + "  result.push({"
+        + "    index: i,"
+        + "    name: text(item, '[data-test=\"inventory-item-name\"]'),"
+        + "    price: text(item, '[data-test=\"inventory-item-price\"]'),"
+        + "    imageSrc: img ? img.getAttribute('src') : null,"
+        + "    buttonDataTest: button ? button.getAttribute('data-test') : null"
+        + "  });"
+        + "}"
+        + "return result;";
+
+    private static final String CLICK_ALL_SCRIPT =
+        "var clicked = [];"
+        + "for (var i = 0; i < arguments[0].length; i++) {"
+        + "  var button = document.querySelector('[data-test=\"' + arguments[0][i] + '\"]');"
+        + "  if (button && !button.disabled) { button.click(); clicked.push(arguments[0][i]); }"
+        + "}"
+        + "return clicked;";
+
+    private static final String READ_ELEMENTS_SCRIPT =
+        "var result = [];"
+        + "for (var i = 0; i < arguments[0].length; i++) {"
+        + "  var el = document.querySelector(arguments[0][i]);"
+        + "  if (!el) { result.push({present: false}); continue; }"
+        + "  var style = window.getComputedStyle(el);"
+        + "  result.push({"
+        + "    present: true,"
+        + "    displayed: el.getClientRects().length > 0 && style.visibility !== 'hidden',"
+        + "    enabled: !el.disabled,"
+        + "    text: (el.innerText === undefined ? el.textContent : el.innerText).trim()"
+        + "  });"
+        + "}"
+        + "return result;";
+
+    private BatchedDomReader() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Lee nombre, precio, src de imagen y data-test del botón de todos los items que coinciden con el selector
+     * @param itemCssSelector El selector CSS del contenedor de cada item
+     * @return Los datos de cada item, en el orden del DOM
+     */
+    public static List<ItemSnapshot> readItems(WebDriver driver, String itemCssSelector) {
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_ITEMS_SCRIPT, itemCssSelector);
+        if (!(result instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<ItemSnapshot> items = new ArrayList<>();
+        for (Object entry : (List<?>) result) {
+            items.add(ItemSnapshot.fromScriptResult((Map<?, ?>) entry));
+        }
+        return items;
+    }
+
+    /**
+     * Lee presencia, visibilidad, estado y texto del primer elemento de cada selector
+     * @param cssSelectors Los selectores CSS de los componentes
+     * @return El estado de cada componente, en el mismo orden que los selectores
+     */
+    public static List<ElementState> readElements(WebDriver driver, List<String> cssSelectors) {
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_ELEMENTS_SCRIPT, cssSelectors);
+        List<ElementState> states = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object entry : (List<?>) result) {
+                states.add(entry instanceof Map
+                    ? ElementState.fromScriptResult((Map<?, ?>) entry)
+                    : ElementState.MISSING);
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Hace clic en todos los botones indicados por su data-test en una sola llamada
+     * @param buttonDataTests Los valores de data-test de los botones
+     * @return Los data-test de los botones que se encontraron y se pulsaron
+     */
+    public static List<String> clickAll(WebDriver driver, List<String> buttonDataTests) {
+        Object result = ((JavascriptExecutor) driver).executeScript(CLICK_ALL_SCRIPT, buttonDataTests);
+        List<String> clicked = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object dataTest : (List<?>) result) {
+                clicked.add(String.valueOf(dataTest));
+            }
+        }
+        return clicked;
+    }
+}
@@ -10,7 +10,6 @@ public class Constants {
     }
 
     public static final String BASE_URL = "https://www.saucedemo.com";
-    public static final int TIMEOUT_SECONDS = 10;
     public static final int SMALL_WAIT = 2;
     public static final int MEDIUM_WAIT = 5;
     public static final int LARGE_WAIT = 10;
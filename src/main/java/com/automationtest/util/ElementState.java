@@ -0,0 +1,68 @@
+package com.automationtest.util;
+
+import java.util.Map;
+
+/**
+ * Estado de un componente de la página leído del DOM en una sola llamada (presencia, visibilidad y texto)
+ */
+public class ElementState {
+
+    /**
+     * Estado de un componente que no está en la página
+     */
+    public static final ElementState MISSING = new ElementState(false, false, false, null);
+
+    private final boolean present;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final String text;
+
+    public ElementState(boolean present, boolean displayed, boolean enabled, String text) {
+        this.present = present;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.text = text;
+    }
+
+    /**
+     * Crea el estado a partir del objeto devuelto por JavascriptExecutor
+     */
+    static ElementState fromScriptResult(Map<?, ?> values) {
+        if (!Boolean.TRUE.equals(values.get("present"))) {
+            return MISSING;
+        }
+        return new ElementState(
+            true,
+            Boolean.TRUE.equals(values.get("displayed")),
+            Boolean.TRUE.equals(values.get("enabled")),
+            (String) values.get("text")
+        );
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Texto visible del componente (sin espacios al inicio y al final); null si no está en la página
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        if (!present) {
+            return "missing";
+        }
+        return String.format("'%s' (%s)", text, displayed ? "displayed" : "hidden");
+    }
+}
@@ -0,0 +1,80 @@
+package com.automationtest.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Capacidades del navegador según el perfil de ejecución activo (entorno de serenity.conf)
+ * El perfil "throughput" ejecuta Chrome en modo headless y sin imágenes; los escenarios que
+ * necesitan esas capacidades lo declaran con tags y se rechazan antes de abrir el navegador.
+ * Los escenarios @performance solo se ejecutan donde los tiempos son comparables (performance.scenarios.enabled)
+ */
+public class ExecutionProfile {
+
+    public static final String NEEDS_IMAGES_TAG = "@needs-images";
+    public static final String NEEDS_HEADED_TAG = "@needs-headed";
+    public static final String PERFORMANCE_TAG = "@performance";
+
+    private ExecutionProfile() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Indica si el perfil activo deshabilita la carga de imágenes
+     */
+    public static boolean imagesDisabled() {
+        return FrameworkProperties.getBoolean("profile.images.disabled", false);
+    }
+
+    /**
+     * Indica si el navegador se ejecuta en modo headless
+     */
+    public static boolean headless() {
+        return FrameworkProperties.getBoolean("headless.mode", false);
+    }
+
+    /**
+     * Indica si se ejecutan los escenarios @performance (presupuestos de carga)
+     * Apagado por defecto: contra el sitio público la latencia de Internet haría fallar el escenario
+     */
+    public static boolean performanceScenariosEnabled() {
+        return FrameworkProperties.getBoolean("performance.scenarios.enabled", false);
+    }
+
+    /**
+     * Nombre del perfil (entorno) activo
+     */
+    public static String name() {
+        return FrameworkProperties.get("environment", "default");
+    }
+
+    /**
+     * Devuelve los conflictos entre los tags de un escenario y el perfil activo
+     * @param scenarioTags Los tags del escenario
+     * @return La lista de conflictos; vacía si el escenario puede ejecutarse
+     */
+    public static List<String> conflictsWith(Collection<String> scenarioTags) {
+        List<String> conflicts = new ArrayList<>();
+        if (scenarioTags.contains(NEEDS_IMAGES_TAG) && imagesDisabled()) {
+            conflicts.add(NEEDS_IMAGES_TAG + " requires images, but profile '" + name() + "' disables them");
+        }
+        if (scenarioTags.contains(NEEDS_HEADED_TAG) && headless()) {
+            conflicts.add(NEEDS_HEADED_TAG + " requires a visible browser, but profile '" + name() + "' is headless");
+        }
+        return conflicts;
+    }
+
+    /**
+     * Falla si el perfil activo no carga imágenes
+     * @param operation La operación que necesita imágenes, para el mensaje de error
+     */
+    public static void requireImages(String operation) {
+        if (imagesDisabled()) {
+            throw new IllegalStateException(
+                String.format("%s needs images, but profile '%s' disables them (profile.images.disabled)",
+                    operation, name())
+            );
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.automationtest.util;
+
+import net.serenitybdd.model.environment.EnvironmentSpecificConfiguration;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.util.EnvironmentVariables;
+
+/**
+ * Acceso a las propiedades de configuración del framework
+ * Lee los valores de serenity.conf / serenity.properties; las propiedades de sistema (-D) tienen prioridad
+ * y luego los valores del entorno activo (environments.&lt;entorno&gt; de serenity.conf, -Denvironment=...)
+ * La configuración del entorno se resuelve una vez por ejecución (se consulta en cada espera y cada acción);
+ * solo las propiedades de sistema se leen en cada llamada, así las que se definen al arrancar (por ejemplo
+ * la URL del stand-in) se ven enseguida.
+ */
+public class FrameworkProperties {
+
+    /**
+     * Propiedad con la URL del sitio bajo prueba; el stand-in local la define al arrancar
+     */
+    public static final String BASE_URL_PROPERTY = "saucedemo.base.url";
+
+    private static volatile EnvironmentSpecificConfiguration configuration;
+
+    private FrameworkProperties() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Obtiene una propiedad de texto
+     * @param name El nombre de la propiedad
+     * @param defaultValue El valor por defecto si la propiedad no está definida
+     */
+    public static String get(String name, String defaultValue) {
+        String systemValue = System.getProperty(name);
+        if (systemValue != null && !systemValue.isEmpty()) {
+            return systemValue;
+        }
+        return configuration().getOptionalProperty(name).orElse(defaultValue);
+    }
+
+    /**
+     * Obtiene una propiedad numérica entera
+     */
+    public static int getInt(String name, int defaultValue) {
+        String value = get(name, null);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Obtiene una propiedad numérica larga
+     */
+    public static long getLong(String name, long defaultValue) {
+        String value = get(name, null);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    /**
+     * Obtiene una propiedad numérica decimal
+     */
+    public static double getDouble(String name, double defaultValue) {
+        String value = get(name, null);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Obtiene una propiedad booleana
+     */
+    public static boolean getBoolean(String name, boolean defaultValue) {
+        String value = get(name, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * URL del sitio bajo prueba, sin barra final
+     * Por defecto es Constants.BASE_URL; se puede sobreescribir con -Dsaucedemo.base.url
+     */
+    public static String baseUrl() {
+        String url = get(BASE_URL_PROPERTY, Constants.BASE_URL);
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static EnvironmentSpecificConfiguration configuration() {
+        EnvironmentSpecificConfiguration resolved = configuration;
+        if (resolved == null) {
+            synchronized (FrameworkProperties.class) {
+                if (configuration == null) {
+                    EnvironmentVariables environment = SystemEnvironmentVariables.currentEnvironmentVariables();
+                    configuration = EnvironmentSpecificConfiguration.from(environment);
+                }
+                resolved = configuration;
+            }
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,160 @@
+package com.automationtest.util;
+
+import net.serenitybdd.core.Serenity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selección reproducible de items del inventario
+ * La ejecución tiene una semilla (aleatoria, o fija con -Dselection.seed) y cada escenario deriva la suya
+ * de la semilla de la ejecución y de su nombre, así el mismo escenario elige los mismos items aunque
+ * los escenarios corran en otro orden o en paralelo. La semilla se registra en el log y en el reporte.
+ *
+ * Modos (selection.mode):
+ *   random         mezcla parcial de Fisher-Yates con la semilla del escenario (por defecto)
+ *   combinatorial  divide una mezcla del inventario hecha con la semilla de la ejecución en ventanas
+ *                  consecutivas de items sin repetidos; los escenarios toman las ventanas por turno, en el
+ *                  orden en que llegan a la selección. Con tantos escenarios como ventanas se cubre todo el
+ *                  inventario, y recién entonces se repite una ventana. La misma semilla con los mismos
+ *                  escenarios en el mismo orden elige lo mismo; un escenario que se repite en la ejecución
+ *                  (por ejemplo un reintento) conserva su ventana
+ */
+public class ItemSelection {
+
+    public static final String SEED_PROPERTY = "selection.seed";
+    public static final String MODE_PROPERTY = "selection.mode";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemSelection.class);
+    private static final String COMBINATORIAL_MODE = "combinatorial";
+    private static final long RUN_SEED = resolveRunSeed();
+    private static final Map<String, Integer> WINDOW_TURNS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_WINDOW_TURN = new AtomicInteger();
+
+    private ItemSelection() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Semilla de la ejecución; con -Dselection.seed=<n> se reproduce una ejecución anterior
+     */
+    public static long runSeed() {
+        return RUN_SEED;
+    }
+
+    /**
+     * Elige los índices de los items a usar en un escenario
+     * @param itemNames Los nombres de los items disponibles, en el orden de la página
+     * @param count La cantidad de items a elegir
+     * @param scenarioKey Identifica el escenario (nombre del escenario y usuario) para derivar su semilla
+     * @return Los índices elegidos, sin repetidos
+     */
+    public static List<Integer> select(List<String> itemNames, int count, String scenarioKey) {
+        int total = itemNames.size();
+        int toSelect = Math.min(count, total);
+        long scenarioSeed = scenarioSeed(scenarioKey);
+        boolean combinatorial = COMBINATORIAL_MODE.equalsIgnoreCase(FrameworkProperties.get(MODE_PROPERTY, "random"));
+        List<Integer> selected = combinatorial
+            ? coveringWindow(total, toSelect, RUN_SEED, windowTurn(scenarioKey))
+            : prefix(shuffledPrefix(total, toSelect, new SplittableRandom(scenarioSeed)), toSelect);
+
+        String description = String.format("run seed=%d, scenario seed=%d, mode=%s, selected=%s",
+            RUN_SEED, scenarioSeed, combinatorial ? COMBINATORIAL_MODE : "random", namesOf(itemNames, selected));
+        LOGGER.info("Item selection for '{}': {}", scenarioKey, description);
+        recordInReport(description);
+        return selected;
+    }
+
+    /**
+     * Mezcla parcial de Fisher-Yates: solo se ordenan las primeras k posiciones
+     * Usa un único arreglo de enteros, sin colecciones intermedias ni rechazos
+     */
+    static int[] shuffledPrefix(int total, int k, SplittableRandom random) {
+        int[] indexes = new int[total];
+        for (int i = 0; i < total; i++) {
+            indexes[i] = i;
+        }
+        for (int i = 0; i < k && i < total - 1; i++) {
+            int j = i + random.nextInt(total - i);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    /**
+     * Turno del escenario en el modo combinatorial: 0 para el primero que selecciona, 1 para el siguiente...
+     * Un escenario que vuelve a seleccionar en la misma ejecución conserva su turno
+     */
+    static int windowTurn(String scenarioKey) {
+        return WINDOW_TURNS.computeIfAbsent(scenarioKey, key -> NEXT_WINDOW_TURN.getAndIncrement());
+    }
+
+    /**
+     * Ventana de items del modo combinatorial
+     * La mezcla del inventario es la misma para toda la ejecución (semilla de la ejecución) y se divide en
+     * ceil(total / k) ventanas de k items consecutivos; la última toma items del principio para completar k.
+     * Turnos consecutivos toman ventanas consecutivas, así cada ceil(total / k) escenarios se cubre el inventario.
+     */
+    static List<Integer> coveringWindow(int total, int k, long runSeed, int turn) {
+        if (k <= 0) {
+            return new ArrayList<>(0);
+        }
+        int[] runOrder = shuffledPrefix(total, total, new SplittableRandom(runSeed));
+        int windows = (total + k - 1) / k;
+        int start = Math.floorMod(turn, windows) * k;
+        List<Integer> selected = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            selected.add(runOrder[(start + i) % total]);
+        }
+        return selected;
+    }
+
+    private static List<Integer> prefix(int[] order, int toSelect) {
+        List<Integer> selected = new ArrayList<>(toSelect);
+        for (int i = 0; i < toSelect; i++) {
+            selected.add(order[i]);
+        }
+        return selected;
+    }
+
+    private static List<String> namesOf(List<String> itemNames, List<Integer> indexes) {
+        List<String> names = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            names.add(itemNames.get(index));
+        }
+        return names;
+    }
+
+    /**
+     * Semilla del escenario: mezcla (SplitMix64) de la semilla de la ejecución con la clave del escenario
+     */
+    private static long scenarioSeed(String scenarioKey) {
+        long z = RUN_SEED + 0x9E3779B97F4A7C15L * (scenarioKey.hashCode() + 1L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long resolveRunSeed() {
+        String configured = FrameworkProperties.get(SEED_PROPERTY, null);
+        long seed = configured != null ? Long.parseLong(configured.trim()) : new SplittableRandom().nextLong();
+        LOGGER.info("Item selection run seed: {} (replay with -D{}={})", seed, SEED_PROPERTY, seed);
+        return seed;
+    }
+
+    private static void recordInReport(String description) {
+        try {
+            Serenity.recordReportData().withTitle("Item selection").andContents(
+                description + System.lineSeparator() + "Replay with -D" + SEED_PROPERTY + "=" + RUN_SEED);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not record the item selection in the report: {}", e.getMessage());
+        }
+    }
+}
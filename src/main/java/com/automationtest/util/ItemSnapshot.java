@@ -0,0 +1,61 @@
+package com.automationtest.util;
+
+import java.util.Map;
+
+/**
+ * Datos de un item (inventario o carrito) leídos del DOM en una sola llamada
+ */
+public class ItemSnapshot {
+
+    private final int index;
+    private final String name;
+    private final String price;
+    private final String imageSrc;
+    private final String buttonDataTest;
+
+    public ItemSnapshot(int index, String name, String price, String imageSrc, String buttonDataTest) {
+        this.index = index;
+        this.name = name;
+        this.price = price;
+        this.imageSrc = imageSrc;
+        this.buttonDataTest = buttonDataTest;
+    }
+
+    /**
+     * Crea el snapshot a partir del objeto devuelto por JavascriptExecutor
+     */
+    static ItemSnapshot fromScriptResult(Map<?, ?> values) {
+        return new ItemSnapshot(
+            ((Number) values.get("index")).intValue(),
+            (String) values.get("name"),
+            (String) values.get("price"),
+            (String) values.get("imageSrc"),
+            (String) values.get("buttonDataTest")
+        );
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPrice() {
+        return price;
+    }
+
+    public String getImageSrc() {
+        return imageSrc;
+    }
+
+    public String getButtonDataTest() {
+        return buttonDataTest;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s)", name, price);
+    }
+}
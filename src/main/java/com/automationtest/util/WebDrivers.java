@@ -0,0 +1,32 @@
+package com.automationtest.util;
+
+import net.thucydides.core.webdriver.WebDriverFacade;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Utilidades sobre instancias de WebDriver
+ */
+public class WebDrivers {
+
+    private WebDrivers() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Obtiene el driver real detrás de la fachada de Serenity y de los decoradores (instrumentación, pool)
+     * Sirve para identificar la sesión del navegador sin importar cuántas capas la envuelven
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        WebDriver current = driver;
+        while (true) {
+            if (current instanceof WebDriverFacade) {
+                current = ((WebDriverFacade) current).getProxiedDriver();
+            } else if (current instanceof WrapsDriver) {
+                current = ((WrapsDriver) current).getWrappedDriver();
+            } else {
+                return current;
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.automationtest.waits;
+
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.metrics.Percentiles;
+import com.automationtest.util.ExecutionProfile;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Timeouts de espera aprendidos de las latencias observadas
+ * Por cada condición de WaitEngine se guardan las últimas duraciones exitosas (ventana móvil) y el
+ * timeout de la siguiente espera es un percentil alto de esa ventana más un margen, acotado entre un
+ * mínimo y el máximo de la espera. Así una espera que realmente falla lo hace en cuanto pasa lo habitual
+ * para esa condición, en lugar de agotar siempre el máximo.
+ *
+ * - Sin suficientes muestras (wait.adaptive.min.samples) se usa el máximo, como antes.
+ * - Si una espera vence con el timeout aprendido, la ventana de esa condición se descarta y vuelve a usar
+ *   el máximo hasta reaprender: un entorno más lento que el historial no falla dos veces por lo mismo.
+ * - wait.timeout.override (milisegundos) fija el timeout de todas las esperas e ignora el historial.
+ *
+ * El historial se guarda por entorno de serenity.conf en wait-history/&lt;entorno&gt;.json (fuera de target
+ * para sobrevivir a mvn clean) y se actualiza al final de cada ejecución.
+ */
+public class AdaptiveTimeouts {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveTimeouts.class);
+    private static final Json JSON = new Json();
+    private static final Map<String, Window> WINDOWS = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    private AdaptiveTimeouts() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Timeout máximo de una espera (wait.timeout.max, en milisegundos)
+     */
+    public static Duration maxTimeout() {
+        return Duration.ofMillis(FrameworkProperties.getLong("wait.timeout.max", 10000));
+    }
+
+    /**
+     * Timeout para la siguiente espera de la condición
+     * @param conditionName El nombre de la condición en WaitEngine
+     * @param cap El máximo de esta espera; se usa tal cual mientras no haya historial suficiente
+     */
+    public static Duration timeoutFor(String conditionName, Duration cap) {
+        long override = FrameworkProperties.getLong("wait.timeout.override", -1);
+        if (override >= 0) {
+            return Duration.ofMillis(override);
+        }
+        if (!enabled()) {
+            return cap;
+        }
+        Window window = window(conditionName);
+        long learned = window.learnedMillis();
+        if (learned < 0) {
+            return cap;
+        }
+        long floor = FrameworkProperties.getLong("wait.adaptive.min", 1000);
+        return Duration.ofMillis(Math.min(cap.toMillis(), Math.max(floor, learned)));
+    }
+
+    /**
+     * Registra el resultado de una espera
+     * @param timeout El timeout con el que se esperó
+     * @param cap El máximo de esa espera; si el timeout era menor, la espera usó un valor aprendido
+     */
+    public static void record(String conditionName, long elapsedMillis, boolean satisfied, Duration timeout,
+                              Duration cap) {
+        if (!enabled()) {
+            return;
+        }
+        Window window = window(conditionName);
+        if (satisfied) {
+            window.add(elapsedMillis);
+        } else if (timeout.compareTo(cap) < 0) {
+            window.clear();
+            LOGGER.warn("Wait '{}' timed out after its learned timeout of {} ms; using {} ms until it is learned again",
+                conditionName, timeout.toMillis(), cap.toMillis());
+        }
+    }
+
+    /**
+     * Guarda el historial de la ejecución para las próximas
+     */
+    public static void save() {
+        if (!enabled() || !loaded) {
+            return;
+        }
+        Map<String, List<Long>> samples = new TreeMap<>();
+        WINDOWS.forEach((condition, window) -> {
+            List<Long> values = window.values();
+            if (!values.isEmpty()) {
+                samples.put(condition, values);
+            }
+        });
+        Path file = historyFile();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(JSON.toJson(samples));
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Wait latency history for {} conditions saved to {}", samples.size(), file.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not save the wait latency history", e);
+        }
+    }
+
+    private static boolean enabled() {
+        return FrameworkProperties.getBoolean("wait.adaptive.enabled", true);
+    }
+
+    private static Window window(String conditionName) {
+        if (!loaded) {
+            load();
+        }
+        return WINDOWS.computeIfAbsent(conditionName, name -> new Window());
+    }
+
+    private static synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        Path file = historyFile();
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                Map<String, List<Number>> samples = JSON.toType(reader, Json.MAP_TYPE);
+                samples.forEach((condition, values) -> {
+                    Window window = WINDOWS.computeIfAbsent(condition, name -> new Window());
+                    values.forEach(value -> window.add(value.longValue()));
+                });
+                LOGGER.info("Loaded wait latency history for {} conditions from {}", samples.size(), file);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Ignoring unreadable wait latency history {}: {}", file, e.getMessage());
+            }
+        }
+        loaded = true;
+    }
+
+    private static Path historyFile() {
+        Path dir = Paths.get(FrameworkProperties.get("wait.adaptive.history.dir", "wait-history"));
+        return dir.resolve(ExecutionProfile.name() + ".json");
+    }
+
+    /**
+     * Últimas duraciones exitosas de una condición
+     */
+    private static final class Window {
+
+        private final Deque<Long> samples = new ArrayDeque<>();
+
+        synchronized void add(long elapsedMillis) {
+            samples.addLast(elapsedMillis);
+            int size = FrameworkProperties.getInt("wait.adaptive.window", 200);
+            while (samples.size() > size) {
+                samples.removeFirst();
+            }
+        }
+
+        synchronized void clear() {
+            samples.clear();
+        }
+
+        synchronized List<Long> values() {
+            return List.copyOf(samples);
+        }
+
+        /**
+         * Percentil configurado más el margen, o -1 si todavía no hay muestras suficientes
+         */
+        synchronized long learnedMillis() {
+            if (samples.size() < FrameworkProperties.getInt("wait.adaptive.min.samples", 20)) {
+                return -1;
+            }
+            long[] values = samples.stream().mapToLong(Long::longValue).toArray();
+            double rank = FrameworkProperties.getDouble("wait.adaptive.percentile", 99);
+            long percentile = Percentiles.of(values).get(rank);
+            return percentile + FrameworkProperties.getLong("wait.adaptive.margin", 1000);
+        }
+    }
+}
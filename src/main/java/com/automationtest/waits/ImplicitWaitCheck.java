@@ -0,0 +1,151 @@
+package com.automationtest.waits;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.FrameworkProperties;
+import com.automationtest.util.WebDrivers;
+
+/**
+ * Verificación de que nada dependa de la espera implícita de WebDriver
+ * Todas las esperas del framework son explícitas (WaitEngine); una espera implícita distinta de cero se
+ * suma a cada espera explícita y hace que cada findElements negativo (por ejemplo, comprobar que el
+ * carrito está vacío) bloquee durante todo el timeout implícito.
+ *
+ * - verifyConfiguration revisa las propiedades de espera implícita de serenity.conf / serenity.properties / -D
+ *   una vez, al arrancar la ejecución (hook @BeforeAll), antes de abrir ningún navegador.
+ * - verify lee la espera implícita efectiva de cada sesión de navegador en su primera espera de WaitEngine,
+ *   lo que detecta también código que llame a implicitlyWait.
+ * Con wait.implicit.strict = true cualquier hallazgo falla; si no, se registra como warning y la espera
+ * implícita del navegador se deja en cero.
+ */
+public class ImplicitWaitCheck {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImplicitWaitCheck.class);
+    private static final String[] IMPLICIT_WAIT_PROPERTIES = {
+        "webdriver.timeouts.implicitlywait",
+        "webdriver.timeouts.implicitly_wait"
+    };
+    private static final Pattern DURATION =
+        Pattern.compile("(\\d+)\\s*(ms|millis|milliseconds?|s|secs?|seconds?|m|mins?|minutes?)?");
+    private static final Map<WebDriver, Boolean> VERIFIED = new WeakHashMap<>();
+    private static volatile boolean configurationVerified;
+
+    private ImplicitWaitCheck() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Verifica la configuración una sola vez por ejecución
+     * @throws IllegalStateException Si la configuración pide una espera implícita y wait.implicit.strict = true
+     */
+    public static void verifyConfiguration() {
+        synchronized (VERIFIED) {
+            if (configurationVerified) {
+                return;
+            }
+            configurationVerified = true;
+        }
+        report(configurationProblems(), "configuration");
+    }
+
+    /**
+     * Verifica el navegador la primera vez que se llama con cada sesión (y la configuración, si todavía no
+     * se verificó, por ejemplo fuera de Cucumber)
+     * @param driver El WebDriver del actor
+     * @throws IllegalStateException Si hay una espera implícita distinta de cero y wait.implicit.strict = true
+     */
+    public static void verify(WebDriver driver) {
+        WebDriver browser = WebDrivers.unwrap(driver);
+        synchronized (VERIFIED) {
+            if (VERIFIED.put(browser, Boolean.TRUE) != null) {
+                return;
+            }
+        }
+        verifyConfiguration();
+
+        Duration implicitWait = implicitWaitOf(driver);
+        if (!implicitWait.isZero()) {
+            report(Collections.singletonList(
+                "the browser session has an implicit wait of " + implicitWait.toMillis() + " ms"), "browser session");
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+    }
+
+    /**
+     * Propiedades de configuración que piden una espera implícita distinta de cero, o cuyo valor no se entiende
+     */
+    public static List<String> configurationProblems() {
+        List<String> problems = new ArrayList<>();
+        for (String property : IMPLICIT_WAIT_PROPERTIES) {
+            String value = FrameworkProperties.get(property, null);
+            if (value == null) {
+                continue;
+            }
+            Duration wait = parseDuration(value);
+            if (wait == null) {
+                problems.add(property + " = " + value.trim() + " is not a duration (expected e.g. 0, 0ms or 0s)");
+            } else if (!wait.isZero()) {
+                problems.add(property + " = " + value.trim());
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Lee una duración como las acepta Serenity: milisegundos sin unidad (10000) o con unidad (10000ms, 10s,
+     * 1 minute)
+     * @return La duración, o null si el valor no tiene ese formato
+     */
+    static Duration parseDuration(String value) {
+        Matcher matcher = DURATION.matcher(value.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            return null;
+        }
+        long amount;
+        try {
+            amount = Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        String unit = matcher.group(2);
+        if (unit == null || unit.startsWith("ms") || unit.startsWith("milli")) {
+            return Duration.ofMillis(amount);
+        }
+        return unit.startsWith("s") ? Duration.ofSeconds(amount) : Duration.ofMinutes(amount);
+    }
+
+    /**
+     * Falla con wait.implicit.strict = true; si no, registra los hallazgos como warning
+     */
+    private static void report(List<String> problems, String source) {
+        if (problems.isEmpty()) {
+            return;
+        }
+        String message = "Implicit waits must be 0 (all waits go through WaitEngine): " + String.join("; ", problems);
+        if (FrameworkProperties.getBoolean("wait.implicit.strict", false)) {
+            throw new IllegalStateException(message);
+        }
+        LOGGER.warn("{} (found by the {} check); browser implicit waits are reset to 0", message, source);
+    }
+
+    private static Duration implicitWaitOf(WebDriver driver) {
+        try {
+            return driver.manage().timeouts().getImplicitWaitTimeout();
+        } catch (UnsupportedOperationException | WebDriverException e) {
+            LOGGER.debug("Cannot read the implicit wait of {}: {}", driver.getClass().getSimpleName(), e.getMessage());
+            return Duration.ZERO;
+        }
+    }
+}
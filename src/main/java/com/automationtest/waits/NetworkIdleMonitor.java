@@ -0,0 +1,212 @@
+package com.automationtest.waits;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.driver.BrowserlessDriver;
+import com.automationtest.util.FrameworkProperties;
+import com.automationtest.util.WebDrivers;
+
+/**
+ * Detección real de "network idle" usando Chrome DevTools Protocol
+ * Escucha los eventos Network.requestWillBeSent / loadingFinished / loadingFailed para llevar la cuenta
+ * de las peticiones en curso. La red se considera inactiva cuando no hay peticiones pendientes
+ * durante una ventana de silencio configurable.
+ *
+ * Los eventos CDP se registran por nombre, sin depender de una versión concreta de
+ * selenium-devtools, así que funciona con cualquier Chrome soportado por Selenium 4.23.
+ * Si el driver no soporta DevTools se usa como respaldo la Resource Timing API del navegador; con el backend
+ * sin navegador (@browserless) se esperan los scripts en segundo plano de HtmlUnit.
+ *
+ * Configuración (serenity.conf o -D):
+ *   network.idle.quiet.window  milisegundos sin actividad de red (por defecto 500)
+ *   network.idle.timeout       milisegundos máximos de espera (por defecto 10000)
+ */
+public class NetworkIdleMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkIdleMonitor.class);
+    private static final Map<WebDriver, NetworkIdleMonitor> MONITORS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    private static final String RESOURCE_COUNT_SCRIPT =
+        "return performance.getEntriesByType('resource').length;";
+
+    private final Map<String, String> inFlightRequests = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private long lastActivityNanos = System.nanoTime();
+
+    private NetworkIdleMonitor() {
+    }
+
+    /**
+     * Espera a que la red del navegador quede inactiva usando la configuración por defecto
+     * @param driver El WebDriver (puede ser el WebDriverFacade de Serenity)
+     */
+    public static void untilIdle(WebDriver driver) {
+        untilIdle(driver,
+            Duration.ofMillis(FrameworkProperties.getLong("network.idle.quiet.window", 500)),
+            Duration.ofMillis(FrameworkProperties.getLong("network.idle.timeout", 10000)));
+    }
+
+    /**
+     * Espera a que no haya peticiones en curso durante la ventana de silencio indicada
+     * @param quietWindow El tiempo sin actividad de red requerido
+     * @param timeout El tiempo máximo de espera; al vencer se lanza TimeoutException con las peticiones pendientes
+     */
+    public static void untilIdle(WebDriver driver, Duration quietWindow, Duration timeout) {
+        NetworkIdleMonitor monitor = monitorFor(driver);
+        long start = System.nanoTime();
+        boolean satisfied = false;
+        try {
+            if (monitor != null) {
+                monitor.awaitIdle(quietWindow, timeout);
+            } else if (BrowserlessDriver.isBrowserless(driver)) {
+                awaitBackgroundJavaScript(driver, timeout);
+            } else {
+                awaitStableResourceCount(driver, quietWindow, timeout);
+            }
+            satisfied = true;
+        } finally {
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            WaitTimings.record("network idle", elapsedMillis, satisfied);
+            LOGGER.debug("Network idle wait finished in {} ms (satisfied: {})", elapsedMillis, satisfied);
+        }
+    }
+
+    /**
+     * Obtiene (o crea) el monitor asociado al navegador; null si el driver no soporta DevTools
+     */
+    private static NetworkIdleMonitor monitorFor(WebDriver driver) {
+        WebDriver realDriver = WebDrivers.unwrap(driver);
+        if (!(realDriver instanceof HasDevTools)) {
+            return null;
+        }
+        synchronized (MONITORS) {
+            NetworkIdleMonitor monitor = MONITORS.get(realDriver);
+            if (monitor == null) {
+                monitor = new NetworkIdleMonitor();
+                try {
+                    monitor.listenTo(((HasDevTools) realDriver).getDevTools());
+                } catch (RuntimeException e) {
+                    LOGGER.warn("DevTools not available, falling back to Resource Timing: {}", e.getMessage());
+                    return null;
+                }
+                MONITORS.put(realDriver, monitor);
+            }
+            return monitor;
+        }
+    }
+
+    private void listenTo(DevTools devTools) {
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+
+        devTools.addListener(cdpEvent("Network.requestWillBeSent"), params -> {
+            Object request = params.get("request");
+            Object url = request instanceof Map ? ((Map<?, ?>) request).get("url") : null;
+            inFlightRequests.put(String.valueOf(params.get("requestId")), String.valueOf(url));
+            onActivity();
+        });
+        devTools.addListener(cdpEvent("Network.loadingFinished"), params -> finished(params));
+        devTools.addListener(cdpEvent("Network.loadingFailed"), params -> finished(params));
+    }
+
+    private static Event<Map<String, Object>> cdpEvent(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private void finished(Map<String, Object> params) {
+        inFlightRequests.remove(String.valueOf(params.get("requestId")));
+        onActivity();
+    }
+
+    private void onActivity() {
+        synchronized (lock) {
+            lastActivityNanos = System.nanoTime();
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Bloquea hasta que no haya peticiones pendientes durante la ventana de silencio
+     * Se despierta con cada evento de red, sin pausas fijas
+     */
+    private void awaitIdle(Duration quietWindow, Duration timeout) {
+        long quietNanos = quietWindow.toNanos();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        synchronized (lock) {
+            while (true) {
+                long now = System.nanoTime();
+                long idleFor = now - lastActivityNanos;
+                if (inFlightRequests.isEmpty() && idleFor >= quietNanos) {
+                    return;
+                }
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    throw new TimeoutException(String.format(
+                        "Network did not become idle within %d ms; %d request(s) still outstanding: %s",
+                        timeout.toMillis(), inFlightRequests.size(), inFlightRequests.values()));
+                }
+                long waitNanos = inFlightRequests.isEmpty() ? Math.min(quietNanos - idleFor, remaining) : remaining;
+                try {
+                    lock.wait(Math.max(1, Duration.ofNanos(waitNanos).toMillis()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for network idle", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Backend sin navegador: HtmlUnit ya descargó la página y sus recursos, solo pueden quedar scripts pendientes
+     */
+    private static void awaitBackgroundJavaScript(WebDriver driver, Duration timeout) {
+        BrowserlessDriver browserless = (BrowserlessDriver) WebDrivers.unwrap(driver);
+        if (!browserless.awaitBackgroundJavaScript(timeout.toMillis())) {
+            throw new TimeoutException(String.format(
+                "Background scripts were still running after %d ms", timeout.toMillis()));
+        }
+    }
+
+    /**
+     * Respaldo sin DevTools: la red se considera inactiva cuando la cantidad de entradas
+     * de Resource Timing no cambia durante la ventana de silencio
+     */
+    private static void awaitStableResourceCount(WebDriver driver, Duration quietWindow, Duration timeout) {
+        long[] lastCount = {-1};
+        long[] lastChange = {System.nanoTime()};
+        long quietNanos = quietWindow.toNanos();
+
+        try {
+            WaitEngine.until(driver, "resource timing stable", timeout, d -> {
+                Object count = ((JavascriptExecutor) d).executeScript(RESOURCE_COUNT_SCRIPT);
+                long current = count instanceof Number ? ((Number) count).longValue() : 0;
+                long now = System.nanoTime();
+                if (current != lastCount[0]) {
+                    lastCount[0] = current;
+                    lastChange[0] = now;
+                    return false;
+                }
+                return now - lastChange[0] >= quietNanos;
+            });
+        } catch (TimeoutException e) {
+            throw new TimeoutException(String.format(
+                "Network did not become idle within %d ms; resource count kept changing (last: %d)",
+                timeout.toMillis(), lastCount[0]), e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.automationtest.waits;
+
+import org.openqa.selenium.support.ui.Sleeper;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Intervalo de sondeo con retroceso exponencial para una espera de WaitEngine
+ * Los primeros intentos se repiten rápido (la mayoría de las condiciones se cumplen en pocos cientos de
+ * milisegundos) y el intervalo crece hasta un máximo para no saturar el navegador en las esperas largas.
+ * Nunca duerme más allá del fin de la espera, así el timeout no se excede en un intervalo completo.
+ *
+ * - wait.polling.initial: primer intervalo (milisegundos, 50 por defecto)
+ * - wait.polling.multiplier: factor de crecimiento entre intentos (1.5 por defecto; 1 = intervalo fijo)
+ * - wait.polling.max: intervalo máximo (milisegundos, 500 por defecto)
+ * Un intervalo inicial de 0 se toma como 1 ms, así la espera no sondea sin pausa.
+ */
+class PollingBackoff implements Sleeper {
+
+    private static final long MIN_INTERVAL_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final LongSupplier nanoClock;
+    private final long deadlineNanos;
+    private final double multiplier;
+    private final long maxIntervalNanos;
+    private long nextIntervalNanos;
+
+    /**
+     * @param nanoClock Reloj monotónico en nanosegundos (System::nanoTime fuera de las pruebas)
+     */
+    PollingBackoff(Duration timeout, Duration initial, double multiplier, Duration maxInterval,
+                   LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.deadlineNanos = nanoClock.getAsLong() + timeout.toNanos();
+        this.multiplier = Math.max(1.0, multiplier);
+        this.nextIntervalNanos = Math.max(MIN_INTERVAL_NANOS, initial.toNanos());
+        this.maxIntervalNanos = Math.max(nextIntervalNanos, maxInterval.toNanos());
+    }
+
+    /**
+     * Crea el sondeo de una espera con la configuración de serenity.conf / -D
+     * @param timeout El timeout de la espera, usado para no dormir más allá de su fin
+     */
+    static PollingBackoff forTimeout(Duration timeout) {
+        return new PollingBackoff(timeout,
+            Duration.ofMillis(FrameworkProperties.getLong("wait.polling.initial", 50)),
+            FrameworkProperties.getDouble("wait.polling.multiplier", 1.5),
+            Duration.ofMillis(FrameworkProperties.getLong("wait.polling.max", 500)),
+            System::nanoTime);
+    }
+
+    /**
+     * Intervalo de sondeo inicial, el que se le informa a la espera de Selenium
+     */
+    Duration initialInterval() {
+        return Duration.ofNanos(nextIntervalNanos);
+    }
+
+    /**
+     * Duerme el intervalo actual (ignora el intervalo fijo de la espera de Selenium) y calcula el siguiente
+     */
+    @Override
+    public void sleep(Duration ignored) throws InterruptedException {
+        long sleepNanos = nextSleepNanos();
+        if (sleepNanos > 0) {
+            Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+        }
+    }
+
+    /**
+     * Pausa del intento actual, recortada al tiempo que le queda a la espera, y avanza al siguiente intervalo
+     */
+    long nextSleepNanos() {
+        long remainingNanos = deadlineNanos - nanoClock.getAsLong();
+        long sleepNanos = Math.min(nextIntervalNanos, Math.max(0, remainingNanos));
+        nextIntervalNanos = Math.min(maxIntervalNanos, (long) (nextIntervalNanos * multiplier));
+        return sleepNanos;
+    }
+}
@@ -0,0 +1,166 @@
+package com.automationtest.waits;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.ui.ElementCache;
+import com.automationtest.ui.InventoryPage;
+import com.automationtest.ui.Locators;
+import com.automationtest.ui.PageSnapshot;
+
+/**
+ * Motor central de esperas basadas en eventos de la página
+ * Cada espera termina en cuanto la condición se cumple (sin pausas fijas) y registra
+ * en WaitTimings cuánto tardó realmente la condición. El timeout de cada espera lo decide
+ * AdaptiveTimeouts a partir de las duraciones anteriores de la misma condición, y la condición se
+ * sondea con retroceso exponencial (PollingBackoff). La espera implícita de WebDriver debe ser cero:
+ * ImplicitWaitCheck revisa la configuración al arrancar (WaitHooks) y cada sesión en su primera espera.
+ */
+public class WaitEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitEngine.class);
+    private static final String RUNNING_ANIMATIONS_SCRIPT =
+        "return document.getAnimations ? "
+            + "document.getAnimations().filter(function (a) { return a.playState === 'running'; }).length : 0;";
+    private static final String DOCUMENT_READY_SCRIPT = "return document.readyState;";
+
+    private WaitEngine() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Espera a que el elemento sea visible
+     */
+    public static WebElement untilVisible(WebDriver driver, By locator) {
+        return until(driver, "visible " + locator, AdaptiveTimeouts.maxTimeout(),
+            ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    /**
+     * Espera a que el elemento sea visible y esté habilitado para hacer clic
+     */
+    public static WebElement untilClickable(WebDriver driver, By locator) {
+        return until(driver, "clickable " + locator, AdaptiveTimeouts.maxTimeout(),
+            ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    /**
+     * Espera a que todos los componentes estén visibles leyendo su estado en una sola llamada por intento
+     * @return El estado de los componentes en el momento en que se cumplió la condición
+     */
+    public static PageSnapshot untilDisplayed(WebDriver driver, By... locators) {
+        return until(driver, "displayed " + Arrays.toString(locators), AdaptiveTimeouts.maxTimeout(), d -> {
+            PageSnapshot snapshot = Locators.read(d, locators);
+            return snapshot.allDisplayed() ? snapshot : null;
+        });
+    }
+
+    /**
+     * Espera a que exista el elemento, visible o no
+     */
+    public static WebElement untilPresent(WebDriver driver, By locator) {
+        return until(driver, "present " + locator, AdaptiveTimeouts.maxTimeout(),
+            ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    /**
+     * Espera a que exista al menos un elemento que coincida con el localizador
+     */
+    public static List<WebElement> untilAllPresent(WebDriver driver, By locator) {
+        return until(driver, "present " + locator, AdaptiveTimeouts.maxTimeout(),
+            ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+    }
+
+    /**
+     * Espera a que el badge del carrito muestre la cantidad esperada
+     * @param expectedCount La cantidad esperada de items en el carrito
+     * @param timeout El tiempo máximo de espera
+     */
+    public static void untilCartBadgeCount(WebDriver driver, int expectedCount, Duration timeout) {
+        String expectedText = String.valueOf(expectedCount);
+        until(driver, "cart badge = " + expectedCount, timeout, d -> {
+            List<WebElement> badges = d.findElements(InventoryPage.SHOPPING_CART_BADGE);
+            if (badges.isEmpty()) {
+                return expectedCount == 0;
+            }
+            return expectedText.equals(badges.get(0).getText().trim());
+        });
+    }
+
+    /**
+     * Espera a que la URL actual contenga el fragmento indicado
+     * Al cumplirse, la página cambió: descarta los elementos cacheados del navegador (ElementCache)
+     */
+    public static void untilUrlContains(WebDriver driver, String fragment) {
+        until(driver, "url contains " + fragment, AdaptiveTimeouts.maxTimeout(),
+            ExpectedConditions.urlContains(fragment));
+        ElementCache.invalidate(driver);
+    }
+
+    /**
+     * Espera a que terminen las animaciones y transiciones CSS en curso (por ejemplo, el menú lateral)
+     */
+    public static void untilAnimationsFinished(WebDriver driver) {
+        until(driver, "animations finished", AdaptiveTimeouts.maxTimeout(), d -> {
+            Object running = ((JavascriptExecutor) d).executeScript(RUNNING_ANIMATIONS_SCRIPT);
+            return running instanceof Number && ((Number) running).intValue() == 0;
+        });
+    }
+
+    /**
+     * Espera a que el documento haya terminado de cargar (document.readyState == complete)
+     */
+    public static void untilDocumentReady(WebDriver driver) {
+        until(driver, "document ready", AdaptiveTimeouts.maxTimeout(),
+            d -> "complete".equals(((JavascriptExecutor) d).executeScript(DOCUMENT_READY_SCRIPT)));
+    }
+
+    /**
+     * Espera genérica: evalúa la condición hasta que devuelva un valor no nulo / true
+     * y registra la duración real de la espera
+     * @param conditionName El nombre de la condición, usado en los registros de tiempos y en el historial
+     *                      de AdaptiveTimeouts
+     * @param maxTimeout El máximo de la espera; el timeout real puede ser menor si ya se aprendió
+     */
+    public static <V> V until(WebDriver driver, String conditionName, Duration maxTimeout,
+                              Function<? super WebDriver, V> condition) {
+        ImplicitWaitCheck.verify(driver);
+        Duration timeout = AdaptiveTimeouts.timeoutFor(conditionName, maxTimeout);
+        PollingBackoff polling = PollingBackoff.forTimeout(timeout);
+        WebDriverWait wait = new WebDriverWait(driver, timeout, polling.initialInterval(), Clock.systemDefaultZone(),
+            polling);
+
+        long start = System.nanoTime();
+        try {
+            V result = wait.until(condition);
+            long elapsedMillis = elapsedMillis(start);
+            WaitTimings.record(conditionName, elapsedMillis, true);
+            AdaptiveTimeouts.record(conditionName, elapsedMillis, true, timeout, maxTimeout);
+            LOGGER.debug("Wait '{}' satisfied in {} ms", conditionName, elapsedMillis);
+            return result;
+        } catch (TimeoutException e) {
+            long elapsedMillis = elapsedMillis(start);
+            WaitTimings.record(conditionName, elapsedMillis, false);
+            AdaptiveTimeouts.record(conditionName, elapsedMillis, false, timeout, maxTimeout);
+            LOGGER.debug("Wait '{}' timed out after {} ms (timeout {} ms)", conditionName, elapsedMillis,
+                timeout.toMillis());
+            throw e;
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+}
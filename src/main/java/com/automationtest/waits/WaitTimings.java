@@ -0,0 +1,82 @@
+package com.automationtest.waits;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.automationtest.metrics.StepMetrics;
+
+/**
+ * Registro de las duraciones reales de cada condición de espera
+ * Permite ver cuánto tiempo se esperó en la práctica frente al timeout configurado
+ */
+public class WaitTimings {
+
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private WaitTimings() {
+        // Clase de utilidades, no se debe instanciar
+    }
+
+    /**
+     * Registra la duración de una espera
+     * @param conditionName El nombre de la condición
+     * @param elapsedMillis Los milisegundos que tardó la condición
+     * @param satisfied true si la condición se cumplió, false si hubo timeout
+     */
+    public static void record(String conditionName, long elapsedMillis, boolean satisfied) {
+        STATS.computeIfAbsent(conditionName, name -> new Stats()).add(elapsedMillis, satisfied);
+        StepMetrics.recordWait(elapsedMillis);
+    }
+
+    /**
+     * Devuelve una copia ordenada de las estadísticas acumuladas
+     */
+    public static Map<String, Stats> snapshot() {
+        return Collections.unmodifiableMap(new TreeMap<>(STATS));
+    }
+
+    /**
+     * Estadísticas acumuladas de una condición de espera
+     */
+    public static class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        void add(long elapsedMillis, boolean satisfied) {
+            count.increment();
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+            if (!satisfied) {
+                timeouts.increment();
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        public long getTotalMillis() {
+            return totalMillis.sum();
+        }
+
+        public long getMaxMillis() {
+            return maxMillis.get();
+        }
+
+        public long getAverageMillis() {
+            long samples = getCount();
+            return samples == 0 ? 0 : getTotalMillis() / samples;
+        }
+    }
+}
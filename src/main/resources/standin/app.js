@@ -0,0 +1,104 @@
+(function () {
+  'use strict';
+
+  var CART_COOKIE = 'cart-contents';
+
+  function readCart() {
+    var match = document.cookie.match(/(?:^|; )cart-contents=([^;]*)/);
+    return match && match[1] ? match[1].split('-').filter(function (id) { return id !== ''; }) : [];
+  }
+
+  function writeCart(ids) {
+    document.cookie = CART_COOKIE + '=' + ids.join('-') + '; path=/';
+  }
+
+  function renderBadge(count) {
+    var link = document.querySelector('[data-test="shopping-cart-link"]');
+    if (!link) {
+      return;
+    }
+    var badge = link.querySelector('[data-test="shopping-cart-badge"]');
+    if (count === 0) {
+      if (badge) {
+        link.removeChild(badge);
+      }
+      return;
+    }
+    if (!badge) {
+      badge = document.createElement('span');
+      badge.className = 'shopping_cart_badge';
+      badge.setAttribute('data-test', 'shopping-cart-badge');
+      link.appendChild(badge);
+    }
+    badge.textContent = String(count);
+  }
+
+  function setButtonState(button, inCart) {
+    var action = (inCart ? 'remove-' : 'add-to-cart-') + button.getAttribute('data-slug');
+    button.textContent = inCart ? 'Remove' : 'Add to cart';
+    button.className = inCart ? 'btn btn_secondary btn_small btn_inventory' : 'btn btn_primary btn_small btn_inventory';
+    button.setAttribute('data-test', action);
+    button.id = action;
+    button.name = action;
+  }
+
+  // Agregar / quitar productos: el carrito se guarda en una cookie, como saucedemo.com lo guarda en localStorage,
+  // y el badge se actualiza cuando el servidor confirma el cambio
+  function syncCart() {
+    return fetch('/api/cart', {
+      method: 'POST',
+      credentials: 'same-origin',
+      headers: { 'X-Requested-With': 'XMLHttpRequest' }
+    });
+  }
+
+  document.addEventListener('click', function (event) {
+    var button = event.target.closest ? event.target.closest('button[data-item-id]') : null;
+    if (!button) {
+      return;
+    }
+    event.preventDefault();
+    if (button.hasAttribute('data-broken')) {
+      return;
+    }
+    var id = button.getAttribute('data-item-id');
+    var ids = readCart();
+    var position = ids.indexOf(id);
+    if (position < 0) {
+      ids.push(id);
+    } else {
+      ids.splice(position, 1);
+    }
+    writeCart(ids);
+
+    var cartItem = button.closest('.cart_item');
+    if (cartItem && position >= 0) {
+      cartItem.parentNode.removeChild(cartItem);
+    } else {
+      setButtonState(button, position < 0);
+    }
+    syncCart().then(function () { renderBadge(readCart().length); });
+  });
+
+  // Menú lateral con la misma transición que el menú de saucedemo.com
+  var openMenu = document.getElementById('react-burger-menu-btn');
+  var closeMenu = document.getElementById('react-burger-cross-btn');
+  if (openMenu) {
+    openMenu.addEventListener('click', function () { document.body.classList.add('menu-open'); });
+  }
+  if (closeMenu) {
+    closeMenu.addEventListener('click', function () { document.body.classList.remove('menu-open'); });
+  }
+
+  // problem_user: lo que se escribe en Last Name termina en First Name
+  if (document.body.classList.contains('problem-user')) {
+    var firstName = document.querySelector('[data-test="firstName"]');
+    var lastName = document.querySelector('[data-test="lastName"]');
+    if (firstName && lastName) {
+      lastName.addEventListener('input', function () {
+        firstName.value = lastName.value.slice(-1);
+        lastName.value = '';
+      });
+    }
+  }
+}());
@@ -1,22 +1,26 @@
 package automationtest.runners;
 
-import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
+import net.serenitybdd.cucumber.CucumberWithSerenity;
 import org.junit.runner.RunWith;
 
 /**
  * Test Runner para ejecutar las pruebas con Cucumber y Serenity BDD
  * El navegador se abrirá automáticamente según la configuración en serenity.conf
+ * Escribe su reporte consolidado, su archivo rerun y su estadística de intentos en archivos propios
+ * (target/cucumber-runner-reports, target/rerun/cucumber-runner-*), separados de los de SaucedemoTestRunner,
+ * para que ejecutar ambos runners en el mismo build no sobrescriba los resultados del otro.
+ * RerunFailedRunner re-ejecuta los escenarios fallidos de ambos.
  */
-@RunWith(Cucumber.class)
+@RunWith(CucumberWithSerenity.class)
 @CucumberOptions(
     features = "src/test/resources/features",
     glue = "automationtest.stepdefinitions",
     plugin = {
         "pretty",
-        "json:target/cucumber-reports/cucumber.json",
-        "html:target/cucumber-reports/index.html",
-        "junit:target/cucumber-reports/cucumber.xml"
+        "com.automationtest.reports.ConsolidatedReporter:target/cucumber-runner-reports",
+        "rerun:target/rerun/cucumber-runner-failed.txt",
+        "com.automationtest.reports.FlakeTracker:target/rerun/cucumber-runner-flake-stats.json"
     },
     monochrome = false,
     dryRun = false
@@ -0,0 +1,103 @@
+package automationtest.runners;
+
+import io.cucumber.junit.CucumberOptions;
+import net.serenitybdd.cucumber.CucumberWithSerenity;
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runner de JUnit para RerunFailedRunner: ejecuta Cucumber solo si hay escenarios fallidos registrados
+ * Revisa los archivos @... de features en @CucumberOptions. Si ninguno existe o todos están vacíos (por
+ * ejemplo, mvn test -Prerun después de mvn clean o de una ejecución sin fallos) informa que no hay nada
+ * que re-ejecutar y marca la clase como ignorada, en lugar de que Cucumber falle por el archivo inexistente.
+ * Si alguno tiene escenarios, los que faltan se crean vacíos para que Cucumber pueda leerlos todos.
+ */
+public class FailedScenariosGuard extends Runner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FailedScenariosGuard.class);
+
+    private final Runner cucumber;
+    private final Description description;
+
+    public FailedScenariosGuard(Class<?> testClass) throws InitializationError {
+        List<Path> rerunFiles = rerunFiles(testClass);
+        if (hasFailedScenarios(rerunFiles)) {
+            createMissing(rerunFiles);
+            cucumber = new CucumberWithSerenity(testClass);
+            description = cucumber.getDescription();
+        } else {
+            LOGGER.info("Nothing to rerun: no failed scenarios recorded in {}", rerunFiles);
+            cucumber = null;
+            description = Description.createSuiteDescription(testClass);
+        }
+    }
+
+    @Override
+    public Description getDescription() {
+        return description;
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        if (cucumber != null) {
+            cucumber.run(notifier);
+        } else {
+            notifier.fireTestIgnored(description);
+        }
+    }
+
+    private static List<Path> rerunFiles(Class<?> testClass) throws InitializationError {
+        CucumberOptions options = testClass.getAnnotation(CucumberOptions.class);
+        if (options == null) {
+            throw new InitializationError(testClass.getName() + " has no @CucumberOptions");
+        }
+        List<Path> files = new ArrayList<>();
+        for (String feature : options.features()) {
+            if (feature.startsWith("@")) {
+                files.add(Paths.get(feature.substring(1)));
+            }
+        }
+        return files;
+    }
+
+    private static boolean hasFailedScenarios(List<Path> rerunFiles) {
+        for (Path file : rerunFiles) {
+            try {
+                if (Files.isRegularFile(file)
+                    && !new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim().isEmpty()) {
+                    return true;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the rerun file " + file, e);
+            }
+        }
+        return false;
+    }
+
+    private static void createMissing(List<Path> rerunFiles) {
+        for (Path file : rerunFiles) {
+            try {
+                if (!Files.exists(file)) {
+                    if (file.getParent() != null) {
+                        Files.createDirectories(file.getParent());
+                    }
+                    Files.createFile(file);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create the rerun file " + file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package automationtest.runners;
+
+import io.cucumber.junit.Cucumber;
+import io.cucumber.junit.CucumberOptions;
+import org.junit.runner.RunWith;
+
+/**
+ * Test Runner para la ejecución paralela de escenarios
+ * Se ejecuta solo con el perfil "parallel" de Maven: mvn test -Pparallel -Dparallel.threads=4
+ * Cada hilo obtiene su propio navegador mediante Serenity.getDriver() y los resultados
+ * se consolidan en un único cucumber.json y en el reporte agregado de Serenity
+ */
+@RunWith(Cucumber.class)
+@CucumberOptions(
+    features = "src/test/resources/features",
+    glue = {"automationtest.stepdefinitions"},
+    plugin = {
+        "io.cucumber.core.plugin.SerenityReporterParallel",
+        "com.automationtest.reports.ConsolidatedReporter:target/cucumber-reports",
+        "rerun:target/rerun/failed.txt",
+        "com.automationtest.reports.FlakeTracker:target/rerun/flake-stats.json",
+        "timeline:target/cucumber-reports/timeline"
+    },
+    monochrome = true,
+    tags = "not @ignore",
+    dryRun = false
+)
+public class ParallelTestRunner {
+}
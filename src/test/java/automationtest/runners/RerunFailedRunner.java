@@ -0,0 +1,28 @@
+package automationtest.runners;
+
+import io.cucumber.junit.CucumberOptions;
+import org.junit.runner.RunWith;
+
+/**
+ * Test Runner que vuelve a ejecutar solo los escenarios fallidos de la última ejecución
+ * Lee las líneas feature:línea que escribió el plugin rerun: de SaucedemoTestRunner (o ParallelTestRunner) y
+ * de CucumberTestRunner, y se ejecuta con el perfil "rerun" de Maven (mvn test -Prerun), que reutiliza una
+ * sesión de Chrome del WarmDriverPool entre escenarios. Los escenarios que vuelven a fallar quedan en
+ * target/rerun/still-failing.txt y FlakeTracker suma el intento a la estadística de cada escenario.
+ * Sin escenarios fallidos registrados no ejecuta nada (FailedScenariosGuard).
+ */
+@RunWith(FailedScenariosGuard.class)
+@CucumberOptions(
+    features = {"@target/rerun/failed.txt", "@target/rerun/cucumber-runner-failed.txt"},
+    glue = {"automationtest.stepdefinitions"},
+    plugin = {
+        "pretty",
+        "com.automationtest.reports.ConsolidatedReporter:target/rerun/reports",
+        "rerun:target/rerun/still-failing.txt",
+        "com.automationtest.reports.FlakeTracker:target/rerun/flake-stats.json"
+    },
+    monochrome = false,
+    dryRun = false
+)
+public class RerunFailedRunner {
+}
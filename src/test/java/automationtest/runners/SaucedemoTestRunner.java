@@ -1,22 +1,21 @@
 package automationtest.runners;
 
-import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
+import net.serenitybdd.cucumber.CucumberWithSerenity;
 import org.junit.runner.RunWith;
 
 /**
  * Serenity Test Runner con opciones de ejecución específicas
  */
-@RunWith(Cucumber.class)
+@RunWith(CucumberWithSerenity.class)
 @CucumberOptions(
     features = "src/test/resources/features",
     glue = {"automationtest.stepdefinitions"},
     plugin = {
         "pretty",
-        "json:target/cucumber-reports/cucumber.json",
-        "html:target/cucumber-reports/cucumber-report.html",
-        "junit:target/cucumber-reports/cucumber.xml",
-        "json:target/test-results/cucumber.json"
+        "com.automationtest.reports.ConsolidatedReporter:target/cucumber-reports",
+        "rerun:target/rerun/failed.txt",
+        "com.automationtest.reports.FlakeTracker:target/rerun/flake-stats.json"
     },
     monochrome = false,
     tags = "not @ignore",
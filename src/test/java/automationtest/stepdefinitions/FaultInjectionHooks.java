@@ -0,0 +1,59 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.driver.BrowserlessDriver;
+import com.automationtest.faults.FaultProfile;
+import com.automationtest.faults.FaultProfiles;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Hooks de inyección de fallas y latencia
+ * Los escenarios con tags @latency:, @bandwidth:, @drop-images, @slow-xhr: o @fault-seed: registran su
+ * perfil y el navegador recibe la cookie fault-profile antes del primer paso.
+ * Solo tiene efecto contra el stand-in local o el proxy de fallas; contra el sitio público se ignora.
+ */
+public class FaultInjectionHooks {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FaultInjectionHooks.class);
+    private static final String COOKIE_DOMAIN_PATH = "/favicon.ico";
+
+    private String profileId;
+
+    @Before(order = 3)
+    public void applyFaultProfile(Scenario scenario) {
+        if (!FaultProfile.hasFaultTags(scenario.getSourceTagNames())) {
+            return;
+        }
+        if (!injectorEnabled()) {
+            LOGGER.warn("Scenario '{}' declares fault tags, but neither the stand-in nor the fault proxy is enabled; "
+                + "running without injected faults", scenario.getName());
+            return;
+        }
+
+        FaultProfile profile = FaultProfile.fromTags(scenario.getSourceTagNames(), FaultProfiles.defaultSeed());
+        profileId = FaultProfiles.register(profile);
+
+        WebDriver driver = BrowserlessDriver.scenarioDriver();
+        driver.navigate().to(FrameworkProperties.baseUrl() + COOKIE_DOMAIN_PATH);
+        driver.manage().addCookie(new Cookie(FaultProfiles.COOKIE_NAME, profileId, "/"));
+        LOGGER.info("Scenario '{}' runs with {}", scenario.getName(), profile);
+    }
+
+    @After
+    public void removeFaultProfile() {
+        FaultProfiles.unregister(profileId);
+        profileId = null;
+    }
+
+    private static boolean injectorEnabled() {
+        return FrameworkProperties.getBoolean("standin.enabled", false)
+            || FrameworkProperties.getBoolean("fault.proxy.enabled", false);
+    }
+}
@@ -0,0 +1,47 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
+
+import com.automationtest.metrics.MetricsExporter;
+import com.automationtest.metrics.PagePerformance;
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.ui.LocatorStats;
+import com.automationtest.waits.AdaptiveTimeouts;
+
+/**
+ * Hooks de la instrumentación de latencia por paso
+ * Asocian las mediciones al escenario en curso y exportan los artefactos al final de la ejecución
+ * Con locator.lint = true también revisan los selectores y exportan el costo de búsqueda por locator.
+ * Al final guardan el historial de duraciones de las esperas (AdaptiveTimeouts)
+ */
+public class MetricsHooks {
+
+    @BeforeAll
+    public static void lintLocators() {
+        if (LocatorStats.lintEnabled()) {
+            LocatorStats.lintPages();
+        }
+    }
+
+    @Before(order = 1)
+    public void startScenarioMetrics(Scenario scenario) {
+        StepMetrics.startScenario(scenario.getName());
+        PagePerformance.reset();
+    }
+
+    @After
+    public void endScenarioMetrics() {
+        StepMetrics.endScenario();
+    }
+
+    @AfterAll
+    public static void exportMetrics() {
+        MetricsExporter.export();
+        LocatorStats.export();
+        AdaptiveTimeouts.save();
+    }
+}
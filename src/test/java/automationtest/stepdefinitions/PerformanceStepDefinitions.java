@@ -0,0 +1,37 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.en.Then;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.metrics.PagePerformance;
+
+/**
+ * Step Definitions para los presupuestos de rendimiento por página
+ * Validan los tiempos capturados por las Tasks en cada transición de página
+ */
+public class PerformanceStepDefinitions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PerformanceStepDefinitions.class);
+
+    @Then("the {word} page loads within {int}s")
+    public void pageLoadsWithinSeconds(String page, int seconds) {
+        LOGGER.info("Verifying that the {} page loads within {}s", page, seconds);
+
+        PagePerformance.assertWithin(page, seconds * 1000L);
+    }
+
+    @Then("the {word} page loads within its performance budget")
+    public void pageLoadsWithinBudget(String page) {
+        LOGGER.info("Verifying the performance budget of the {} page", page);
+
+        PagePerformance.assertWithinBudget(page);
+    }
+
+    @Then("every page loads within its performance budget")
+    public void everyPageLoadsWithinBudget() {
+        LOGGER.info("Verifying the performance budget of every visited page");
+
+        PagePerformance.assertAllWithinBudget();
+    }
+}
@@ -0,0 +1,39 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import java.util.List;
+import org.junit.AssumptionViolatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.util.ExecutionProfile;
+
+/**
+ * Hooks que validan que el perfil de ejecución activo sea compatible con el escenario
+ * Se ejecutan antes que cualquier otro hook, para fallar antes de abrir el navegador.
+ * Los escenarios @performance se omiten (quedan como skipped) si performance.scenarios.enabled no está activo
+ */
+public class ProfileCompatibilityHooks {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileCompatibilityHooks.class);
+
+    @Before(order = 0)
+    public void verifyProfileCompatibility(Scenario scenario) {
+        if (scenario.getSourceTagNames().contains(ExecutionProfile.PERFORMANCE_TAG)
+            && !ExecutionProfile.performanceScenariosEnabled()) {
+            throw new AssumptionViolatedException(String.format(
+                "Scenario '%s' checks performance budgets and is skipped with profile '%s' "
+                    + "(enable with -Dperformance.scenarios.enabled=true or -Denvironment=standin)",
+                scenario.getName(), ExecutionProfile.name()));
+        }
+        List<String> conflicts = ExecutionProfile.conflictsWith(scenario.getSourceTagNames());
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException(
+                String.format("Scenario '%s' cannot run with profile '%s': %s",
+                    scenario.getName(), ExecutionProfile.name(), String.join("; ", conflicts))
+            );
+        }
+        LOGGER.debug("Profile '{}' is compatible with scenario '{}'", ExecutionProfile.name(), scenario.getName());
+    }
+}
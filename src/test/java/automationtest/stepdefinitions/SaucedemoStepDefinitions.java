@@ -4,26 +4,35 @@ import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.actors.OnStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.automationtest.tasks.LoginTask;
+import com.automationtest.tasks.PurchaseFlow;
 import com.automationtest.tasks.InventoryTask;
 import com.automationtest.tasks.CartTask;
-import com.automationtest.tasks.CheckoutTask;
 import com.automationtest.tasks.CompleteTask;
 
 /**
  * Step Definitions para Serenity BDD + Cucumber
  * Implementa los pasos del archivo saucedemo.feature
+ * Cada escenario tiene un actor (llamado como el usuario que inicia sesión) que ejecuta las Tasks
  */
 public class SaucedemoStepDefinitions {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SaucedemoStepDefinitions.class);
+    private static final String FAST_LOGIN_TAG = "@fast-login";
+
+    private boolean fastLogin;
+    private String username;
 
     @Before
-    public void setUp() {
-        LOGGER.info("Test setup completed");
+    public void setUp(Scenario scenario) {
+        fastLogin = scenario.getSourceTagNames().contains(FAST_LOGIN_TAG);
+        LOGGER.info("Test setup completed (fast login: {})", fastLogin);
     }
 
     /**
@@ -32,58 +41,75 @@ public class SaucedemoStepDefinitions {
     @Given("the user logs in with valid credentials username {string} and password {string}")
     public void userLogsInWithValidCredentials(String username, String password) {
         LOGGER.info("User logging in with username: {}", username);
-        
-        LoginTask.navigateToSwagLabs();
-        LoginTask.typeUsernameAndPassword(username, password);
-        
+
+        this.username = username;
+        Actor user = OnStage.theActorCalled(username);
+
+        if (fastLogin) {
+            user.attemptsTo(LoginTask.loginWithCachedSession(username, password));
+        } else {
+            user.attemptsTo(PurchaseFlow.login(username, password));
+        }
+
         LOGGER.info("User successfully logged in");
     }
 
     /**
      * Pasos When - Acciones principales
      */
+    @When("the user tries to log in with username {string} and password {string}")
+    public void userTriesToLogIn(String username, String password) {
+        LOGGER.info("User trying to log in with username: {}", username);
+
+        this.username = username;
+        OnStage.theActorCalled(username).attemptsTo(PurchaseFlow.login(username, password));
+
+        LOGGER.info("Login attempt finished");
+    }
+
     @When("the user adds products to the cart and proceeds to checkout")
     public void userAddsProductsToCartAndProceedsToCheckout() {
         LOGGER.info("User adding products to cart");
-        
-        InventoryTask.addRandomItemsToCart("standard_user");
-        
+
+        theUser().attemptsTo(PurchaseFlow.inventory(username));
+        theUser().attemptsTo(PurchaseFlow.cart(username));
+
         LOGGER.info("Products added to cart successfully");
     }
 
     @When("the user adds products to the cart for {string}")
     public void userAddsProductsToCart(String username) {
         LOGGER.info("User {} adding products to cart", username);
-        
-        InventoryTask.addRandomItemsToCart(username);
-        
+
+        theUser().attemptsTo(InventoryTask.addRandomItemsToCart(username));
+
         LOGGER.info("Products added to cart for user: {}", username);
     }
 
     @When("fills in the required checkout information")
     public void fillsInRequiredCheckoutInformation() {
         LOGGER.info("User filling checkout information");
-        
-        CheckoutTask.fillCheckoutInformation("John", "Doe", "12345");
-        
+
+        theUser().attemptsTo(PurchaseFlow.fillCheckoutInformation());
+
         LOGGER.info("Checkout information filled successfully");
     }
 
     @When("the user validates the cart items for {string}")
     public void userValidatesCartItems(String username) {
         LOGGER.info("Validating cart items for user: {}", username);
-        
-        CartTask.cartItemsCounter(username);
-        
+
+        theUser().attemptsTo(CartTask.cartItemsCounter(username));
+
         LOGGER.info("Cart items validated successfully");
     }
 
     @When("the user validates item images")
     public void userValidatesItemImages() {
         LOGGER.info("Validating item images");
-        
-        InventoryTask.validateItemImages();
-        
+
+        theUser().attemptsTo(InventoryTask.validateItemImages());
+
         LOGGER.info("Item images validated successfully");
     }
 
@@ -93,36 +119,52 @@ public class SaucedemoStepDefinitions {
     @Then("the user should see the order overview and complete the purchase")
     public void userShouldSeeOrderOverviewAndCompletePurchase() {
         LOGGER.info("Completing the purchase");
-        
-        CartTask.proceedToCheckout();
-        
+
+        theUser().attemptsTo(PurchaseFlow.finishCheckout(username));
+
         LOGGER.info("Purchase completed successfully");
     }
 
     @Then("the confirmation message {string} should be displayed")
     public void confirmationMessageShouldBeDisplayed(String expectedMessage) {
         LOGGER.info("Verifying confirmation message: {}", expectedMessage);
-        
-        CompleteTask.verifyOrderCompletion();
-        
+
+        theUser().attemptsTo(PurchaseFlow.complete());
+
         LOGGER.info("Confirmation message verified");
     }
 
+    @Then("the login error {string} should be displayed")
+    public void loginErrorShouldBeDisplayed(String expectedMessage) {
+        LOGGER.info("Verifying login error: {}", expectedMessage);
+
+        theUser().attemptsTo(LoginTask.verifyErrorMessage(expectedMessage));
+
+        LOGGER.info("Login error verified");
+    }
+
     @Then("the user should be able to go back to home")
     public void userShouldBeAbleToGoBackToHome() {
         LOGGER.info("User returning to home");
-        
-        CompleteTask.backToHome();
-        
+
+        theUser().attemptsTo(CompleteTask.backToHome());
+
         LOGGER.info("User successfully returned to home");
     }
 
     @Then("the user should be able to logout")
     public void userShouldBeAbleToLogout() {
         LOGGER.info("User logging out");
-        
-        InventoryTask.logout();
-        
+
+        theUser().attemptsTo(InventoryTask.logout());
+
         LOGGER.info("User successfully logged out");
     }
+
+    /**
+     * Actor del escenario actual (el último usuario que inició sesión)
+     */
+    private Actor theUser() {
+        return OnStage.theActorInTheSpotlight();
+    }
 }
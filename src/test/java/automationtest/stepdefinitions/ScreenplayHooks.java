@@ -0,0 +1,54 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import net.serenitybdd.core.Serenity;
+import net.serenitybdd.screenplay.Cast;
+import net.serenitybdd.screenplay.abilities.BrowseTheWeb;
+import net.serenitybdd.screenplay.actors.OnStage;
+import java.util.List;
+
+import com.automationtest.driver.BrowserlessDriver;
+import com.automationtest.metrics.StepMetrics;
+import com.automationtest.tasks.TaskLedger;
+import com.automationtest.ui.ElementCache;
+
+/**
+ * Hooks de Screenplay
+ * Prepara el escenario (Cast) con actores que navegan con el WebDriver de Serenity, o con el backend
+ * sin navegador si el escenario tiene el tag @browserless, y al terminar falla el escenario si alguna
+ * Task se construyó pero nunca se ejecutó.
+ * El driver de cada actor está instrumentado (StepMetrics.instrument): todas sus acciones, incluidas las
+ * de Serenity como Click o Enter, pasan por los listeners de métricas, caché y capturas.
+ */
+public class ScreenplayHooks {
+
+    @Before(order = 2)
+    public void setTheStage(Scenario scenario) {
+        if (BrowserlessDriver.requestedBy(scenario.getSourceTagNames())) {
+            OnStage.setTheStage(BrowserlessDriver.startScenario());
+        } else {
+            OnStage.setTheStage(Cast.whereEveryoneCan(
+                actor -> actor.can(BrowseTheWeb.with(StepMetrics.instrument(Serenity.getDriver())))));
+        }
+        TaskLedger.reset();
+    }
+
+    @After
+    public void verifyEveryTaskWasPerformed(Scenario scenario) {
+        try {
+            List<String> unperformed = TaskLedger.unperformed();
+            if (!scenario.isFailed() && !unperformed.isEmpty()) {
+                throw new IllegalStateException(
+                    "Tasks were created but never performed through an actor: " + unperformed
+                );
+            }
+        } finally {
+            TaskLedger.reset();
+            ElementCache.clear();
+            OnStage.drawTheCurtain();
+            BrowserlessDriver.stopScenario();
+        }
+    }
+}
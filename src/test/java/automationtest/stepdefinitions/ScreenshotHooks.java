@@ -0,0 +1,32 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+
+import com.automationtest.screenshots.ScreenshotPipeline;
+
+/**
+ * Hooks del pipeline asíncrono de capturas (screenshots.async.enabled = true)
+ * Al terminar cada escenario esperan sus capturas pendientes, que quedan adjuntas a los pasos de Serenity
+ */
+public class ScreenshotHooks {
+
+    @Before(order = 1)
+    public void startScreenshots(Scenario scenario) {
+        if (ScreenshotPipeline.enabled()) {
+            ScreenshotPipeline.startScenario(scenario.getName());
+        }
+    }
+
+    @After
+    public void attachScreenshots() {
+        ScreenshotPipeline.finishScenario();
+    }
+
+    @AfterAll
+    public static void stopScreenshots() {
+        ScreenshotPipeline.shutdown();
+    }
+}
@@ -0,0 +1,36 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.BeforeAll;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automationtest.faults.FaultInjectingProxy;
+import com.automationtest.standin.SaucedemoStandIn;
+import com.automationtest.util.FrameworkProperties;
+
+/**
+ * Hooks del stand-in local de Saucedemo y del proxy de fallas
+ * Con standin.enabled = true (entorno "standin") arranca el servidor embebido antes del primer escenario;
+ * con fault.proxy.enabled = true (entorno "fault_proxy") arranca el proxy delante del sitio real.
+ * En ambos casos la URL base de las Tasks y de Serenity apunta al servidor local.
+ */
+public class StandInHooks {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StandInHooks.class);
+
+    @BeforeAll
+    public static void startStandIn() {
+        if (FrameworkProperties.getBoolean("standin.enabled", false)) {
+            useBaseUrl(SaucedemoStandIn.startShared().getBaseUrl());
+            LOGGER.info("Scenarios will run against the local stand-in at {}", FrameworkProperties.baseUrl());
+        } else if (FrameworkProperties.getBoolean("fault.proxy.enabled", false)) {
+            useBaseUrl(FaultInjectingProxy.startShared().getBaseUrl());
+            LOGGER.info("Scenarios will run through the fault injection proxy at {}", FrameworkProperties.baseUrl());
+        }
+    }
+
+    private static void useBaseUrl(String baseUrl) {
+        System.setProperty(FrameworkProperties.BASE_URL_PROPERTY, baseUrl);
+        System.setProperty("webdriver.base.url", baseUrl);
+    }
+}
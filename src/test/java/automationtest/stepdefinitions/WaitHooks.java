@@ -0,0 +1,18 @@
+package automationtest.stepdefinitions;
+
+import io.cucumber.java.BeforeAll;
+
+import com.automationtest.waits.ImplicitWaitCheck;
+
+/**
+ * Hooks de las esperas de WaitEngine
+ * Revisan la configuración de espera implícita una vez, antes de abrir ningún navegador, para que un
+ * valor distinto de cero o ilegible se reporte al arrancar y no en la primera espera de un escenario
+ */
+public class WaitHooks {
+
+    @BeforeAll
+    public static void verifyImplicitWaitConfiguration() {
+        ImplicitWaitCheck.verifyConfiguration();
+    }
+}
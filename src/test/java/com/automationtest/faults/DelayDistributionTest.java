@@ -0,0 +1,80 @@
+package com.automationtest.faults;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.Test;
+
+/**
+ * Formato de los retrasos de los tags @latency / @slow-xhr y rango de sus muestras
+ */
+public class DelayDistributionTest {
+
+    private static final int SAMPLES = 10_000;
+
+    @Test
+    public void fixedDelayAlwaysSamplesTheSameValue() {
+        DelayDistribution delay = DelayDistribution.parse(" 300 ");
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(300, delay.sampleMillis(random));
+        }
+        assertEquals("300ms", delay.toString());
+    }
+
+    @Test
+    public void uniformDelayStaysWithinBothBoundsAndReachesThem() {
+        DelayDistribution delay = DelayDistribution.parse("200..203");
+        SplittableRandom random = new SplittableRandom(7);
+        boolean[] seen = new boolean[4];
+        for (int i = 0; i < SAMPLES; i++) {
+            long sample = delay.sampleMillis(random);
+            assertTrue("sample " + sample + " out of range", sample >= 200 && sample <= 203);
+            seen[(int) (sample - 200)] = true;
+        }
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue("never sampled " + (200 + i), seen[i]);
+        }
+    }
+
+    @Test
+    public void reversedRangeIsNormalized() {
+        assertEquals("200..800ms", DelayDistribution.parse("800..200").toString());
+    }
+
+    @Test
+    public void exponentialDelayHasTheDeclaredMean() {
+        DelayDistribution delay = DelayDistribution.parse("~300");
+        SplittableRandom random = new SplittableRandom(42);
+        long sum = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long sample = delay.sampleMillis(random);
+            assertTrue(sample >= 0);
+            sum += sample;
+        }
+        double mean = (double) sum / SAMPLES;
+        assertTrue("mean " + mean, mean > 280 && mean < 320);
+        assertEquals("~300ms", delay.toString());
+    }
+
+    @Test
+    public void sameSeedGivesTheSameSamples() {
+        DelayDistribution delay = DelayDistribution.parse("0..1000");
+        SplittableRandom first = new SplittableRandom(99);
+        SplittableRandom second = new SplittableRandom(99);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(delay.sampleMillis(first), delay.sampleMillis(second));
+        }
+    }
+
+    @Test
+    public void malformedDelaysAreRejected() {
+        for (String spec : new String[] {"", "abc", "1.5", "..500", "200..", "200...300", "1..2..3", "~", "~x",
+            "-100", "-100..200", "~-5"}) {
+            assertThrows("'" + spec + "' should be rejected", IllegalArgumentException.class,
+                () -> DelayDistribution.parse(spec));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.automationtest.faults;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Lectura de los tags de fallas de un escenario y reglas que derivan de ellos
+ */
+public class FaultProfileTest {
+
+    private static final long SEED = 12345;
+
+    @Test
+    public void ignoresTagsThatAreNotFaults() {
+        List<String> tags = Arrays.asList("@smoke", "@checkout", "@latency-report");
+        assertFalse(FaultProfile.hasFaultTags(tags));
+        FaultProfile profile = FaultProfile.fromTags(tags, SEED);
+        assertTrue(profile.getTags().isEmpty());
+        assertEquals(0, profile.nextDelayMillis("/inventory.html", true));
+        assertEquals(0, profile.getBandwidthBytesPerSecond());
+        assertFalse(profile.dropsRequest("/static/media/bike-light.png"));
+    }
+
+    @Test
+    public void keepsOnlyTheFaultTags() {
+        FaultProfile profile = FaultProfile.fromTags(Arrays.asList("@smoke", "@drop-images", "@fault-seed:7"), SEED);
+        assertEquals(Arrays.asList("@drop-images", "@fault-seed:7"), profile.getTags());
+    }
+
+    @Test
+    public void bandwidthIsDeclaredInKilobytes() {
+        FaultProfile profile = FaultProfile.fromTags(Collections.singletonList("@bandwidth:64"), SEED);
+        assertEquals(64 * 1024, profile.getBandwidthBytesPerSecond());
+    }
+
+    @Test
+    public void exactRouteWinsOverPrefixAndPrefixOverWildcard() {
+        FaultProfile profile = FaultProfile.fromTags(Arrays.asList(
+            "@latency:*=1", "@latency:/static/*=2", "@latency:/static/media/*=3", "@latency:/static/media/a.png=4"),
+            SEED);
+        assertEquals(4, profile.nextDelayMillis("/static/media/a.png", false));
+        assertEquals(3, profile.nextDelayMillis("/static/media/b.png", false));
+        assertEquals(2, profile.nextDelayMillis("/static/js/main.js", false));
+        assertEquals(1, profile.nextDelayMillis("/inventory.html", false));
+    }
+
+    @Test
+    public void routeWithoutRuleAndWithoutWildcardHasNoDelay() {
+        FaultProfile profile = FaultProfile.fromTags(Collections.singletonList("@latency:/cart.html=500"), SEED);
+        assertEquals(0, profile.nextDelayMillis("/inventory.html", false));
+        assertEquals(500, profile.nextDelayMillis("/cart.html", false));
+    }
+
+    @Test
+    public void slowXhrOnlyAppliesToXhrRequests() {
+        FaultProfile profile = FaultProfile.fromTags(Arrays.asList("@latency:*=100", "@slow-xhr:50"), SEED);
+        assertEquals(100, profile.nextDelayMillis("/api/cart", false));
+        assertEquals(150, profile.nextDelayMillis("/api/cart", true));
+    }
+
+    @Test
+    public void dropsOnlyImagesAndIgnoresExtensionCase() {
+        FaultProfile profile = FaultProfile.fromTags(Collections.singletonList("@drop-images"), SEED);
+        assertTrue(profile.dropsRequest("/static/media/bike-light.PNG"));
+        assertTrue(profile.dropsRequest("/static/media/logo.svg"));
+        assertFalse(profile.dropsRequest("/static/js/main.js"));
+        assertFalse(profile.dropsRequest("/inventory.html"));
+    }
+
+    @Test
+    public void delaysAreReproducibleForTheSameSeed() {
+        List<String> tags = Collections.singletonList("@latency:*=0..10000");
+        assertEquals(delays(FaultProfile.fromTags(tags, SEED)), delays(FaultProfile.fromTags(tags, SEED)));
+        assertNotEquals(delays(FaultProfile.fromTags(tags, SEED)), delays(FaultProfile.fromTags(tags, SEED + 1)));
+    }
+
+    @Test
+    public void seedTagOverridesTheDefaultSeed() {
+        List<String> withSeedTag = Arrays.asList("@latency:*=0..10000", "@fault-seed:77");
+        List<String> withoutSeedTag = Collections.singletonList("@latency:*=0..10000");
+        assertEquals(delays(FaultProfile.fromTags(withSeedTag, SEED)),
+            delays(FaultProfile.fromTags(withoutSeedTag, 77)));
+    }
+
+    @Test
+    public void malformedTagsAreRejected() {
+        for (String tag : new String[] {"@latency:/cart.html", "@latency:=300", "@latency:/cart.html=fast",
+            "@bandwidth:", "@bandwidth:fast", "@fault-seed:x", "@slow-xhr:", "@slow-xhr:-10"}) {
+            assertThrows("'" + tag + "' should be rejected", IllegalArgumentException.class,
+                () -> FaultProfile.fromTags(Collections.singletonList(tag), SEED));
+        }
+    }
+
+    private static List<Long> delays(FaultProfile profile) {
+        List<Long> delays = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            delays.add(profile.nextDelayMillis(i % 2 == 0 ? "/inventory.html" : "/cart.html", false));
+        }
+        return delays;
+    }
+}
@@ -0,0 +1,93 @@
+package com.automationtest.sharding;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Escenarios y filas de Examples listados desde los .feature, con sus líneas y tags heredados
+ */
+public class FeatureScenariosTest {
+
+    private static final List<String> FEATURE = Arrays.asList(
+        "@checkout",
+        "Feature: Checkout",
+        "",
+        "  Background:",
+        "    Given the user is on the login page",
+        "",
+        "  # Escenario simple",
+        "  @smoke",
+        "  Scenario: Plain scenario",
+        "    When the user logs in",
+        "",
+        "  @outline",
+        "  Scenario Outline: Outline scenario",
+        "    When the user logs in as <user>",
+        "",
+        "    @fast",
+        "    Examples:",
+        "      | user          |",
+        "      | standard_user |",
+        "      | problem_user  |",
+        "",
+        "    @ignore",
+        "    Examples:",
+        "      | user                    |",
+        "      | performance_glitch_user |",
+        "",
+        "  Scenario: Last scenario",
+        "    Then nothing happens");
+
+    private Path featuresDir;
+
+    @Before
+    public void writeFeature() throws IOException {
+        featuresDir = Files.createTempDirectory("features");
+        Files.write(featuresDir.resolve("checkout.feature"), FEATURE, StandardCharsets.UTF_8);
+        Files.write(featuresDir.resolve("notes.txt"), Collections.singletonList("Scenario: not a feature"),
+            StandardCharsets.UTF_8);
+    }
+
+    @After
+    public void deleteFeature() throws IOException {
+        Files.deleteIfExists(featuresDir.resolve("checkout.feature"));
+        Files.deleteIfExists(featuresDir.resolve("notes.txt"));
+        Files.deleteIfExists(featuresDir);
+    }
+
+    @Test
+    public void eachExamplesRowIsAScenarioOnItsOwnLine() throws IOException {
+        List<ScenarioLocation> scenarios = FeatureScenarios.list(featuresDir, Collections.emptyList());
+        assertEquals(Arrays.asList(9, 19, 20, 25, 27), lines(scenarios));
+    }
+
+    @Test
+    public void tagsAreInheritedFromFeatureScenarioAndExamples() throws IOException {
+        List<ScenarioLocation> scenarios = FeatureScenarios.list(featuresDir, Collections.emptyList());
+        assertEquals(Arrays.asList("@checkout", "@smoke"), scenarios.get(0).getTags());
+        assertEquals(Arrays.asList("@checkout", "@outline", "@fast"), scenarios.get(1).getTags());
+        assertEquals(Arrays.asList("@checkout", "@outline", "@ignore"), scenarios.get(3).getTags());
+        assertEquals(Collections.singletonList("@checkout"), scenarios.get(4).getTags());
+    }
+
+    @Test
+    public void excludedTagsRemoveWholeExamplesBlocks() throws IOException {
+        List<ScenarioLocation> scenarios = FeatureScenarios.list(featuresDir, Collections.singletonList("@ignore"));
+        assertEquals(Arrays.asList(9, 19, 20, 27), lines(scenarios));
+    }
+
+    private static List<Integer> lines(List<ScenarioLocation> scenarios) {
+        return scenarios.stream().map(ScenarioLocation::getLine).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.automationtest.sharding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+/**
+ * Reparto LPT de los escenarios entre shards
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void longestScenariosAreSpreadFirst() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.assign(scenarios(10, 8, 7, 3, 2), 2);
+        assertEquals(Arrays.asList(15L, 15L), loads(shards));
+        assertEquals(Arrays.asList("a.feature:1", "a.feature:4", "a.feature:5"), locations(shards.get(0)));
+        assertEquals(Arrays.asList("a.feature:2", "a.feature:3"), locations(shards.get(1)));
+    }
+
+    @Test
+    public void slowScenarioDoesNotEndUpOnALoadedShard() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.assign(scenarios(10, 10, 10, 60, 10, 10, 10), 2);
+        assertEquals(Arrays.asList(60L, 60L), loads(shards));
+        assertEquals(Collections.singletonList("a.feature:4"), locations(shards.get(0)));
+    }
+
+    @Test
+    public void makespanStaysWithinTheLptBound() {
+        List<ScenarioLocation> scenarios = scenarios(23, 19, 17, 13, 11, 7, 5, 3, 2, 2, 1);
+        int shardCount = 3;
+        long total = scenarios.stream().mapToLong(ScenarioLocation::getEstimatedMillis).sum();
+        List<Long> loads = loads(ShardPlanner.assign(scenarios, shardCount));
+        long makespan = Collections.max(loads);
+        assertTrue("makespan " + makespan, makespan <= total / shardCount + 23);
+        assertEquals(total, loads.stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void equalDurationsAreAssignedInAStableOrder() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.assign(scenarios(5, 5, 5, 5), 3);
+        assertEquals(Arrays.asList("a.feature:1", "a.feature:4"), locations(shards.get(0)));
+        assertEquals(Collections.singletonList("a.feature:2"), locations(shards.get(1)));
+        assertEquals(Collections.singletonList("a.feature:3"), locations(shards.get(2)));
+    }
+
+    @Test
+    public void extraShardsStayEmpty() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.assign(scenarios(4), 3);
+        assertEquals(Arrays.asList(4L, 0L, 0L), loads(shards));
+    }
+
+    @Test
+    public void noScenariosGivesEmptyShards() {
+        assertEquals(Arrays.asList(0L, 0L), loads(ShardPlanner.assign(new ArrayList<>(), 2)));
+    }
+
+    @Test
+    public void shardCountMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> ShardPlanner.plan(0, Paths.get("shard-history")));
+    }
+
+    /**
+     * Escenarios a.feature:1..n con las duraciones indicadas
+     */
+    private static List<ScenarioLocation> scenarios(long... millis) {
+        List<ScenarioLocation> scenarios = new ArrayList<>();
+        for (int i = 0; i < millis.length; i++) {
+            ScenarioLocation scenario = new ScenarioLocation("a.feature", i + 1, Collections.emptyList());
+            scenario.estimate(millis[i], true);
+            scenarios.add(scenario);
+        }
+        return scenarios;
+    }
+
+    private static List<Long> loads(List<ShardPlanner.Shard> shards) {
+        return shards.stream().map(shard -> shard.loadMillis).collect(Collectors.toList());
+    }
+
+    private static List<String> locations(ShardPlanner.Shard shard) {
+        return shard.scenarios.stream().map(ScenarioLocation::toString).sorted().collect(Collectors.toList());
+    }
+}
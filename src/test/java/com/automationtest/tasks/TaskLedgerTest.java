@@ -0,0 +1,83 @@
+package com.automationtest.tasks;
+
+import net.serenitybdd.screenplay.Actor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import java.lang.reflect.Field;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Pruebas del registro de Tasks creadas y ejecutadas (TaskLedger)
+ */
+public class TaskLedgerTest {
+
+    @Before
+    public void startScenario() {
+        TaskLedger.reset();
+    }
+
+    @After
+    public void endScenario() {
+        TaskLedger.reset();
+    }
+
+    @Test
+    public void performedTaskLeavesTheLedger() {
+        BaseTask task = new ParentTask();
+
+        TaskLedger.performed(task);
+
+        assertTrue(TaskLedger.unperformed().isEmpty());
+    }
+
+    @Test
+    public void unperformedTaskIsReported() {
+        new ParentTask();
+
+        assertEquals(Collections.singletonList("ParentTask"), TaskLedger.unperformed());
+    }
+
+    @Test
+    public void performingASubclassDoesNotMarkAnUnrelatedParentInstance() {
+        new ParentTask();
+        BaseTask child = new ChildTask();
+
+        TaskLedger.performed(child);
+
+        assertEquals(Collections.singletonList("ParentTask"), TaskLedger.unperformed());
+    }
+
+    @Test
+    public void instrumentedCopyMarksTheOriginalAsPerformed() throws Exception {
+        BaseTask original = new ParentTask();
+        BaseTask copy = new ChildTask();
+        copyLedgerId(original, copy);
+
+        TaskLedger.performed(copy);
+
+        assertTrue(TaskLedger.unperformed().isEmpty());
+    }
+
+    /**
+     * Simula la copia de campos que hace Serenity al instrumentar una Task
+     */
+    private static void copyLedgerId(BaseTask from, BaseTask to) throws Exception {
+        Field field = BaseTask.class.getDeclaredField("ledgerId");
+        field.setAccessible(true);
+        field.setLong(to, field.getLong(from));
+    }
+
+    private static class ParentTask extends BaseTask {
+        @Override
+        protected <T extends Actor> void performStep(T actor) {
+            // Sin acciones: solo se prueba el registro
+        }
+    }
+
+    private static class ChildTask extends ParentTask {
+    }
+}
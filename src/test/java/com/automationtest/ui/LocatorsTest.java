@@ -0,0 +1,32 @@
+package com.automationtest.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.openqa.selenium.By;
+import org.junit.Test;
+
+/**
+ * Registro único de selectores y su forma CSS
+ */
+public class LocatorsTest {
+
+    @Test
+    public void sameSelectorIsRegisteredOnce() {
+        By first = Locators.css("button[data-test=\"locators-test\"]");
+        assertSame(first, Locators.css("button[data-test=\"locators-test\"]"));
+        assertEquals("button[data-test=\"locators-test\"]", Locators.cssOf(first));
+    }
+
+    @Test
+    public void xpathHasNoCssForm() {
+        assertNull(Locators.cssOf(By.xpath("//button[text()='Locators test']")));
+    }
+
+    @Test
+    public void idsThatAreNotCssIdentifiersUseAnAttributeSelector() {
+        assertEquals("#react-burger-menu-btn", Locators.cssOf(Locators.id("react-burger-menu-btn")));
+        assertEquals("[id=\"item.4\"]", Locators.cssOf(Locators.id("item.4")));
+    }
+}
@@ -0,0 +1,136 @@
+package com.automationtest.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.Test;
+
+/**
+ * Mezcla parcial de Fisher-Yates y ventanas del modo combinatorial
+ */
+public class ItemSelectionTest {
+
+    private static final int INVENTORY = 6;
+    private static final long RUN_SEED = 2024;
+
+    @Test
+    public void shuffledPrefixIsAPermutation() {
+        for (int k = 0; k <= INVENTORY + 2; k++) {
+            int[] order = ItemSelection.shuffledPrefix(INVENTORY, k, new SplittableRandom(k));
+            int[] sorted = order.clone();
+            Arrays.sort(sorted);
+            assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5}, sorted);
+        }
+    }
+
+    @Test
+    public void shuffledPrefixOnlyTouchesTheFirstPositions() {
+        int[] order = ItemSelection.shuffledPrefix(100, 3, new SplittableRandom(5));
+        for (int i = 3; i < order.length; i++) {
+            assertTrue("position " + i + " holds " + order[i], order[i] == i || order[i] < 3);
+        }
+    }
+
+    @Test
+    public void shuffledPrefixIsReproducibleForTheSameSeed() {
+        assertArrayEquals(ItemSelection.shuffledPrefix(INVENTORY, 3, new SplittableRandom(11)),
+            ItemSelection.shuffledPrefix(INVENTORY, 3, new SplittableRandom(11)));
+    }
+
+    @Test
+    public void shuffledPrefixChoosesEveryItemFirstWithSimilarFrequency() {
+        int[] firstCounts = new int[INVENTORY];
+        SplittableRandom random = new SplittableRandom(3);
+        int draws = 60_000;
+        for (int i = 0; i < draws; i++) {
+            firstCounts[ItemSelection.shuffledPrefix(INVENTORY, 1, random)[0]]++;
+        }
+        for (int count : firstCounts) {
+            assertTrue("count " + count, Math.abs(count - draws / INVENTORY) < draws / INVENTORY / 10);
+        }
+    }
+
+    @Test
+    public void shuffledPrefixHandlesEmptyAndSingleItemInventories() {
+        assertArrayEquals(new int[0], ItemSelection.shuffledPrefix(0, 2, new SplittableRandom(1)));
+        assertArrayEquals(new int[] {0}, ItemSelection.shuffledPrefix(1, 1, new SplittableRandom(1)));
+    }
+
+    @Test
+    public void coveringWindowHasNoRepeatedItems() {
+        for (int k = 1; k <= INVENTORY; k++) {
+            for (int turn = 0; turn < 20; turn++) {
+                List<Integer> window = ItemSelection.coveringWindow(INVENTORY, k, RUN_SEED, turn);
+                assertEquals(k, window.size());
+                assertEquals(k, new HashSet<>(window).size());
+            }
+        }
+    }
+
+    @Test
+    public void coveringWindowsTogetherCoverTheInventory() {
+        int k = 2;
+        Set<Integer> covered = new HashSet<>();
+        for (int turn = 0; turn < INVENTORY / k; turn++) {
+            List<Integer> window = ItemSelection.coveringWindow(INVENTORY, k, RUN_SEED, turn);
+            for (Integer item : window) {
+                assertTrue("item " + item + " repeated across windows", covered.add(item));
+            }
+        }
+        assertEquals(INVENTORY, covered.size());
+    }
+
+    @Test
+    public void coveringWindowDependsOnlyOnTheRunSeedAndTheTurn() {
+        List<Integer> first = ItemSelection.coveringWindow(INVENTORY, 2, RUN_SEED, 7);
+        ItemSelection.coveringWindow(INVENTORY, 2, RUN_SEED, 8);
+        ItemSelection.coveringWindow(INVENTORY, 2, RUN_SEED, 9);
+        assertEquals(first, ItemSelection.coveringWindow(INVENTORY, 2, RUN_SEED, 7));
+        assertNotEquals(first, ItemSelection.coveringWindow(INVENTORY, 2, RUN_SEED, 8));
+    }
+
+    @Test
+    public void scenariosOfARunCoverTheInventoryInCombinatorialMode() {
+        String previousMode = System.getProperty(ItemSelection.MODE_PROPERTY);
+        System.setProperty(ItemSelection.MODE_PROPERTY, "combinatorial");
+        try {
+            // Claves como las que arma InventoryTask: nombre del escenario | usuario
+            List<String> inventory = Arrays.asList("Backpack", "Bike Light", "Bolt T-Shirt", "Fleece Jacket",
+                "Onesie", "Red T-Shirt");
+            Set<Integer> covered = new HashSet<>(
+                ItemSelection.select(inventory, 4, "Successful purchase flow|standard_user"));
+            covered.addAll(ItemSelection.select(inventory, 4, "Successful purchase flow|performance_glitch_user"));
+            assertEquals(INVENTORY, covered.size());
+
+            assertEquals(ItemSelection.select(inventory, 4, "Successful purchase flow|standard_user"),
+                ItemSelection.select(inventory, 4, "Successful purchase flow|standard_user"));
+        } finally {
+            if (previousMode == null) {
+                System.clearProperty(ItemSelection.MODE_PROPERTY);
+            } else {
+                System.setProperty(ItemSelection.MODE_PROPERTY, previousMode);
+            }
+        }
+    }
+
+    @Test
+    public void scenarioKeepsItsTurnWhenItSelectsAgain() {
+        int first = ItemSelection.windowTurn("Turn test|standard_user");
+        int second = ItemSelection.windowTurn("Turn test|problem_user");
+        assertEquals(first + 1, second);
+        assertEquals(first, ItemSelection.windowTurn("Turn test|standard_user"));
+    }
+
+    @Test
+    public void coveringWindowIsEmptyWhenNothingIsSelected() {
+        assertTrue(ItemSelection.coveringWindow(INVENTORY, 0, RUN_SEED, 1).isEmpty());
+        assertTrue(ItemSelection.coveringWindow(0, 0, RUN_SEED, 1).isEmpty());
+    }
+}
@@ -0,0 +1,146 @@
+package com.automationtest.waits;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Timeout aprendido por condición: percentil, margen, límites y descarte de la ventana
+ * Cada prueba usa su propia condición porque las ventanas se comparten durante toda la ejecución.
+ */
+public class AdaptiveTimeoutsTest {
+
+    private static final Duration CAP = Duration.ofMillis(10000);
+    private static final AtomicInteger CONDITIONS = new AtomicInteger();
+    private static final String[] PROPERTIES = {
+        "wait.adaptive.enabled", "wait.adaptive.history.dir", "wait.adaptive.min.samples", "wait.adaptive.margin",
+        "wait.adaptive.min", "wait.adaptive.percentile", "wait.adaptive.window", "wait.timeout.override"
+    };
+
+    private final Map<String, String> previousValues = new HashMap<>();
+    private Path historyDir;
+    private String condition;
+
+    @Before
+    public void configure() throws IOException {
+        for (String property : PROPERTIES) {
+            previousValues.put(property, System.getProperty(property));
+        }
+        historyDir = Files.createTempDirectory("wait-history");
+        System.setProperty("wait.adaptive.enabled", "true");
+        System.setProperty("wait.adaptive.history.dir", historyDir.toString());
+        System.setProperty("wait.adaptive.min.samples", "5");
+        System.setProperty("wait.adaptive.margin", "100");
+        System.setProperty("wait.adaptive.min", "0");
+        System.setProperty("wait.adaptive.percentile", "99");
+        System.setProperty("wait.adaptive.window", "200");
+        System.clearProperty("wait.timeout.override");
+        condition = "test condition " + CONDITIONS.incrementAndGet();
+    }
+
+    @After
+    public void restore() throws IOException {
+        // Los runners de Cucumber pueden correr en la misma JVM: se restauran los -D originales
+        previousValues.forEach((property, value) -> {
+            if (value == null) {
+                System.clearProperty(property);
+            } else {
+                System.setProperty(property, value);
+            }
+        });
+        Files.deleteIfExists(historyDir);
+    }
+
+    @Test
+    public void conditionWithoutHistoryUsesTheCap() {
+        assertEquals(CAP, AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void tooFewSamplesUseTheCap() {
+        succeed(100, 100, 100, 100);
+        assertEquals(CAP, AdaptiveTimeouts.timeoutFor(condition, CAP));
+        succeed(100);
+        assertEquals(Duration.ofMillis(200), AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void p99OfFewerThanHundredSamplesIsTheSlowestOne() {
+        succeed(100, 900, 200, 300, 400, 150, 250);
+        assertEquals(Duration.ofMillis(1000), AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void percentileUsesNearestRank() {
+        System.setProperty("wait.adaptive.percentile", "50");
+        succeed(100, 200, 300, 400, 500, 600);
+        assertEquals(Duration.ofMillis(400), AdaptiveTimeouts.timeoutFor(condition, CAP));
+        System.setProperty("wait.adaptive.percentile", "99.9");
+        assertEquals(Duration.ofMillis(700), AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void learnedTimeoutIsClampedBetweenTheFloorAndTheCap() {
+        System.setProperty("wait.adaptive.min", "1000");
+        succeed(10, 20, 30, 40, 50);
+        assertEquals(Duration.ofMillis(1000), AdaptiveTimeouts.timeoutFor(condition, CAP));
+        succeed(20000);
+        assertEquals(CAP, AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void windowKeepsOnlyTheLatestSamples() {
+        System.setProperty("wait.adaptive.window", "5");
+        succeed(5000, 100, 100, 100, 100);
+        assertEquals(Duration.ofMillis(5100), AdaptiveTimeouts.timeoutFor(condition, CAP));
+        succeed(200);
+        assertEquals(Duration.ofMillis(300), AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void timeoutUnderALearnedTimeoutResetsTheCondition() {
+        succeed(100, 100, 100, 100, 100);
+        Duration learned = AdaptiveTimeouts.timeoutFor(condition, CAP);
+        assertEquals(Duration.ofMillis(200), learned);
+        AdaptiveTimeouts.record(condition, learned.toMillis(), false, learned, CAP);
+        assertEquals(CAP, AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void timeoutAtTheCapKeepsTheHistory() {
+        succeed(100, 100, 100, 100, 100);
+        AdaptiveTimeouts.record(condition, CAP.toMillis(), false, CAP, CAP);
+        assertEquals(Duration.ofMillis(200), AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void overrideIgnoresTheHistory() {
+        succeed(100, 100, 100, 100, 100);
+        System.setProperty("wait.timeout.override", "15000");
+        assertEquals(Duration.ofMillis(15000), AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    @Test
+    public void disabledAdaptationUsesTheCapAndRecordsNothing() {
+        System.setProperty("wait.adaptive.enabled", "false");
+        succeed(100, 100, 100, 100, 100);
+        assertEquals(CAP, AdaptiveTimeouts.timeoutFor(condition, CAP));
+        System.setProperty("wait.adaptive.enabled", "true");
+        assertEquals(CAP, AdaptiveTimeouts.timeoutFor(condition, CAP));
+    }
+
+    private void succeed(long... elapsedMillis) {
+        for (long elapsed : elapsedMillis) {
+            AdaptiveTimeouts.record(condition, elapsed, true, CAP, CAP);
+        }
+    }
+}
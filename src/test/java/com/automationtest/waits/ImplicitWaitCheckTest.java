@@ -0,0 +1,79 @@
+package com.automationtest.waits;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Lectura de las propiedades de espera implícita con y sin unidad
+ */
+public class ImplicitWaitCheckTest {
+
+    private static final String PROPERTY = "webdriver.timeouts.implicitlywait";
+
+    private String previousValue;
+
+    @Before
+    public void rememberProperty() {
+        previousValue = System.getProperty(PROPERTY);
+    }
+
+    @After
+    public void restoreProperty() {
+        if (previousValue == null) {
+            System.clearProperty(PROPERTY);
+        } else {
+            System.setProperty(PROPERTY, previousValue);
+        }
+    }
+
+    @Test
+    public void plainNumbersAreMilliseconds() {
+        assertEquals(Duration.ofMillis(10000), ImplicitWaitCheck.parseDuration(" 10000 "));
+        assertEquals(Duration.ZERO, ImplicitWaitCheck.parseDuration("0"));
+    }
+
+    @Test
+    public void unitsAreAccepted() {
+        assertEquals(Duration.ofMillis(10000), ImplicitWaitCheck.parseDuration("10000ms"));
+        assertEquals(Duration.ofSeconds(10), ImplicitWaitCheck.parseDuration("10s"));
+        assertEquals(Duration.ofSeconds(10), ImplicitWaitCheck.parseDuration("10 seconds"));
+        assertEquals(Duration.ofMinutes(1), ImplicitWaitCheck.parseDuration("1 minute"));
+        assertEquals(Duration.ofMillis(5), ImplicitWaitCheck.parseDuration("5 Millis"));
+    }
+
+    @Test
+    public void unreadableValuesAreNotDurations() {
+        for (String value : new String[] {"", "ten", "10 hours", "-5", "1.5s", "99999999999999999999"}) {
+            assertNull("'" + value + "'", ImplicitWaitCheck.parseDuration(value));
+        }
+    }
+
+    @Test
+    public void zeroWithUnitIsNotAProblem() {
+        System.setProperty(PROPERTY, "0ms");
+        assertTrue(ImplicitWaitCheck.configurationProblems().isEmpty());
+    }
+
+    @Test
+    public void nonZeroWaitWithUnitIsReported() {
+        System.setProperty(PROPERTY, "10s");
+        List<String> problems = ImplicitWaitCheck.configurationProblems();
+        assertEquals(1, problems.size());
+        assertEquals(PROPERTY + " = 10s", problems.get(0));
+    }
+
+    @Test
+    public void unreadableValueIsReportedInsteadOfThrowing() {
+        System.setProperty(PROPERTY, "ten seconds");
+        List<String> problems = ImplicitWaitCheck.configurationProblems();
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0), problems.get(0).contains("is not a duration"));
+    }
+}
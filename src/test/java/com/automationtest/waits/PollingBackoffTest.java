@@ -0,0 +1,79 @@
+package com.automationtest.waits;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Crecimiento del intervalo de sondeo y recorte al fin de la espera, con un reloj simulado
+ */
+public class PollingBackoffTest {
+
+    private long nowNanos = 1_000_000_000L;
+
+    @Test
+    public void intervalGrowsByTheMultiplierUpToTheMax() {
+        PollingBackoff polling = backoff(10000, 50, 2, 300);
+        assertEquals(Duration.ofMillis(50), polling.initialInterval());
+        assertEquals(Arrays.asList(50L, 100L, 200L, 300L, 300L), sleeps(polling, 5));
+    }
+
+    @Test
+    public void multiplierBelowOneKeepsAFixedInterval() {
+        assertEquals(Arrays.asList(100L, 100L, 100L), sleeps(backoff(10000, 100, 0.5, 500), 3));
+    }
+
+    @Test
+    public void maxBelowTheInitialIntervalKeepsTheInitialInterval() {
+        assertEquals(Arrays.asList(200L, 200L, 200L), sleeps(backoff(10000, 200, 1.5, 50), 3));
+    }
+
+    @Test
+    public void zeroInitialIntervalStillPauses() {
+        PollingBackoff polling = backoff(10000, 0, 1.5, 500);
+        assertEquals(Duration.ofMillis(1), polling.initialInterval());
+        assertEquals(Arrays.asList(1L, 1L, 2L), sleeps(polling, 3));
+    }
+
+    @Test
+    public void sleepIsCutAtTheDeadline() {
+        assertEquals(Arrays.asList(100L, 200L, 400L, 300L, 0L), sleeps(backoff(1000, 100, 2, 800), 5));
+    }
+
+    @Test
+    public void sleepsNeverGoPastTheDeadline() {
+        long start = nowNanos;
+        PollingBackoff polling = backoff(2345, 50, 1.5, 500);
+        sleeps(polling, 50);
+        assertEquals(Duration.ofMillis(2345).toNanos(), nowNanos - start);
+    }
+
+    @Test
+    public void noSleepOnceTheDeadlineHasPassed() {
+        PollingBackoff polling = backoff(100, 50, 1.5, 500);
+        nowNanos += Duration.ofMillis(150).toNanos();
+        assertEquals(Arrays.asList(0L, 0L), sleeps(polling, 2));
+    }
+
+    private PollingBackoff backoff(long timeoutMillis, long initialMillis, double multiplier, long maxMillis) {
+        return new PollingBackoff(Duration.ofMillis(timeoutMillis), Duration.ofMillis(initialMillis), multiplier,
+            Duration.ofMillis(maxMillis), () -> nowNanos);
+    }
+
+    /**
+     * Pausas de los siguientes intentos en milisegundos, avanzando el reloj lo que duerme cada una
+     */
+    private List<Long> sleeps(PollingBackoff polling, int attempts) {
+        List<Long> sleeps = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            long sleepNanos = polling.nextSleepNanos();
+            nowNanos += sleepNanos;
+            sleeps.add(Duration.ofNanos(sleepNanos).toMillis());
+        }
+        return sleeps;
+    }
+}
@@ -14,4 +14,38 @@ Feature: Purchase flow in SauceDemo
     Examples:
       | username                | password     |
       | standard_user           | secret_sauce |
-      | performance_glitch_user | secret_sauce |
\ No newline at end of file
+      | performance_glitch_user | secret_sauce |
+
+  # Presupuestos de carga (performance.budget en serenity.conf). Se omite salvo con performance.scenarios.enabled
+  # (activo en -Denvironment=standin): contra saucedemo.com la latencia de Internet no debe fallar el build.
+  # El login de performance_glitch_user es lento a propósito: su presupuesto de inventory detecta si empeora
+  @performance @standard-user @performance_glitch_user
+  Scenario Outline: Purchase flow pages load within their budgets
+    Given the user logs in with valid credentials username '<username>' and password '<password>'
+    When the user adds products to the cart and proceeds to checkout
+    And fills in the required checkout information
+    Then the user should see the order overview and complete the purchase
+    And the inventory page loads within <inventory_budget>s
+    And the cart page loads within its performance budget
+    And the checkout page loads within its performance budget
+    And the complete page loads within its performance budget
+
+    Examples:
+      | username                | password     | inventory_budget |
+      | standard_user           | secret_sauce | 2                |
+      | performance_glitch_user | secret_sauce | 10               |
+
+  # La latencia solo se inyecta contra el stand-in local o el proxy de fallas (-Denvironment=standin / fault_proxy)
+  @standard-user @latency:/inventory.html=500..1500 @latency:/static/*=~100 @slow-xhr:300..800 @fault-seed:7
+  Scenario: Purchase flow under injected latency
+    Given the user logs in with valid credentials username 'standard_user' and password 'secret_sauce'
+    When the user adds products to the cart and proceeds to checkout
+    And fills in the required checkout information
+    Then the user should see the order overview and complete the purchase
+    And the confirmation message "Thank you for your order!" should be displayed
+
+  # Sin navegador (HtmlUnit) contra el stand-in local (-Denvironment=standin); contra saucedemo.com usa Chrome
+  @browserless
+  Scenario: Locked out user cannot log in
+    When the user tries to log in with username 'locked_out_user' and password 'secret_sauce'
+    Then the login error "Epic sadface: Sorry, this user has been locked out." should be displayed